@@ -0,0 +1,118 @@
+package io.github.hayo02.proxyshopping;
+
+import io.github.hayo02.proxyshopping.cart.entity.CartItem;
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.entity.OrderItem;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 벤치마크 공용 고정 데이터.
+ * - 실제 장바구니와 비슷한 가격/무게/부피 분포 (AI 값이 빠진 아이템 포함)
+ * - 고정 시드 사용 → 실행마다 같은 입력
+ */
+public final class JmhFixtures {
+
+    public static final String PROXY_SID = "bench-sid";
+
+    private JmhFixtures() {
+    }
+
+    public static List<CartItem> cartItems(int count, long seed) {
+        Random random = new Random(seed);
+        List<CartItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CartItem item = new CartItem();
+            setField(item, "id", (long) i + 1);
+            item.setProxySid(PROXY_SID);
+            item.setProductName("メルカリ 商品 " + (i + 1));
+            item.setPriceKRW(3_000 + random.nextInt(120_000));
+            item.setUrl("https://jp.mercari.com/item/m" + (10_000_000_000L + i));
+            // 10% 는 AI 추정값이 없는 아이템 (기본값 사용 경로)
+            if (random.nextInt(10) != 0) {
+                item.setAiWeightG(80.0 + random.nextDouble() * 1_500);
+                item.setAiVolumeCm3(200.0 + random.nextDouble() * 6_000);
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    public static Order order(int itemCount) {
+        Order order = Order.builder()
+                .orderNumber("20261018120000")
+                .proxySid(PROXY_SID)
+                .totalAmount(184_320L)
+                .status(OrderStatus.PAID)
+                .customsCode("P123456789012")
+                .receiverName("홍길동")
+                .phone("010-1234-5678")
+                .postalCode("06236")
+                .roadAddress("서울특별시 강남구 테헤란로 123")
+                .detailAddress("4층")
+                .deliveryRequest("문 앞에 놓아주세요")
+                .createdAt(LocalDateTime.of(2026, 10, 18, 12, 0))
+                .paidAt(LocalDateTime.of(2026, 10, 18, 12, 1))
+                .productTotalKRW(150_000L)
+                .serviceFeeKRW(7_500L)
+                .volumetricWeightG(1_200.0)
+                .chargeableWeightG(1_450.0)
+                .emsYen(3_900L)
+                .internationalShippingKRW(36_470L)
+                .domesticShippingKRW(3_000L)
+                .totalShippingFeeKRW(39_470L)
+                .paymentFeeKRW(6_700L)
+                .extraPackagingFeeKRW(2_000L)
+                .insuranceFeeKRW(5_000L)
+                .grandTotalKRW(210_670L)
+                .build();
+        for (int i = 0; i < itemCount; i++) {
+            order.addItem(OrderItem.builder()
+                    .productName("メルカリ 商品 " + (i + 1) + " / 빈티지 니트 가디건 (M)")
+                    .priceKrw(10_000 + i * 1_000)
+                    .quantity(1)
+                    .imageUrl("https://static.mercdn.net/item/detail/orig/photos/m" + i + "_1.jpg")
+                    .build());
+        }
+        return order;
+    }
+
+    /**
+     * 리포지토리 인터페이스 스텁 (지정한 메서드만 응답, 나머지는 예외)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    public static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
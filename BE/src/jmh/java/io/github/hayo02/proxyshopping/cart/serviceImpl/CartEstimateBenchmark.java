@@ -0,0 +1,90 @@
+package io.github.hayo02.proxyshopping.cart.serviceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hayo02.proxyshopping.JmhFixtures;
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateMatrixRequest;
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateRequest;
+import io.github.hayo02.proxyshopping.cart.entity.CartItem;
+import io.github.hayo02.proxyshopping.cart.repository.CartEstimateRepository;
+import io.github.hayo02.proxyshopping.cart.repository.CartItemRepository;
+import io.github.hayo02.proxyshopping.cart.support.EmsShippingCalculator;
+import io.github.hayo02.proxyshopping.cart.support.EstimateMemo;
+import io.github.hayo02.proxyshopping.cart.support.fx.ExchangeRateSnapshot;
+import io.github.hayo02.proxyshopping.cart.support.parcel.ParcelSplitOptimizer;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingRateEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장바구니 견적 계산 벤치마크 (DB 는 메모리 스텁).
+ * - estimateCold: 메모 미적중 → 합산/배송비/금액 계산 + upsert 호출까지
+ * - estimateMemoHit: 같은 입력 재요청 (메모 적중)
+ * - estimateMatrix: 옵션/배송 수단 전체 조합 계산
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CartEstimateBenchmark {
+
+    // 5 / 20: 일반 장바구니, 100: 소포 분할이 일어나는 큰 장바구니
+    @Param({"5", "20", "100"})
+    public int itemCount;
+
+    private CartEstimateServiceImpl service;
+    private EstimateMemo memo;
+    private ParcelSplitOptimizer optimizer;
+    private CartEstimateRequest request;
+    private CartEstimateMatrixRequest matrixRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<CartItem> items = JmhFixtures.cartItems(itemCount, 42);
+        CartItemRepository cartItemRepository = JmhFixtures.stub(CartItemRepository.class, Map.of(
+                "findByProxySidAndIdIn", args -> items,
+                "findByProxySidOrderByCreatedAtDesc", args -> items));
+        CartEstimateRepository cartEstimateRepository = JmhFixtures.stub(CartEstimateRepository.class, Map.of(
+                "upsert", args -> null));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ShippingRateEngine engine = new ShippingRateEngine(objectMapper, "classpath*:shipping/rates/*.json");
+        ExchangeRateSnapshot fx = new ExchangeRateSnapshot(1L, 9.35, "bench", Instant.EPOCH);
+        memo = new EstimateMemo(10_000);
+        optimizer = new ParcelSplitOptimizer(1);
+
+        service = new CartEstimateServiceImpl(cartItemRepository, cartEstimateRepository,
+                new EmsShippingCalculator(engine, 1), engine, memo, () -> fx, optimizer, objectMapper,
+                1, 10_000, 5);
+
+        request = new CartEstimateRequest();
+        request.setItemIds(items.stream().map(CartItem::getId).toList());
+        request.setExtraPackaging(true);
+
+        matrixRequest = new CartEstimateMatrixRequest();
+        matrixRequest.setItemIds(request.getItemIds());
+    }
+
+    @TearDown
+    public void tearDown() {
+        optimizer.shutdown();
+    }
+
+    @Benchmark
+    public void estimateCold(Blackhole bh) {
+        memo.invalidate(JmhFixtures.PROXY_SID);
+        bh.consume(service.estimate(JmhFixtures.PROXY_SID, request));
+    }
+
+    @Benchmark
+    public void estimateMemoHit(Blackhole bh) {
+        bh.consume(service.estimate(JmhFixtures.PROXY_SID, request));
+    }
+
+    @Benchmark
+    public void estimateMatrix(Blackhole bh) {
+        bh.consume(service.estimateMatrix(JmhFixtures.PROXY_SID, matrixRequest));
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.hayo02.proxyshopping.cart.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hayo02.proxyshopping.cart.support.fx.ExchangeRateSnapshot;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingRateEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EMS 배송비 계산 벤치마크 (kg → 엔 → 원)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmsShippingCalculatorBenchmark {
+
+    private EmsShippingCalculator calculator;
+    private ExchangeRateSnapshot fx;
+    private double[] weightsKg;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        calculator = new EmsShippingCalculator(
+                new ShippingRateEngine(new ObjectMapper(), "classpath*:shipping/rates/*.json"), 1);
+        fx = new ExchangeRateSnapshot(1L, 9.35, "bench", Instant.EPOCH);
+
+        // 실제 장바구니 청구 무게 분포에 가깝게 대부분 0.1 ~ 5kg, 일부 10kg 초과
+        Random random = new Random(42);
+        weightsKg = new double[1024];
+        for (int i = 0; i < weightsKg.length; i++) {
+            weightsKg[i] = random.nextInt(20) == 0 ? 10 + random.nextDouble() * 10 : 0.1 + random.nextDouble() * 4.9;
+        }
+    }
+
+    private double nextWeightKg() {
+        cursor = (cursor + 1) & (weightsKg.length - 1);
+        return weightsKg[cursor];
+    }
+
+    @Benchmark
+    public long calculateEmsYen() {
+        return calculator.calculateEmsYen(nextWeightKg());
+    }
+
+    @Benchmark
+    public long calculateEmsWon() {
+        return calculator.convertYenToWon(calculator.calculateEmsYen(nextWeightKg()), fx);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.hayo02.proxyshopping.cart.support.parcel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hayo02.proxyshopping.cart.support.rate.RateTable;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingPreference;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingRateEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소포 분할 최적화 벤치마크 (아이템 10 ~ 500개).
+ * - greedyOnly: 시간 예산 0 → 초기 분할만
+ * - optimized: 시간 예산 안에서 병렬 국소 탐색까지
+ * 소요 시간과 함께 totalYen 을 비교해 탐색으로 얼마나 절감되는지 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParcelSplitBenchmark {
+
+    private static final double DENSITY_COEFF = 0.2;
+
+    @Param({"10", "50", "100", "500"})
+    public int itemCount;
+
+    @Param({"20"})
+    public long timeBudgetMs;
+
+    private ParcelSplitOptimizer optimizer;
+    private List<RateTable> carriers;
+    private List<ParcelItem> items;
+
+    @Setup
+    public void setUp() throws Exception {
+        optimizer = new ParcelSplitOptimizer(0);
+        carriers = new ShippingRateEngine(new ObjectMapper(), "classpath*:shipping/rates/*.json").candidates(
+                null, ShippingPreference.CHEAPEST, 1);
+
+        // 50g ~ 3kg 사이 아이템, 일부는 부피가 큰 아이템
+        Random random = new Random(7);
+        items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            double weightG = 50 + random.nextDouble() * 2_950;
+            double volumeCm3 = random.nextInt(5) == 0 ? 5_000 + random.nextDouble() * 20_000 : weightG * 2;
+            items.add(new ParcelItem((long) i, weightG, volumeCm3));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        optimizer.shutdown();
+    }
+
+    @Benchmark
+    public long greedyOnly() {
+        return optimizer.optimize(items, carriers, DENSITY_COEFF, 0).totalYen();
+    }
+
+    @Benchmark
+    public long optimized() {
+        return optimizer.optimize(items, carriers, DENSITY_COEFF, timeBudgetMs).totalYen();
+    }
+}
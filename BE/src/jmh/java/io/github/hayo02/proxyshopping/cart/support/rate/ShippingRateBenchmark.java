@@ -0,0 +1,69 @@
+package io.github.hayo02.proxyshopping.cart.support.rate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요율표 조회 벤치마크.
+ * - compiledLookup: 컴파일된 배열 인덱스 조회
+ * - linearScan: 기존 방식(구간 리스트 순차 탐색) 비교용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ShippingRateBenchmark {
+
+    private static final int ZONE = 1;
+
+    private ShippingRateEngine engine;
+    private List<RateTableDefinition.Band> emsBands;
+    private double[] weightsG;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        engine = new ShippingRateEngine(objectMapper, "classpath*:shipping/rates/*.json");
+        emsBands = objectMapper.readValue(
+                getClass().getResourceAsStream("/shipping/rates/ems-zone1.json"),
+                RateTableDefinition.class).getBands();
+
+        // 0 ~ 12kg 사이 무게 (10kg 초과 구간 포함)
+        Random random = new Random(42);
+        weightsG = new double[1024];
+        for (int i = 0; i < weightsG.length; i++) {
+            weightsG[i] = random.nextDouble() * 12_000;
+        }
+    }
+
+    private double nextWeight() {
+        cursor = (cursor + 1) & (weightsG.length - 1);
+        return weightsG[cursor];
+    }
+
+    @Benchmark
+    public long compiledLookup() {
+        return engine.quote(Carrier.EMS, ZONE, nextWeight()).yen();
+    }
+
+    @Benchmark
+    public long cheapestOption() {
+        return engine.cheapest(ZONE, nextWeight(), 5_000).orElseThrow().yen();
+    }
+
+    @Benchmark
+    public long linearScan() {
+        double weightG = nextWeight();
+        for (RateTableDefinition.Band band : emsBands) {
+            if (weightG <= band.getMaxWeightG()) {
+                return band.getYen();
+            }
+        }
+        RateTableDefinition.Band last = emsBands.get(emsBands.size() - 1);
+        return last.getYen() + (long) Math.ceil((weightG - last.getMaxWeightG()) / 1000.0) * 800L;
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.hayo02.proxyshopping.orders.serviceImpl;
+
+import io.github.hayo02.proxyshopping.JmhFixtures;
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.support.QuotationFingerprint;
+import io.github.hayo02.proxyshopping.orders.support.QuotationRenderExecutor;
+import io.github.hayo02.proxyshopping.orders.support.QuotationStore;
+import io.github.hayo02.proxyshopping.orders.support.QuotationTemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 견적서 엑셀 생성 벤치마크 (임시 디렉토리에 실제 파일 저장까지)
+ * - generateQuotation: 템플릿 + 스트리밍 (렌더링 실행기 경유, 지문 계산 포함 매번 새로 렌더링)
+ * - generateQuotationUnchanged: 내용이 같은 파일이 있을 때 (지문 비교 후 재사용)
+ * - generateQuotationLegacyXssf: 변경 전 방식 (XSSFWorkbook 전체 생성, 비교 기준)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuotationExcelBenchmark {
+
+    // 1: 단건 주문, 10: 일반 장바구니, 100: 대량 주문, 1000: 힙 사용량 비교용
+    @Param({"1", "10", "100", "1000"})
+    public int itemCount;
+
+    private QuotationRenderExecutor renderExecutor;
+    private QuotationExcelServiceImpl service;
+    private LegacyXssfQuotationRenderer legacy;
+    private Order order;
+    private Path outputDir;
+
+    @Setup
+    public void setUp() throws IOException {
+        outputDir = Files.createTempDirectory("quotation-bench");
+        renderExecutor = new QuotationRenderExecutor(1, 10, 1000);
+        service = new QuotationExcelServiceImpl(new QuotationTemplate(), renderExecutor,
+                new QuotationStore(outputDir.toString(), Long.MAX_VALUE, Long.MAX_VALUE, System::currentTimeMillis));
+        legacy = new LegacyXssfQuotationRenderer(outputDir.toString());
+        order = JmhFixtures.order(itemCount);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        renderExecutor.shutdown();
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String generateQuotation() {
+        return service.renderAsync(order, QuotationFingerprint.of(order)).join();
+    }
+
+    @Benchmark
+    public String generateQuotationUnchanged() throws IOException {
+        return service.generateQuotation(order);
+    }
+
+    @Benchmark
+    public String generateQuotationLegacyXssf() throws IOException {
+        return legacy.generateQuotation(order);
+    }
+}
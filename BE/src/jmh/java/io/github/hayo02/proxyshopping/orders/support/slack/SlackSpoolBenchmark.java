@@ -0,0 +1,66 @@
+package io.github.hayo02.proxyshopping.orders.support.slack;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Slack 스풀 기록 벤치마크 (임시 디렉토리, 1MB 세그먼트)
+ * - appendAndAcknowledge: 알림 하나 기록 + 확인 (세그먼트 생성/삭제 포함, 정상 전송 흐름)
+ * - appendBatch: 100건 기록 후 한 번에 확인 (Slack 한도에 걸려 알림이 쌓였다가 묶음으로 나가는 흐름)
+ * 알림 접수 경로(요청 스레드)에 더해지는 비용 확인용. 목표: 초당 수천 건 이상
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlackSpoolBenchmark {
+
+    private static final int BATCH = 100;
+
+    // 200: 요약/짧은 알림, 2000: 스택 트레이스 포함 에러 알림
+    @Param({"200", "2000"})
+    public int messageBytes;
+
+    private Path dir;
+    private SlackSpool spool;
+    private String message;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("slack-spool-bench");
+        spool = new SlackSpool(dir, 1024 * 1024, 64L * 1024 * 1024);
+        message = "e".repeat(messageBytes);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        spool.close();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public boolean appendAndAcknowledge() {
+        boolean appended = spool.append(message);
+        spool.acknowledge(1);
+        return appended;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int appendBatch() {
+        int appended = 0;
+        for (int i = 0; i < BATCH; i++) {
+            if (spool.append(message)) {
+                appended++;
+            }
+        }
+        spool.acknowledge(BATCH);
+        return appended;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.hayo02.proxyshopping.productfetch.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hayo02.proxyshopping.productfetch.dto.ProductInfoDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤러 응답 Map → ProductInfoDto 변환 벤치마크.
+ * - typed: 숫자/불리언이 JSON 타입 그대로 오는 응답
+ * - stringly: 값이 문자열로 오는 응답 (asInt/asBoolean 문자열 파싱 경로)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductFetchParsingBenchmark {
+
+    private static final String URL = "https://jp.mercari.com/item/m12345678901";
+
+    private ProductFetchServiceImpl service;
+    private Map<String, Object> typedResponse;
+    private Map<String, Object> stringlyResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        service = new ProductFetchServiceImpl(null);
+        typedResponse = load("/fixtures/crawler-response.json");
+        stringlyResponse = load("/fixtures/crawler-response-strings.json");
+    }
+
+    private Map<String, Object> load(String path) throws Exception {
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            return new ObjectMapper().readValue(in, new TypeReference<>() {
+            });
+        }
+    }
+
+    @Benchmark
+    public ProductInfoDto typed() {
+        return service.toProductInfo(URL, typedResponse);
+    }
+
+    @Benchmark
+    public ProductInfoDto stringly() {
+        return service.toProductInfo(URL, stringlyResponse);
+    }
+}
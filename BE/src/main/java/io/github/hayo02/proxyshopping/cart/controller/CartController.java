@@ -2,6 +2,8 @@
 package io.github.hayo02.proxyshopping.cart.controller;
 
 import io.github.hayo02.proxyshopping.cart.dto.CartAddRequest;
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateMatrixRequest;
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateMatrixResponse;
 import io.github.hayo02.proxyshopping.cart.dto.CartEstimateRequest;
 import io.github.hayo02.proxyshopping.cart.dto.CartEstimateResponse;
 import io.github.hayo02.proxyshopping.cart.dto.CartResponse;
@@ -89,4 +91,16 @@ public class CartController {
         CartEstimateResponse estimate = estimateService.estimate(sid, request);
         return ApiResponse.ok(estimate);
     }
+
+    // 옵션/배송 수단 전체 조합 견적 (POST /api/cart/estimate/matrix)
+    // selected 가 있으면 그 조합만 저장
+    @PostMapping("/estimate/matrix")
+    public ApiResponse<CartEstimateMatrixResponse> estimateMatrix(
+            @RequestBody CartEstimateMatrixRequest request,
+            HttpServletRequest req,
+            HttpServletResponse res
+    ) {
+        String sid = sidResolver.resolve(req, res);
+        return ApiResponse.ok(estimateService.estimateMatrix(sid, request));
+    }
 }
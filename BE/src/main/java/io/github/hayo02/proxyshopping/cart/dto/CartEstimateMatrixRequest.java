@@ -0,0 +1,76 @@
+// src/main/java/io/github/hayo02/proxyshopping/cart/dto/CartEstimateMatrixRequest.java
+package io.github.hayo02.proxyshopping.cart.dto;
+
+import io.github.hayo02.proxyshopping.cart.support.rate.Carrier;
+
+import java.util.List;
+
+/**
+ * 장바구니 견적 매트릭스 요청 DTO
+ * - itemIds: 견적을 계산할 장바구니 아이템 id 목록 (null 또는 빈 리스트면 장바구니 전체)
+ * - selected: 최종 선택한 조합 (있을 때만 cart_estimate 에 저장, 없으면 조회만)
+ */
+public class CartEstimateMatrixRequest {
+
+    private List<Long> itemIds;
+
+    private Selection selected;
+
+    public CartEstimateMatrixRequest() {
+    }
+
+    public List<Long> getItemIds() {
+        return itemIds;
+    }
+
+    public void setItemIds(List<Long> itemIds) {
+        this.itemIds = itemIds;
+    }
+
+    public Selection getSelected() {
+        return selected;
+    }
+
+    public void setSelected(Selection selected) {
+        this.selected = selected;
+    }
+
+    /**
+     * 최종 선택한 옵션/배송 수단 조합 (carrier 가 없으면 기본 EMS)
+     */
+    public static class Selection {
+
+        private boolean extraPackaging;
+
+        private boolean insurance;
+
+        private Carrier carrier;
+
+        public Selection() {
+        }
+
+        public boolean isExtraPackaging() {
+            return extraPackaging;
+        }
+
+        public void setExtraPackaging(boolean extraPackaging) {
+            this.extraPackaging = extraPackaging;
+        }
+
+        public boolean isInsurance() {
+            return insurance;
+        }
+
+        public void setInsurance(boolean insurance) {
+            this.insurance = insurance;
+        }
+
+        public Carrier getCarrier() {
+            return carrier;
+        }
+
+        public void setCarrier(Carrier carrier) {
+            this.carrier = carrier;
+        }
+    }
+}
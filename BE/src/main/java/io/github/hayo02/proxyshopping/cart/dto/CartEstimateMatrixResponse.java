@@ -0,0 +1,90 @@
+// src/main/java/io/github/hayo02/proxyshopping/cart/dto/CartEstimateMatrixResponse.java
+package io.github.hayo02.proxyshopping.cart.dto;
+
+import java.util.List;
+
+/**
+ * 장바구니 견적 매트릭스 응답 DTO
+ * - options: 배송 수단 × 추가 포장 × 보험 모든 조합의 견적 (이 장바구니를 보낼 수 있는 배송 수단만)
+ * - unavailableCarriers: 무게/부피 한도 때문에 한 박스로도, 나눠서도 보낼 수 없는 배송 수단
+ * - defaultCarrier: 배송 수단을 고르지 않았을 때 적용되는 수단 (EMS, 보낼 수 없으면 null)
+ * - selected: 요청에서 선택한 조합의 견적 (저장된 견적, 선택이 없으면 null)
+ */
+public class CartEstimateMatrixResponse {
+
+    private List<Option> options;
+    private List<String> unavailableCarriers;
+    private String defaultCarrier;
+    private CartEstimateResponse selected;
+
+    public CartEstimateMatrixResponse() {
+    }
+
+    public static CartEstimateMatrixResponse of(List<Option> options,
+                                                List<String> unavailableCarriers,
+                                                String defaultCarrier,
+                                                CartEstimateResponse selected) {
+        CartEstimateMatrixResponse r = new CartEstimateMatrixResponse();
+        r.options = options;
+        r.unavailableCarriers = unavailableCarriers;
+        r.defaultCarrier = defaultCarrier;
+        r.selected = selected;
+        return r;
+    }
+
+    public List<Option> getOptions() {
+        return options;
+    }
+
+    public List<String> getUnavailableCarriers() {
+        return unavailableCarriers;
+    }
+
+    public String getDefaultCarrier() {
+        return defaultCarrier;
+    }
+
+    public CartEstimateResponse getSelected() {
+        return selected;
+    }
+
+    /**
+     * 조합 하나 (배송 수단 + 옵션 선택 여부 + 그 조합의 견적)
+     */
+    public static class Option {
+
+        private String carrier;
+        private boolean extraPackaging;
+        private boolean insurance;
+        private CartEstimateResponse estimate;
+
+        public Option() {
+        }
+
+        public static Option of(String carrier, boolean extraPackaging, boolean insurance,
+                                CartEstimateResponse estimate) {
+            Option o = new Option();
+            o.carrier = carrier;
+            o.extraPackaging = extraPackaging;
+            o.insurance = insurance;
+            o.estimate = estimate;
+            return o;
+        }
+
+        public String getCarrier() {
+            return carrier;
+        }
+
+        public boolean isExtraPackaging() {
+            return extraPackaging;
+        }
+
+        public boolean isInsurance() {
+            return insurance;
+        }
+
+        public CartEstimateResponse getEstimate() {
+            return estimate;
+        }
+    }
+}
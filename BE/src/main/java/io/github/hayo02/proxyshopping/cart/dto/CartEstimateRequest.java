@@ -1,6 +1,9 @@
 // src/main/java/io/github/hayo02/proxyshopping/cart/dto/CartEstimateRequest.java
 package io.github.hayo02.proxyshopping.cart.dto;
 
+import io.github.hayo02.proxyshopping.cart.support.rate.Carrier;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingPreference;
+
 import java.util.List;
 
 /**
@@ -8,6 +11,7 @@ import java.util.List;
  * - itemIds: 견적을 계산할 장바구니 아이템 id 목록 (선택 상품)
  * - extraPackaging: 추가 포장 옵션
  * - insurance: 해외 배송 보상 보험 옵션
+ * - carrier / shippingPreference: 배송 수단 직접 지정 또는 최저가/최단 선택 (둘 다 없으면 EMS)
  */
 public class CartEstimateRequest {
 
@@ -21,6 +25,12 @@ public class CartEstimateRequest {
     // 해외 배송 보상 보험 여부
     private boolean insurance;
 
+    // 배송 수단 직접 지정 (EMS / SAL / EPACKET)
+    private Carrier carrier;
+
+    // 배송 수단 미지정 시 선택 기준 (CHEAPEST / FASTEST)
+    private ShippingPreference shippingPreference;
+
     public CartEstimateRequest() {
     }
 
@@ -47,4 +57,20 @@ public class CartEstimateRequest {
     public void setInsurance(boolean insurance) {
         this.insurance = insurance;
     }
+
+    public Carrier getCarrier() {
+        return carrier;
+    }
+
+    public void setCarrier(Carrier carrier) {
+        this.carrier = carrier;
+    }
+
+    public ShippingPreference getShippingPreference() {
+        return shippingPreference;
+    }
+
+    public void setShippingPreference(ShippingPreference shippingPreference) {
+        this.shippingPreference = shippingPreference;
+    }
 }
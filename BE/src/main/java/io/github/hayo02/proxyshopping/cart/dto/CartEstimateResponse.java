@@ -16,8 +16,12 @@ public class CartEstimateResponse {
     private double chargeableWeightKg;    // 청구 기준 무게 (kg)
 
     // 3) 배송비
-    private long emsYen;                    // EMS 요율표 상 엔 단위 금액
-    private long internationalShippingKRW;  // EMS 국제 배송비 (원)
+    private String carrier;                 // 선택된 배송 수단 (EMS / SAL / EPACKET)
+    private int transitDays;                // 예상 해외 배송일 (소포가 여러 개면 가장 늦은 소포 기준)
+    private int parcelCount;                // 소포 개수 (한도/요금 때문에 나눠 보내는 경우 2 이상)
+    private long emsYen;                    // 요율표 상 엔 단위 금액 (선택된 배송 수단 기준)
+    private double yenToKrwRate;            // 원화 환산에 사용한 환율 (1엔당 원)
+    private long internationalShippingKRW;  // 국제 배송비 (원)
     private long domesticShippingKRW;       // 국내 배송비 (원, 지금은 3,000원 고정)
     private long totalShippingFeeKRW;       // 배송비 합계
 
@@ -39,7 +43,11 @@ public class CartEstimateResponse {
             double totalVolumeM3,
             double volumetricWeightKg,
             double chargeableWeightKg,
+            String carrier,
+            int transitDays,
+            int parcelCount,
             long emsYen,
+            double yenToKrwRate,
             long internationalShippingKRW,
             long domesticShippingKRW,
             long totalShippingFeeKRW,
@@ -55,7 +63,11 @@ public class CartEstimateResponse {
         r.totalVolumeM3 = totalVolumeM3;
         r.volumetricWeightKg = volumetricWeightKg;
         r.chargeableWeightKg = chargeableWeightKg;
+        r.carrier = carrier;
+        r.transitDays = transitDays;
+        r.parcelCount = parcelCount;
         r.emsYen = emsYen;
+        r.yenToKrwRate = yenToKrwRate;
         r.internationalShippingKRW = internationalShippingKRW;
         r.domesticShippingKRW = domesticShippingKRW;
         r.totalShippingFeeKRW = totalShippingFeeKRW;
@@ -90,10 +102,26 @@ public class CartEstimateResponse {
         return chargeableWeightKg;
     }
 
+    public String getCarrier() {
+        return carrier;
+    }
+
+    public int getTransitDays() {
+        return transitDays;
+    }
+
+    public int getParcelCount() {
+        return parcelCount;
+    }
+
     public long getEmsYen() {
         return emsYen;
     }
 
+    public double getYenToKrwRate() {
+        return yenToKrwRate;
+    }
+
     public long getInternationalShippingKRW() {
         return internationalShippingKRW;
     }
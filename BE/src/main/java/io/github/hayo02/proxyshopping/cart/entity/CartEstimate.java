@@ -38,7 +38,12 @@ public class CartEstimate {
     private Double chargeableWeightG;   // g
 
     // 3) 배송비
+    @Column(length = 20)
+    private String carrier;     // EMS / SAL / EPACKET (소포 분할 시 EMS+EPACKET 형태)
+    private Integer parcelCount;       // 소포 개수
     private Long emsYen;
+    private Double yenToKrwRate;       // 원화 환산에 사용한 환율
+    private Long fxSnapshotVersion;    // 환율 스냅샷 버전
     private Long internationalShippingKRW;
     private Long domesticShippingKRW;
     private Long totalShippingFeeKRW;
@@ -55,6 +60,10 @@ public class CartEstimate {
     private Boolean extraPackaging;
     private Boolean insurance;
 
+    // 견적 입력값 digest (EstimateFingerprint.digest, 메모 적중 시 같으면 다시 저장하지 않음)
+    @Column(length = 64)
+    private String fingerprint;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
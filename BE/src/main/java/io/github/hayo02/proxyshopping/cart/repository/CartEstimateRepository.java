@@ -2,12 +2,18 @@ package io.github.hayo02.proxyshopping.cart.repository;
 
 import io.github.hayo02.proxyshopping.cart.entity.CartEstimate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface CartEstimateRepository extends JpaRepository<CartEstimate, Long> {
+public interface CartEstimateRepository extends JpaRepository<CartEstimate, Long>, CartEstimateRepositoryCustom {
 
     Optional<CartEstimate> findByProxySid(String proxySid);
 
+    // 메모 적중 시 저장된 행이 같은 입력의 견적인지만 확인 (행 전체를 읽지 않음)
+    @Query("select e.fingerprint from CartEstimate e where e.proxySid = :proxySid")
+    Optional<String> findFingerprintByProxySid(@Param("proxySid") String proxySid);
+
     void deleteByProxySid(String proxySid);
 }
@@ -0,0 +1,12 @@
+package io.github.hayo02.proxyshopping.cart.repository;
+
+import io.github.hayo02.proxyshopping.cart.entity.CartEstimate;
+
+public interface CartEstimateRepositoryCustom {
+
+    /**
+     * proxySid 기준 견적 Upsert (조회 없이 SQL 한 번)
+     * - 없으면 INSERT, 있으면 견적 컬럼과 updated_at 만 갱신 (id, created_at 유지)
+     */
+    void upsert(CartEstimate estimate);
+}
@@ -0,0 +1,152 @@
+package io.github.hayo02.proxyshopping.cart.repository;
+
+import io.github.hayo02.proxyshopping.cart.entity.CartEstimate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * CartEstimate 단일 SQL Upsert 구현.
+ * - MariaDB/MySQL: INSERT ... ON DUPLICATE KEY UPDATE
+ * - H2(로컬/테스트): MERGE INTO ... USING ... WHEN MATCHED / WHEN NOT MATCHED
+ * - 동시에 같은 proxySid 로 견적을 저장해도 unique 제약 위반 없이 마지막 저장이 남는다
+ *   (H2 MERGE 는 최초 INSERT 경합 시 중복 키가 날 수 있어 같은 트랜잭션 안에서 재시도)
+ */
+public class CartEstimateRepositoryImpl implements CartEstimateRepositoryCustom {
+
+    // H2 MERGE 는 같은 키로 동시에 처음 INSERT 하면 한쪽이 중복 키로 실패할 수 있어 재시도
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String DUPLICATE_KEY_SQL_STATE = "23505";
+
+    // proxy_sid / created_at 을 제외한 갱신 대상 컬럼 (바인딩 순서와 동일)
+    private static final List<String> COLUMNS = List.of(
+            "item_ids",
+            "product_totalkrw",
+            "service_feekrw",
+            "total_actual_weightg",
+            "total_volume_cm3",
+            "volumetric_weightg",
+            "chargeable_weightg",
+            "carrier",
+            "parcel_count",
+            "ems_yen",
+            "yen_to_krw_rate",
+            "fx_snapshot_version",
+            "international_shippingkrw",
+            "domestic_shippingkrw",
+            "total_shipping_feekrw",
+            "payment_feekrw",
+            "extra_packaging_feekrw",
+            "insurance_feekrw",
+            "grand_totalkrw",
+            "extra_packaging",
+            "insurance",
+            "fingerprint",
+            "updated_at"
+    );
+
+    private static final String MARIADB_UPSERT = buildMariaDbUpsert();
+    private static final String H2_MERGE = buildH2Merge();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // DB 종류는 기동 후 바뀌지 않으므로 최초 1회만 판별
+    private volatile String upsertSql;
+
+    @Override
+    public void upsert(CartEstimate e) {
+        LocalDateTime now = LocalDateTime.now();
+        Object[] values = {
+                e.getProxySid(),
+                now,
+                e.getItemIds(),
+                e.getProductTotalKRW(),
+                e.getServiceFeeKRW(),
+                e.getTotalActualWeightG(),
+                e.getTotalVolumeCm3(),
+                e.getVolumetricWeightG(),
+                e.getChargeableWeightG(),
+                e.getCarrier(),
+                e.getParcelCount(),
+                e.getEmsYen(),
+                e.getYenToKrwRate(),
+                e.getFxSnapshotVersion(),
+                e.getInternationalShippingKRW(),
+                e.getDomesticShippingKRW(),
+                e.getTotalShippingFeeKRW(),
+                e.getPaymentFeeKRW(),
+                e.getExtraPackagingFeeKRW(),
+                e.getInsuranceFeeKRW(),
+                e.getGrandTotalKRW(),
+                e.getExtraPackaging(),
+                e.getInsurance(),
+                e.getFingerprint(),
+                now
+        };
+        String sql = upsertSql();
+
+        // 현재 트랜잭션의 커넥션에서 JDBC 로 직접 실행
+        // (중복 키 재시도 시 Hibernate 가 트랜잭션을 rollback-only 로 표시하지 않도록)
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            for (int attempt = 1; ; attempt++) {
+                try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < values.length; i++) {
+                        ps.setObject(i + 1, values[i]);
+                    }
+                    ps.executeUpdate();
+                    return;
+                } catch (SQLException ex) {
+                    if (attempt >= MAX_ATTEMPTS || !DUPLICATE_KEY_SQL_STATE.equals(ex.getSQLState())) {
+                        throw ex;
+                    }
+                }
+            }
+        });
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect();
+            sql = dialect instanceof H2Dialect ? H2_MERGE : MARIADB_UPSERT;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    private static String buildMariaDbUpsert() {
+        return "INSERT INTO cart_estimate (proxy_sid, created_at, " + String.join(", ", COLUMNS) + ") "
+                + "VALUES (?, ?, " + placeholders() + ") "
+                + "ON DUPLICATE KEY UPDATE "
+                + COLUMNS.stream().map(c -> c + " = VALUES(" + c + ")").collect(Collectors.joining(", "));
+    }
+
+    private static String buildH2Merge() {
+        return "MERGE INTO cart_estimate t "
+                + "USING (VALUES (?, ?, " + placeholders() + ")) "
+                + "AS s (proxy_sid, created_at, " + String.join(", ", COLUMNS) + ") "
+                + "ON t.proxy_sid = s.proxy_sid "
+                + "WHEN MATCHED THEN UPDATE SET "
+                + COLUMNS.stream().map(c -> c + " = s." + c).collect(Collectors.joining(", ")) + " "
+                + "WHEN NOT MATCHED THEN INSERT (proxy_sid, created_at, " + String.join(", ", COLUMNS) + ") "
+                + "VALUES (s.proxy_sid, s.created_at, "
+                + COLUMNS.stream().map(c -> "s." + c).collect(Collectors.joining(", ")) + ")";
+    }
+
+    private static String placeholders() {
+        return COLUMNS.stream().map(c -> "?").collect(Collectors.joining(", "));
+    }
+}
@@ -12,6 +12,7 @@ import io.github.hayo02.proxyshopping.cart.dto.DeleteResponse;
 import io.github.hayo02.proxyshopping.cart.entity.CartItem;
 import io.github.hayo02.proxyshopping.cart.repository.CartItemRepository;
 import io.github.hayo02.proxyshopping.cart.service.CartCommandService;
+import io.github.hayo02.proxyshopping.cart.support.EstimateMemo;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,11 +22,14 @@ import java.util.List;
 public class CartCommandServiceImpl implements CartCommandService {
     private final CartItemRepository repo;
     private final ProductAiService aiService;
+    private final EstimateMemo estimateMemo;
 
     public CartCommandServiceImpl(CartItemRepository repo,
-                                  ProductAiService aiService) {
+                                  ProductAiService aiService,
+                                  EstimateMemo estimateMemo) {
         this.repo = repo;
         this.aiService = aiService;
+        this.estimateMemo = estimateMemo;
     }
 
     // 1) 장바구니 담기
@@ -86,6 +90,7 @@ public class CartCommandServiceImpl implements CartCommandService {
         }
 
         repo.save(e);
+        estimateMemo.invalidate(proxySid);
         return buildResponse(proxySid);
     }
 
@@ -115,6 +120,7 @@ public class CartCommandServiceImpl implements CartCommandService {
                 .toList();
 
         repo.deleteAllInBatch(targets);
+        estimateMemo.invalidate(proxySid);
 
         return DeleteResponse.builder()
                 .message("삭제 완료")
@@ -144,6 +150,7 @@ public class CartCommandServiceImpl implements CartCommandService {
 
         // 3) 한 번에 삭제
         repo.deleteAllInBatch(items);
+        estimateMemo.invalidate(proxySid);
 
         return DeleteResponse.builder()
                 .message("전체 삭제 완료")
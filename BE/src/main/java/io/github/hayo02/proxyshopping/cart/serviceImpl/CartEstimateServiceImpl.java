@@ -3,6 +3,8 @@ package io.github.hayo02.proxyshopping.cart.serviceImpl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateMatrixRequest;
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateMatrixResponse;
 import io.github.hayo02.proxyshopping.cart.dto.CartEstimateRequest;
 import io.github.hayo02.proxyshopping.cart.dto.CartEstimateResponse;
 import io.github.hayo02.proxyshopping.cart.entity.CartEstimate;
@@ -11,10 +13,26 @@ import io.github.hayo02.proxyshopping.cart.repository.CartEstimateRepository;
 import io.github.hayo02.proxyshopping.cart.repository.CartItemRepository;
 import io.github.hayo02.proxyshopping.cart.service.CartEstimateService;
 import io.github.hayo02.proxyshopping.cart.support.EmsShippingCalculator;
+import io.github.hayo02.proxyshopping.cart.support.EstimateFingerprint;
+import io.github.hayo02.proxyshopping.cart.support.EstimateMemo;
+import io.github.hayo02.proxyshopping.cart.support.fx.ExchangeRateProvider;
+import io.github.hayo02.proxyshopping.cart.support.fx.ExchangeRateSnapshot;
+import io.github.hayo02.proxyshopping.cart.support.parcel.ParcelItem;
+import io.github.hayo02.proxyshopping.cart.support.parcel.ParcelPlan;
+import io.github.hayo02.proxyshopping.cart.support.parcel.ParcelSplitOptimizer;
+import io.github.hayo02.proxyshopping.cart.support.rate.Carrier;
+import io.github.hayo02.proxyshopping.cart.support.rate.RateTable;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingPreference;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingRateEngine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,27 +55,155 @@ public class CartEstimateServiceImpl implements CartEstimateService {
     // 국내 배송비 고정 3,000원
     private static final long DOMESTIC_SHIPPING_FEE_KRW = 3000L;
 
+    // 배송 수단을 고르지 않았을 때 기본 배송 수단
+    private static final Carrier DEFAULT_CARRIER = Carrier.EMS;
+
     private final CartItemRepository cartItemRepository;
     private final CartEstimateRepository cartEstimateRepository;
     private final EmsShippingCalculator emsShippingCalculator;
+    private final ShippingRateEngine shippingRateEngine;
+    private final EstimateMemo estimateMemo;
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final ParcelSplitOptimizer parcelSplitOptimizer;
     private final ObjectMapper objectMapper;
 
+    // 한국이 속한 배송 구역
+    private final int destinationZone;
+
+    // 청구 무게가 이 값(g)을 넘거나 배송 수단 한도를 넘으면 소포 분할 검토
+    private final double parcelSplitThresholdG;
+
+    // 소포 분할 탐색 시간 예산 (ms)
+    private final long parcelSplitTimeBudgetMs;
+
     public CartEstimateServiceImpl(CartItemRepository cartItemRepository,
                                    CartEstimateRepository cartEstimateRepository,
                                    EmsShippingCalculator emsShippingCalculator,
-                                   ObjectMapper objectMapper) {
+                                   ShippingRateEngine shippingRateEngine,
+                                   EstimateMemo estimateMemo,
+                                   ExchangeRateProvider exchangeRateProvider,
+                                   ParcelSplitOptimizer parcelSplitOptimizer,
+                                   ObjectMapper objectMapper,
+                                   @Value("${shipping.destination-zone:1}") int destinationZone,
+                                   @Value("${shipping.parcel-split.threshold-g:10000}") double parcelSplitThresholdG,
+                                   @Value("${shipping.parcel-split.time-budget-ms:50}") long parcelSplitTimeBudgetMs) {
         this.cartItemRepository = cartItemRepository;
         this.cartEstimateRepository = cartEstimateRepository;
         this.emsShippingCalculator = emsShippingCalculator;
+        this.shippingRateEngine = shippingRateEngine;
+        this.estimateMemo = estimateMemo;
+        this.exchangeRateProvider = exchangeRateProvider;
+        this.parcelSplitOptimizer = parcelSplitOptimizer;
         this.objectMapper = objectMapper;
+        this.destinationZone = destinationZone;
+        this.parcelSplitThresholdG = parcelSplitThresholdG;
+        this.parcelSplitTimeBudgetMs = parcelSplitTimeBudgetMs;
     }
 
     @Override
     public CartEstimateResponse estimate(String proxySid, CartEstimateRequest request) {
         // 0) 선택된 itemIds 기준으로 장바구니 아이템 조회
-        List<Long> itemIds = request.getItemIds();
-        List<CartItem> items;
+        List<CartItem> items = loadItems(proxySid, request.getItemIds());
+
+        // 이번 견적에 사용할 환율 스냅샷 (견적 도중 환율이 바뀌어도 일관되게)
+        ExchangeRateSnapshot fx = exchangeRateProvider.current();
+
+        // 직전에 저장한 견적과 입력이 같으면 재계산 없이 반환
+        // (다른 노드가 cart_estimate 를 바꿔 저장된 fingerprint 가 다를 때만 다시 저장)
+        EstimateFingerprint fingerprint = EstimateFingerprint.of(items, request,
+                shippingRateEngine.version(), fx.version());
+        EstimateMemo.Entry memoized = estimateMemo.lookup(proxySid, fingerprint);
+        if (memoized != null) {
+            String stored = cartEstimateRepository.findFingerprintByProxySid(proxySid).orElse(null);
+            if (!memoized.estimate().getFingerprint().equals(stored)) {
+                cartEstimateRepository.upsert(memoized.estimate());
+            }
+            return memoized.response();
+        }
+
+        // 1) ~ 3) 상품 금액/수수료, 무게/부피 합산
+        Aggregates totals = aggregate(items);
+
+        // 4) 국제 배송비 (배송 수단 지정 > 최저가/최단 기준 > 기본 EMS, 무겁거나 한도 초과면 소포 분할)
+        ShippingSelection shipping = selectShipping(request.getCarrier(), request.getShippingPreference(),
+                items, totals)
+                .orElseThrow(() -> shippingUnavailable(request.getCarrier()));
+
+        // 5) ~ 10) 옵션별 금액 계산 후 저장
+        CartEstimateResponse response = price(totals, shipping, fx,
+                request.isExtraPackaging(), request.isInsurance());
+        CartEstimate saved = saveEstimate(proxySid, items, request.isExtraPackaging(), request.isInsurance(),
+                totals, shipping, fx, response, fingerprint);
+
+        estimateMemo.remember(proxySid, fingerprint, saved, response);
+        return response;
+    }
+
+    /**
+     * 옵션(추가 포장/보험) × 배송 수단 모든 조합을 한 번에 계산.
+     * - 아이템 조회, 금액/무게 합산, 배송 수단별 배송비는 한 번씩만 계산하고 조합별로는 옵션 비용만 더함
+     * - selected 가 있을 때만 해당 조합을 cart_estimate 에 저장
+     */
+    @Override
+    public CartEstimateMatrixResponse estimateMatrix(String proxySid, CartEstimateMatrixRequest request) {
+        List<CartItem> items = loadItems(proxySid, request.getItemIds());
+        ExchangeRateSnapshot fx = exchangeRateProvider.current();
+        Aggregates totals = aggregate(items);
+
+        // 이 장바구니를 보낼 수 없는 배송 수단은 조합에서 빼고 unavailableCarriers 로 따로 알림
+        Map<Carrier, ShippingSelection> shippingByCarrier = new EnumMap<>(Carrier.class);
+        List<String> unavailableCarriers = new ArrayList<>();
+        for (RateTable table : shippingRateEngine.candidates(null, ShippingPreference.CHEAPEST, destinationZone)) {
+            Optional<ShippingSelection> shipping = selectShipping(table.getCarrier(), null, items, totals);
+            if (shipping.isPresent()) {
+                shippingByCarrier.put(table.getCarrier(), shipping.get());
+            } else {
+                unavailableCarriers.add(table.getCarrier().name());
+            }
+        }
+        unavailableCarriers.sort(null);
+
+        List<CartEstimateMatrixResponse.Option> options = new ArrayList<>(shippingByCarrier.size() * 4);
+        for (Map.Entry<Carrier, ShippingSelection> entry : shippingByCarrier.entrySet()) {
+            for (boolean extraPackaging : new boolean[]{false, true}) {
+                for (boolean insurance : new boolean[]{false, true}) {
+                    options.add(CartEstimateMatrixResponse.Option.of(entry.getKey().name(), extraPackaging, insurance,
+                            price(totals, entry.getValue(), fx, extraPackaging, insurance)));
+                }
+            }
+        }
+
+        CartEstimateResponse selected = null;
+        CartEstimateMatrixRequest.Selection selection = request.getSelected();
+        if (selection != null) {
+            // /api/cart/estimate 와 같은 입력으로 취급 (이후 같은 조합의 견적 요청은 메모에서 반환)
+            CartEstimateRequest selectedRequest = new CartEstimateRequest();
+            selectedRequest.setItemIds(request.getItemIds());
+            selectedRequest.setExtraPackaging(selection.isExtraPackaging());
+            selectedRequest.setInsurance(selection.isInsurance());
+            selectedRequest.setCarrier(selection.getCarrier());
+
+            Carrier carrier = selection.getCarrier() != null ? selection.getCarrier() : DEFAULT_CARRIER;
+            ShippingSelection shipping = shippingByCarrier.get(carrier);
+            if (shipping == null) {
+                throw shippingRateEngine.table(carrier, destinationZone) == null
+                        ? new IllegalArgumentException("지원하지 않는 배송 수단입니다: " + carrier)
+                        : shippingUnavailable(carrier);
+            }
+            selected = price(totals, shipping, fx, selection.isExtraPackaging(), selection.isInsurance());
+            EstimateFingerprint fingerprint = EstimateFingerprint.of(items, selectedRequest,
+                    shippingRateEngine.version(), fx.version());
+            CartEstimate saved = saveEstimate(proxySid, items, selection.isExtraPackaging(), selection.isInsurance(),
+                    totals, shipping, fx, selected, fingerprint);
+            estimateMemo.remember(proxySid, fingerprint, saved, selected);
+        }
+
+        String defaultCarrier = shippingByCarrier.containsKey(DEFAULT_CARRIER) ? DEFAULT_CARRIER.name() : null;
+        return CartEstimateMatrixResponse.of(options, unavailableCarriers, defaultCarrier, selected);
+    }
 
+    private List<CartItem> loadItems(String proxySid, List<Long> itemIds) {
+        List<CartItem> items;
         if (itemIds != null && !itemIds.isEmpty()) {
             items = cartItemRepository.findByProxySidAndIdIn(proxySid, itemIds);
             if (items == null || items.isEmpty()) {
@@ -69,7 +215,13 @@ public class CartEstimateServiceImpl implements CartEstimateService {
                 throw new IllegalArgumentException("장바구니가 비어 있습니다.");
             }
         }
+        return items;
+    }
 
+    /**
+     * 옵션/배송 수단과 무관한 합계 (아이템 목록당 한 번만 계산)
+     */
+    private Aggregates aggregate(List<CartItem> items) {
         // 1) 상품 금액 합계
         long productTotalKRW = items.stream()
                 .mapToLong(item -> item.getPriceKRW() != null ? item.getPriceKRW() : 0L)
@@ -90,46 +242,51 @@ public class CartEstimateServiceImpl implements CartEstimateService {
         double volumetricWeightG = totalVolumeCm3 * DENSITY_COEFF_G_PER_CM3;
         double chargeableWeightG = Math.max(totalActualWeightG, volumetricWeightG);
 
-        // EMS 국제배송비 계산을 위해 kg 단위로만 변환 (응답은 계속 g 유지)
-        double chargeableWeightKg = chargeableWeightG / 1000.0;
-        long emsYen = emsShippingCalculator.calculateEmsYen(chargeableWeightKg);
-        long internationalShippingKRW = emsShippingCalculator.convertYenToWon(emsYen);
+        return new Aggregates(productTotalKRW, serviceFeeKRW, totalActualWeightG, totalVolumeCm3,
+                volumetricWeightG, chargeableWeightG);
+    }
+
+    /**
+     * 배송 선택 + 옵션 조합 하나의 최종 금액 계산 (DB 접근 없음)
+     */
+    private CartEstimateResponse price(Aggregates totals, ShippingSelection shipping, ExchangeRateSnapshot fx,
+                                       boolean extraPackaging, boolean insurance) {
+        long emsYen = shipping.yen();
+        long internationalShippingKRW = emsShippingCalculator.convertYenToWon(emsYen, fx);
 
         // 5) 국내 배송비 = 3,000원 고정
         long domesticShippingKRW = DOMESTIC_SHIPPING_FEE_KRW;
         long totalShippingFeeKRW = internationalShippingKRW + domesticShippingKRW;
 
         // 6) 결제 수수료 (3.4%, 10원 단위 올림)
-        long paymentBase = productTotalKRW + serviceFeeKRW + totalShippingFeeKRW;
+        long paymentBase = totals.productTotalKRW() + totals.serviceFeeKRW() + totalShippingFeeKRW;
         long paymentFeeKRW = roundUpTo10Won(paymentBase * PAYMENT_FEE_RATE);
 
         // 7) 옵션 비용
-        long extraPackagingFeeKRW = request.isExtraPackaging() ? 2000L : 0L;
-        long insuranceFeeKRW = request.isInsurance() ? 5000L : 0L;
+        long extraPackagingFeeKRW = extraPackaging ? 2000L : 0L;
+        long insuranceFeeKRW = insurance ? 5000L : 0L;
 
         // 8) 최종 금액
-        long grandTotalKRW = productTotalKRW
-                + serviceFeeKRW
+        long grandTotalKRW = totals.productTotalKRW()
+                + totals.serviceFeeKRW()
                 + totalShippingFeeKRW
                 + paymentFeeKRW
                 + extraPackagingFeeKRW
                 + insuranceFeeKRW;
 
-        // 9) 견적 결과를 DB에 저장 (Upsert: proxySid 기준 1개만 유지)
-        saveEstimate(proxySid, items, request, productTotalKRW, serviceFeeKRW,
-                totalActualWeightG, totalVolumeCm3, volumetricWeightG, chargeableWeightG,
-                emsYen, internationalShippingKRW, domesticShippingKRW, totalShippingFeeKRW,
-                paymentFeeKRW, extraPackagingFeeKRW, insuranceFeeKRW, grandTotalKRW);
-
         // 10) 응답 생성 (단위: kg, m³ - 프론트엔드 호환)
         return CartEstimateResponse.of(
-                productTotalKRW,
-                serviceFeeKRW,
-                totalActualWeightG / 1000.0,        // g → kg
-                totalVolumeCm3 / 1_000_000.0,       // cm³ → m³
-                volumetricWeightG / 1000.0,         // g → kg
-                chargeableWeightG / 1000.0,         // g → kg
+                totals.productTotalKRW(),
+                totals.serviceFeeKRW(),
+                totals.totalActualWeightG() / 1000.0,        // g → kg
+                totals.totalVolumeCm3() / 1_000_000.0,       // cm³ → m³
+                totals.volumetricWeightG() / 1000.0,         // g → kg
+                totals.chargeableWeightG() / 1000.0,         // g → kg
+                shipping.carrier(),
+                shipping.transitDays(),
+                shipping.parcelCount(),
                 emsYen,
+                fx.yenToKrw(),
                 internationalShippingKRW,
                 domesticShippingKRW,
                 totalShippingFeeKRW,
@@ -141,16 +298,12 @@ public class CartEstimateServiceImpl implements CartEstimateService {
     }
 
     /**
-     * 견적 결과를 DB에 저장 (Upsert)
+     * 9) 견적 결과를 DB에 저장 (Upsert: proxySid 기준 1개만 유지), 저장한 행을 반환
      */
-    private void saveEstimate(String proxySid, List<CartItem> items, CartEstimateRequest request,
-                              long productTotalKRW, long serviceFeeKRW,
-                              double totalActualWeightG, double totalVolumeCm3,
-                              double volumetricWeightG, double chargeableWeightG,
-                              long emsYen, long internationalShippingKRW,
-                              long domesticShippingKRW, long totalShippingFeeKRW,
-                              long paymentFeeKRW, long extraPackagingFeeKRW,
-                              long insuranceFeeKRW, long grandTotalKRW) {
+    private CartEstimate saveEstimate(String proxySid, List<CartItem> items,
+                              boolean extraPackaging, boolean insurance,
+                              Aggregates totals, ShippingSelection shipping, ExchangeRateSnapshot fx,
+                              CartEstimateResponse priced, EstimateFingerprint fingerprint) {
 
         String itemIdsJson;
         try {
@@ -160,28 +313,90 @@ public class CartEstimateServiceImpl implements CartEstimateService {
             itemIdsJson = "[]";
         }
 
-        CartEstimate estimate = cartEstimateRepository.findByProxySid(proxySid)
-                .orElse(CartEstimate.builder().proxySid(proxySid).build());
-
-        estimate.setItemIds(itemIdsJson);
-        estimate.setProductTotalKRW(productTotalKRW);
-        estimate.setServiceFeeKRW(serviceFeeKRW);
-        estimate.setTotalActualWeightG(totalActualWeightG);
-        estimate.setTotalVolumeCm3(totalVolumeCm3);
-        estimate.setVolumetricWeightG(volumetricWeightG);
-        estimate.setChargeableWeightG(chargeableWeightG);
-        estimate.setEmsYen(emsYen);
-        estimate.setInternationalShippingKRW(internationalShippingKRW);
-        estimate.setDomesticShippingKRW(domesticShippingKRW);
-        estimate.setTotalShippingFeeKRW(totalShippingFeeKRW);
-        estimate.setPaymentFeeKRW(paymentFeeKRW);
-        estimate.setExtraPackagingFeeKRW(extraPackagingFeeKRW);
-        estimate.setInsuranceFeeKRW(insuranceFeeKRW);
-        estimate.setGrandTotalKRW(grandTotalKRW);
-        estimate.setExtraPackaging(request.isExtraPackaging());
-        estimate.setInsurance(request.isInsurance());
-
-        cartEstimateRepository.save(estimate);
+        // 조회 없이 SQL 한 번으로 Upsert (동시 요청에도 unique 제약 위반 없음)
+        CartEstimate estimate = CartEstimate.builder()
+                .proxySid(proxySid)
+                .itemIds(itemIdsJson)
+                .productTotalKRW(totals.productTotalKRW())
+                .serviceFeeKRW(totals.serviceFeeKRW())
+                .totalActualWeightG(totals.totalActualWeightG())
+                .totalVolumeCm3(totals.totalVolumeCm3())
+                .volumetricWeightG(totals.volumetricWeightG())
+                .chargeableWeightG(totals.chargeableWeightG())
+                .carrier(shipping.carrier())
+                .parcelCount(shipping.parcelCount())
+                .emsYen(shipping.yen())
+                .yenToKrwRate(fx.yenToKrw())
+                .fxSnapshotVersion(fx.version())
+                .internationalShippingKRW(priced.getInternationalShippingKRW())
+                .domesticShippingKRW(priced.getDomesticShippingKRW())
+                .totalShippingFeeKRW(priced.getTotalShippingFeeKRW())
+                .paymentFeeKRW(priced.getPaymentFeeKRW())
+                .extraPackagingFeeKRW(priced.getExtraPackagingFeeKRW())
+                .insuranceFeeKRW(priced.getInsuranceFeeKRW())
+                .grandTotalKRW(priced.getGrandTotalKRW())
+                .extraPackaging(extraPackaging)
+                .insurance(insurance)
+                .fingerprint(fingerprint.digest())
+                .build();
+
+        cartEstimateRepository.upsert(estimate);
+        return estimate;
+    }
+
+    /**
+     * 배송 수단 선택 (한 박스 견적 vs 소포 분할 중 싼 쪽).
+     * 후보 배송 수단 한도로는 한 박스로도, 나눠서도 보낼 수 없으면 empty
+     */
+    private Optional<ShippingSelection> selectShipping(Carrier carrier, ShippingPreference preference,
+                                                       List<CartItem> items, Aggregates totals) {
+        double chargeableWeightG = totals.chargeableWeightG();
+        double totalVolumeCm3 = totals.totalVolumeCm3();
+        List<RateTable> candidates = shippingRateEngine.candidates(carrier, preference, destinationZone);
+
+        // 한 박스 견적 (한도를 넘는 배송 수단은 요금을 매기지 않음)
+        Optional<ShippingSelection> single = (carrier != null || preference == null
+                ? Optional.of(candidates.get(0))
+                        .filter(t -> t.accepts(chargeableWeightG, totalVolumeCm3))
+                        .map(t -> shippingRateEngine.quote(t.getCarrier(), destinationZone, chargeableWeightG, totalVolumeCm3))
+                : shippingRateEngine.best(preference, destinationZone, chargeableWeightG, totalVolumeCm3))
+                .map(q -> new ShippingSelection(q.carrier().name(), q.yen(), q.transitDays(), 1));
+
+        if (items.size() < 2 || (single.isPresent() && chargeableWeightG <= parcelSplitThresholdG)) {
+            return single;
+        }
+
+        List<ParcelItem> parcelItems = items.stream()
+                .map(item -> new ParcelItem(item.getId(),
+                        item.getAiWeightG() != null ? item.getAiWeightG() : DEFAULT_WEIGHT_G,
+                        item.getAiVolumeCm3() != null ? item.getAiVolumeCm3() : DEFAULT_VOLUME_CM3))
+                .toList();
+        ParcelPlan plan = parcelSplitOptimizer.optimize(parcelItems, candidates,
+                DENSITY_COEFF_G_PER_CM3, parcelSplitTimeBudgetMs);
+
+        // 한 박스로 보내는 편이 싸고 한도도 만족하면 분할하지 않음
+        if (!plan.feasible() || plan.parcelCount() <= 1
+                || (single.isPresent() && plan.totalYen() >= single.get().yen())) {
+            return single;
+        }
+        return Optional.of(new ShippingSelection(plan.carrierSummary(), plan.totalYen(), plan.transitDays(),
+                plan.parcelCount()));
+    }
+
+    private IllegalArgumentException shippingUnavailable(Carrier carrier) {
+        return new IllegalArgumentException(carrier != null
+                ? "선택한 배송 수단으로는 보낼 수 없는 무게/부피입니다: " + carrier
+                : "배송 가능한 수단이 없는 무게/부피입니다.");
+    }
+
+    // 옵션/배송 수단과 무관한 합계 (단위: 원, g, cm^3)
+    private record Aggregates(long productTotalKRW, long serviceFeeKRW,
+                              double totalActualWeightG, double totalVolumeCm3,
+                              double volumetricWeightG, double chargeableWeightG) {
+    }
+
+    // 견적에 반영할 배송 선택 결과 (소포가 여러 개면 합계 요금 / 가장 늦은 배송일)
+    private record ShippingSelection(String carrier, long yen, int transitDays, int parcelCount) {
     }
 
     private long roundUpTo10Won(double value) {
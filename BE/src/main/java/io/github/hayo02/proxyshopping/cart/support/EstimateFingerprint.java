@@ -0,0 +1,59 @@
+package io.github.hayo02.proxyshopping.cart.support;
+
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateRequest;
+import io.github.hayo02.proxyshopping.cart.entity.CartItem;
+import io.github.hayo02.proxyshopping.cart.support.rate.Carrier;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingPreference;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 견적 결과를 결정하는 입력값 묶음.
+ * - 아이템(id, 가격, AI 무게/부피), 옵션, 배송 수단 선택, 요율표/환율 버전이 모두 같으면 견적도 같다
+ * - record equals 로 비교하므로 해시 충돌 없이 정확히 일치할 때만 재사용
+ * - cart_estimate 에는 digest() 로 저장해 다른 노드가 행을 바꿨는지 비교
+ */
+public record EstimateFingerprint(List<ItemKey> items,
+                                  boolean extraPackaging,
+                                  boolean insurance,
+                                  Carrier carrier,
+                                  ShippingPreference shippingPreference,
+                                  String rateTableVersion,
+                                  long exchangeRateVersion) {
+
+    public static EstimateFingerprint of(List<CartItem> items, CartEstimateRequest request,
+                                         String rateTableVersion, long exchangeRateVersion) {
+        List<ItemKey> keys = items.stream()
+                .map(i -> new ItemKey(i.getId(), i.getPriceKRW(), i.getAiWeightG(), i.getAiVolumeCm3()))
+                .sorted(Comparator.comparing(ItemKey::id, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+        return new EstimateFingerprint(keys,
+                request.isExtraPackaging(),
+                request.isInsurance(),
+                request.getCarrier(),
+                request.getShippingPreference(),
+                rateTableVersion,
+                exchangeRateVersion);
+    }
+
+    /**
+     * cart_estimate.fingerprint 에 저장하는 SHA-256 hex (record toString 은 필드 순서가 고정이라 입력이 같으면 같은 값)
+     */
+    public String digest() {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public record ItemKey(Long id, Integer priceKRW, Double aiWeightG, Double aiVolumeCm3) {
+    }
+}
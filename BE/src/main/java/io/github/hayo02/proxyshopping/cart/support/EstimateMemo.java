@@ -0,0 +1,63 @@
+package io.github.hayo02.proxyshopping.cart.support;
+
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateResponse;
+import io.github.hayo02.proxyshopping.cart.entity.CartEstimate;
+import io.github.hayo02.proxyshopping.common.cache.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 세션(proxySid)별 마지막으로 저장한 견적 메모.
+ * - cart_estimate 에 마지막으로 저장한 행과 응답, 그 입력값(fingerprint)을 함께 보관
+ * - 같은 입력으로 다시 요청하면 재계산(배송 수단 선택/소포 분할)을 생략, 저장된 행은 호출 측이
+ *   cart_estimate.fingerprint 와 비교해 다를 때만 다시 upsert
+ *   (노드 로컬 메모리라 다른 노드가 그 사이 cart_estimate 를 바꿨을 수 있음, 세션 고정 전제 없음)
+ * - 장바구니 변경, 견적 삭제 시 invalidate (입력은 fingerprint 로 비교하므로 다른 노드의 변경도 재계산됨)
+ */
+@Component
+public class EstimateMemo {
+
+    private final LruCache<String, Entry> cache;
+
+    public EstimateMemo(@Value("${cart.estimate-cache.max-entries:10000}") int maxEntries) {
+        this.cache = new LruCache<>(maxEntries);
+    }
+
+    public Entry lookup(String proxySid, EstimateFingerprint fingerprint) {
+        Entry entry = cache.get(proxySid);
+        if (entry == null || !entry.fingerprint().equals(fingerprint)) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 견적 저장이 커밋된 뒤에만 메모에 반영 (롤백된 견적을 재사용하지 않도록)
+     */
+    public void remember(String proxySid, EstimateFingerprint fingerprint, CartEstimate estimate,
+                         CartEstimateResponse response) {
+        Entry entry = new Entry(fingerprint, estimate, response);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(proxySid, entry);
+                }
+            });
+        } else {
+            cache.put(proxySid, entry);
+        }
+    }
+
+    public void invalidate(String proxySid) {
+        cache.remove(proxySid);
+    }
+
+    /**
+     * 메모 한 건 (estimate: cart_estimate 에 저장한 행, 읽기 전용으로만 사용)
+     */
+    public record Entry(EstimateFingerprint fingerprint, CartEstimate estimate, CartEstimateResponse response) {
+    }
+}
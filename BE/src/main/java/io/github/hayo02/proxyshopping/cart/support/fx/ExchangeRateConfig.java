@@ -0,0 +1,45 @@
+package io.github.hayo02.proxyshopping.cart.support.fx;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+@Configuration
+public class ExchangeRateConfig {
+
+    // exchange-rate.source=file (기본): 로컬 파일
+    @Bean
+    @ConditionalOnProperty(prefix = "exchange-rate", name = "source", havingValue = "file", matchIfMissing = true)
+    public ExchangeRateSource fileExchangeRateSource(
+            ResourceLoader resourceLoader,
+            ObjectMapper objectMapper,
+            @Value("${exchange-rate.file:classpath:fx/jpy-krw.json}") String location
+    ) {
+        return new FileExchangeRateSource(resourceLoader, objectMapper, location);
+    }
+
+    // exchange-rate.source=http: 외부 환율 API (또는 로컬 스텁 서버)
+    @Bean
+    @ConditionalOnProperty(prefix = "exchange-rate", name = "source", havingValue = "http")
+    public ExchangeRateSource httpExchangeRateSource(
+            @Value("${exchange-rate.http.url}") String url,
+            @Value("${exchange-rate.http.rate-pointer:/rate}") String ratePointer,
+            @Value("${exchange-rate.http.timeout-ms:3000}") long timeoutMs
+    ) {
+        return new HttpExchangeRateSource(WebClient.create(), url, ratePointer, Duration.ofMillis(timeoutMs));
+    }
+
+    @Bean
+    public ExchangeRateProvider exchangeRateProvider(
+            ExchangeRateSource source,
+            @Value("${exchange-rate.fallback-rate:10.0}") double fallbackRate
+    ) {
+        return new RefreshingExchangeRateProvider(source, fallbackRate);
+    }
+}
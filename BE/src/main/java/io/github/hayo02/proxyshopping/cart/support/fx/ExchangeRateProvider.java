@@ -0,0 +1,10 @@
+package io.github.hayo02.proxyshopping.cart.support.fx;
+
+/**
+ * 현재 엔→원 환율 조회.
+ * 구현체는 네트워크 호출 없이 메모리의 스냅샷만 반환해야 한다 (견적마다 호출됨).
+ */
+public interface ExchangeRateProvider {
+
+    ExchangeRateSnapshot current();
+}
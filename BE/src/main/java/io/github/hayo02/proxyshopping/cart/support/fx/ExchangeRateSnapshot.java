@@ -0,0 +1,10 @@
+package io.github.hayo02.proxyshopping.cart.support.fx;
+
+import java.time.Instant;
+
+/**
+ * 특정 시점의 엔→원 환율 (불변).
+ * - version: 환율이 바뀔 때마다 증가 (견적에 어떤 환율을 썼는지 기록용)
+ */
+public record ExchangeRateSnapshot(long version, double yenToKrw, String source, Instant fetchedAt) {
+}
@@ -0,0 +1,15 @@
+package io.github.hayo02.proxyshopping.cart.support.fx;
+
+/**
+ * 환율 원천 (파일, 외부 API 등). Provider 생성 시 1회와 스케줄러 스레드에서만 호출된다.
+ */
+public interface ExchangeRateSource {
+
+    /**
+     * @return 1엔당 원화
+     * @throws Exception 조회 실패 시 (직전 스냅샷 유지)
+     */
+    double fetchYenToKrw() throws Exception;
+
+    String name();
+}
@@ -0,0 +1,43 @@
+package io.github.hayo02.proxyshopping.cart.support.fx;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.InputStream;
+
+/**
+ * 로컬 JSON 파일 환율 원천 ({"rate": 9.35} 형태).
+ * 운영에서는 file: 경로를 지정해 파일만 교체하면 다음 갱신 주기에 반영된다.
+ */
+public class FileExchangeRateSource implements ExchangeRateSource {
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String location;
+
+    public FileExchangeRateSource(ResourceLoader resourceLoader, ObjectMapper objectMapper, String location) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.location = location;
+    }
+
+    @Override
+    public double fetchYenToKrw() throws Exception {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream in = resource.getInputStream()) {
+            JsonNode root = objectMapper.readTree(in);
+            JsonNode rate = root.get("rate");
+            if (rate == null || !rate.isNumber()) {
+                throw new IllegalStateException("환율 파일에 rate 값이 없습니다: " + location);
+            }
+            return rate.asDouble();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "file:" + location;
+    }
+}
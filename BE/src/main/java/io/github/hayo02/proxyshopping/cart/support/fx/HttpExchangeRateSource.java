@@ -0,0 +1,45 @@
+package io.github.hayo02.proxyshopping.cart.support.fx;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+/**
+ * 외부 환율 API 원천.
+ * - url 응답 JSON 에서 ratePointer(JSON Pointer, 예: /rates/KRW) 위치의 값을 1엔당 원화로 사용
+ */
+public class HttpExchangeRateSource implements ExchangeRateSource {
+
+    private final WebClient webClient;
+    private final String url;
+    private final String ratePointer;
+    private final Duration timeout;
+
+    public HttpExchangeRateSource(WebClient webClient, String url, String ratePointer, Duration timeout) {
+        this.webClient = webClient;
+        this.url = url;
+        this.ratePointer = ratePointer;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public double fetchYenToKrw() {
+        JsonNode root = webClient.get()
+                .uri(url)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block(timeout);
+
+        JsonNode rate = root == null ? null : root.at(ratePointer);
+        if (rate == null || !rate.isNumber()) {
+            throw new IllegalStateException("환율 응답에서 " + ratePointer + " 값을 찾을 수 없습니다.");
+        }
+        return rate.asDouble();
+    }
+
+    @Override
+    public String name() {
+        return "http:" + url;
+    }
+}
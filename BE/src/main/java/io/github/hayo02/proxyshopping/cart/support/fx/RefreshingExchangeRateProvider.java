@@ -0,0 +1,66 @@
+package io.github.hayo02.proxyshopping.cart.support.fx;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주기적으로 원천에서 환율을 받아 스냅샷을 원자적으로 교체하는 Provider.
+ * - 견적 쪽은 current() 로 AtomicReference 를 읽기만 함 (락/네트워크 없음)
+ * - 조회 실패/비정상 값이면 직전 스냅샷 유지, 값이 같으면 버전도 유지
+ * - 생성 시 원천을 한 번 조회해 첫 견적부터 실제 환율 사용 (실패할 때만 fallback 스냅샷으로 시작)
+ */
+public class RefreshingExchangeRateProvider implements ExchangeRateProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshingExchangeRateProvider.class);
+
+    private final ExchangeRateSource source;
+    private final AtomicReference<ExchangeRateSnapshot> current;
+
+    public RefreshingExchangeRateProvider(ExchangeRateSource source, double fallbackYenToKrw) {
+        this.source = source;
+        this.current = new AtomicReference<>(
+                new ExchangeRateSnapshot(0L, fallbackYenToKrw, "fallback", Instant.now()));
+        refresh();
+    }
+
+    @Override
+    public ExchangeRateSnapshot current() {
+        return current.get();
+    }
+
+    // 생성 시 이미 한 번 조회했으므로 첫 실행도 한 주기 뒤
+    @Scheduled(initialDelayString = "${exchange-rate.refresh-interval-ms:600000}",
+            fixedDelayString = "${exchange-rate.refresh-interval-ms:600000}")
+    public void refresh() {
+        double rate;
+        try {
+            rate = source.fetchYenToKrw();
+        } catch (Exception e) {
+            log.warn("환율 갱신 실패 - source: {}, 오류: {} (기존 환율 유지)", source.name(), e.getMessage());
+            return;
+        }
+        if (!Double.isFinite(rate) || rate <= 0) {
+            log.warn("비정상 환율 무시 - source: {}, rate: {}", source.name(), rate);
+            return;
+        }
+
+        ExchangeRateSnapshot prev = current.get();
+        if (Double.compare(prev.yenToKrw(), rate) == 0) {
+            return;
+        }
+
+        // 버전은 단조 증가 (재기동 후에도 겹치지 않도록 시각 기반)
+        Instant now = Instant.now();
+        long version = Math.max(prev.version() + 1, now.toEpochMilli());
+        ExchangeRateSnapshot next = new ExchangeRateSnapshot(version, rate, source.name(), now);
+
+        // 갱신은 생성 시와 스케줄러(같은 작업은 겹쳐 실행되지 않음)에서만 일어나므로 CAS 실패 시 덮어쓰지 않음
+        if (current.compareAndSet(prev, next)) {
+            log.info("환율 갱신: {} → {} (version {}, source {})", prev.yenToKrw(), rate, version, source.name());
+        }
+    }
+}
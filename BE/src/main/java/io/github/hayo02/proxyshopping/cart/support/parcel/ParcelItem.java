@@ -0,0 +1,7 @@
+package io.github.hayo02.proxyshopping.cart.support.parcel;
+
+/**
+ * 소포 분할 대상 아이템 (단위: g, cm^3)
+ */
+public record ParcelItem(Long itemId, double weightG, double volumeCm3) {
+}
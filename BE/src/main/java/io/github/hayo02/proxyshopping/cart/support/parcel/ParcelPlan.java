@@ -0,0 +1,47 @@
+package io.github.hayo02.proxyshopping.cart.support.parcel;
+
+import io.github.hayo02.proxyshopping.cart.support.rate.Carrier;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 소포 분할 결과.
+ * - parcels: 소포별 아이템/무게/배송 수단/요금
+ * - totalYen: 전체 국제 배송비 (엔)
+ * - 한도를 넘는 소포(feasible=false)가 하나라도 있으면 실제로 보낼 수 없는 분할 (요금은 참고용)
+ */
+public record ParcelPlan(List<Parcel> parcels, long totalYen) {
+
+    public boolean feasible() {
+        return parcels.stream().allMatch(Parcel::feasible);
+    }
+
+    public int parcelCount() {
+        return parcels.size();
+    }
+
+    // 가장 늦게 도착하는 소포 기준 배송일
+    public int transitDays() {
+        return parcels.stream().mapToInt(Parcel::transitDays).max().orElse(0);
+    }
+
+    // 소포별 배송 수단 요약 (예: EMS, EMS+EPACKET)
+    public String carrierSummary() {
+        return parcels.stream()
+                .map(p -> p.carrier().name())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining("+"));
+    }
+
+    public record Parcel(List<Long> itemIds,
+                         double weightG,
+                         double volumeCm3,
+                         double chargeableWeightG,
+                         Carrier carrier,
+                         long yen,
+                         int transitDays,
+                         boolean feasible) {
+    }
+}
@@ -0,0 +1,454 @@
+package io.github.hayo02.proxyshopping.cart.support.parcel;
+
+import io.github.hayo02.proxyshopping.cart.support.rate.RateTable;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * 장바구니 아이템을 여러 소포로 나눠 국제 배송비 합계를 최소화하는 최적화기.
+ * - 아이템이 적으면(EXHAUSTIVE_MAX_ITEMS 이하) 모든 분할을 전수 조사해 바로 반환 (워커 미사용)
+ * - 1단계: 무게 내림차순 First-Fit 으로 배송 수단 한도 안에서 초기 분할 (greedy seed)
+ * - 2단계: ForkJoinPool 워커들이 각자 다른 난수로 이동/교환 국소 탐색 (담금질)
+ * - 워커 난수는 seed + 장바구니 아이템 기준으로 고정, 반복 횟수도 상한이 있어 같은 장바구니는 같은 분할
+ * - 시간 예산(timeBudgetMs) 안에서 찾은 최선의 분할을 반환 (예산이 끝나면 즉시 종료)
+ * - 소포 요금은 후보 배송 수단 중 한도를 만족하는 최저가 기준, 어느 수단 한도도 못 맞춘 소포가 있으면 infeasible 분할
+ */
+@Component
+public class ParcelSplitOptimizer {
+
+    private static final Logger log = LoggerFactory.getLogger(ParcelSplitOptimizer.class);
+
+    // 어떤 배송 수단 한도도 만족하지 못하는 소포에 붙는 벌점 (탐색이 한도 안으로 나누도록 유도)
+    private static final long INFEASIBLE_PENALTY_YEN = 1_000_000_000L;
+
+    // 이 개수 이하면 전수 조사 (Bell(8) = 4140 가지 분할)
+    static final int EXHAUSTIVE_MAX_ITEMS = 8;
+
+    private final ForkJoinPool pool;
+    private final int workers;
+    private final long seed;
+    private final long maxIterations;
+
+    @Autowired
+    public ParcelSplitOptimizer(@Value("${shipping.parcel-split.parallelism:0}") int parallelism,
+                                @Value("${shipping.parcel-split.seed:42}") long seed,
+                                @Value("${shipping.parcel-split.max-iterations:200000}") long maxIterations) {
+        this.workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(workers);
+        this.seed = seed;
+        this.maxIterations = maxIterations > 0 ? maxIterations : Long.MAX_VALUE;
+    }
+
+    public ParcelSplitOptimizer(int parallelism) {
+        this(parallelism, 42L, 200_000L);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public ParcelPlan optimize(List<ParcelItem> items, List<RateTable> carriers,
+                               double densityCoeff, long timeBudgetMs) {
+        if (carriers.isEmpty()) {
+            throw new IllegalArgumentException("소포 분할에 사용할 배송 수단이 없습니다.");
+        }
+        if (items.isEmpty()) {
+            return new ParcelPlan(List.of(), 0L);
+        }
+
+        Problem problem = new Problem(items, carriers, densityCoeff);
+        if (items.size() <= EXHAUSTIVE_MAX_ITEMS) {
+            return problem.toPlan(problem.exhaustive());
+        }
+        int[] initial = problem.greedySeed();
+        if (timeBudgetMs <= 0) {
+            return problem.toPlan(initial);
+        }
+
+        long deadline = System.nanoTime() + timeBudgetMs * 1_000_000L;
+        long cartSeed = seed;
+        for (ParcelItem item : items) {
+            cartSeed = 31L * cartSeed + (item.itemId() != null ? item.itemId() : 0L);
+        }
+        List<Callable<int[]>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            long randomSeed = cartSeed + 0x9E3779B97F4A7C15L * (w + 1);
+            tasks.add(() -> new LocalSearch(problem, initial, new SplittableRandom(randomSeed), deadline, maxIterations).run());
+        }
+
+        // 같은 비용이면 앞 워커 결과 유지 (결과가 워커 완료 순서에 좌우되지 않도록)
+        int[] best = initial;
+        long bestCost = problem.totalCost(initial);
+        try {
+            for (Future<int[]> future : pool.invokeAll(tasks)) {
+                int[] candidate = future.get();
+                long cost = problem.totalCost(candidate);
+                if (cost < bestCost) {
+                    best = candidate;
+                    bestCost = cost;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("소포 분할 탐색 실패 (초기 분할 사용): {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        }
+        return problem.toPlan(best);
+    }
+
+    /**
+     * 탐색 전 구간에서 공유하는 읽기 전용 문제 정의
+     */
+    static final class Problem {
+        final int n;
+        final double[] weightG;
+        final double[] volumeCm3;
+        final Long[] itemIds;
+        final RateTable[] tables;
+        final double densityCoeff;
+        // 한도를 벗어난 소포의 참고 요금 계산용 (초과 요금이 있는 수단 우선, 그 중 한도가 가장 큰 배송 수단)
+        final RateTable overflowTable;
+
+        Problem(List<ParcelItem> items, List<RateTable> carriers, double densityCoeff) {
+            this.n = items.size();
+            this.weightG = new double[n];
+            this.volumeCm3 = new double[n];
+            this.itemIds = new Long[n];
+            for (int i = 0; i < n; i++) {
+                ParcelItem item = items.get(i);
+                weightG[i] = item.weightG();
+                volumeCm3[i] = item.volumeCm3();
+                itemIds[i] = item.itemId();
+            }
+            this.tables = carriers.toArray(new RateTable[0]);
+            this.densityCoeff = densityCoeff;
+            this.overflowTable = carriers.stream()
+                    .max(Comparator.comparing((RateTable t) -> t.getOverflowPerKgYen() > 0)
+                            .thenComparingLong(RateTable::getMaxWeightG))
+                    .orElseThrow();
+        }
+
+        double chargeable(double w, double v) {
+            return Math.max(w, v * densityCoeff);
+        }
+
+        // 소포 하나의 요금 (빈 소포는 0)
+        long cost(double w, double v) {
+            if (w <= 0 && v <= 0) {
+                return 0L;
+            }
+            double chargeableG = chargeable(w, v);
+            long best = Long.MAX_VALUE;
+            for (RateTable table : tables) {
+                if (table.accepts(chargeableG, v)) {
+                    best = Math.min(best, table.yenFor(chargeableG));
+                }
+            }
+            return best != Long.MAX_VALUE ? best : referenceYen(chargeableG) + INFEASIBLE_PENALTY_YEN;
+        }
+
+        // 한도를 벗어난 소포의 참고 요금 (요율표 범위도 넘으면 마지막 구간 요금, 실제 청구에는 쓰지 않음)
+        long referenceYen(double chargeableG) {
+            return overflowTable.priceable(chargeableG)
+                    ? overflowTable.yenFor(chargeableG)
+                    : overflowTable.yenFor(overflowTable.getLastBandWeightG());
+        }
+
+        /**
+         * 전수 조사: restricted growth string 으로 모든 분할을 한 번씩 만들어 최저 비용 분할 선택
+         */
+        int[] exhaustive() {
+            int[] assign = new int[n];
+            int[] best = assign.clone();
+            long bestCost = totalCost(assign);
+            // maxUsed[i] = assign[0..i-1] 중 최대 소포 번호
+            int[] maxUsed = new int[n];
+            while (true) {
+                int i = n - 1;
+                while (i > 0 && assign[i] > maxUsed[i]) {
+                    i--;
+                }
+                if (i == 0) {
+                    return best;
+                }
+                assign[i]++;
+                for (int j = i + 1; j < n; j++) {
+                    assign[j] = 0;
+                    maxUsed[j] = Math.max(maxUsed[j - 1], assign[j - 1]);
+                }
+                long cost = totalCost(assign);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = assign.clone();
+                }
+            }
+        }
+
+        RateTable carrierFor(double w, double v) {
+            double chargeableG = chargeable(w, v);
+            RateTable best = null;
+            for (RateTable table : tables) {
+                if (table.accepts(chargeableG, v)
+                        && (best == null || table.yenFor(chargeableG) < best.yenFor(chargeableG))) {
+                    best = table;
+                }
+            }
+            return best != null ? best : overflowTable;
+        }
+
+        boolean feasible(double w, double v) {
+            double chargeableG = chargeable(w, v);
+            for (RateTable table : tables) {
+                if (table.accepts(chargeableG, v)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 무게 내림차순 First-Fit: 넣어도 한도를 넘지 않는 첫 소포에 배치, 없으면 새 소포
+         */
+        int[] greedySeed() {
+            Integer[] order = IntStream.range(0, n).boxed().toArray(Integer[]::new);
+            Arrays.sort(order, (a, b) ->
+                    Double.compare(chargeable(weightG[b], volumeCm3[b]), chargeable(weightG[a], volumeCm3[a])));
+
+            int[] assign = new int[n];
+            double[] pw = new double[n];
+            double[] pv = new double[n];
+            int parcels = 0;
+            for (int i : order) {
+                int target = -1;
+                for (int p = 0; p < parcels; p++) {
+                    if (feasible(pw[p] + weightG[i], pv[p] + volumeCm3[i])) {
+                        target = p;
+                        break;
+                    }
+                }
+                if (target < 0) {
+                    target = parcels++;
+                }
+                assign[i] = target;
+                pw[target] += weightG[i];
+                pv[target] += volumeCm3[i];
+            }
+            return assign;
+        }
+
+        long totalCost(int[] assign) {
+            double[] pw = new double[n];
+            double[] pv = new double[n];
+            for (int i = 0; i < n; i++) {
+                pw[assign[i]] += weightG[i];
+                pv[assign[i]] += volumeCm3[i];
+            }
+            long total = 0;
+            for (int p = 0; p < n; p++) {
+                total += cost(pw[p], pv[p]);
+            }
+            return total;
+        }
+
+        ParcelPlan toPlan(int[] assign) {
+            Map<Integer, List<Integer>> byParcel = new LinkedHashMap<>();
+            for (int i = 0; i < n; i++) {
+                byParcel.computeIfAbsent(assign[i], k -> new ArrayList<>()).add(i);
+            }
+
+            List<ParcelPlan.Parcel> parcels = new ArrayList<>();
+            long total = 0;
+            for (List<Integer> members : byParcel.values()) {
+                double w = 0;
+                double v = 0;
+                List<Long> ids = new ArrayList<>(members.size());
+                for (int i : members) {
+                    w += weightG[i];
+                    v += volumeCm3[i];
+                    ids.add(itemIds[i]);
+                }
+                RateTable table = carrierFor(w, v);
+                double chargeableG = chargeable(w, v);
+                boolean feasible = feasible(w, v);
+                long yen = feasible ? table.yenFor(chargeableG) : referenceYen(chargeableG);
+                total += yen;
+                parcels.add(new ParcelPlan.Parcel(ids, w, v, chargeableG, table.getCarrier(), yen,
+                        table.getTransitDays(), feasible));
+            }
+            parcels.sort(Comparator.comparingDouble(ParcelPlan.Parcel::chargeableWeightG).reversed());
+            return new ParcelPlan(parcels, total);
+        }
+    }
+
+    /**
+     * 워커 하나의 국소 탐색 (아이템 이동 / 두 아이템 교환, 시간에 따라 온도가 내려가는 담금질)
+     */
+    static final class LocalSearch {
+        private final Problem problem;
+        private final SplittableRandom random;
+        private final long deadline;
+        private final long maxIterations;
+
+        private final int[] assign;
+        private final double[] pw;
+        private final double[] pv;
+        private final long[] pc;
+        private final int[] count;
+
+        LocalSearch(Problem problem, int[] seed, SplittableRandom random, long deadline, long maxIterations) {
+            this.problem = problem;
+            this.random = random;
+            this.deadline = deadline;
+            this.maxIterations = maxIterations;
+            int n = problem.n;
+            this.assign = seed.clone();
+            this.pw = new double[n];
+            this.pv = new double[n];
+            this.pc = new long[n];
+            this.count = new int[n];
+            for (int i = 0; i < n; i++) {
+                pw[assign[i]] += problem.weightG[i];
+                pv[assign[i]] += problem.volumeCm3[i];
+                count[assign[i]]++;
+            }
+            for (int p = 0; p < n; p++) {
+                pc[p] = problem.cost(pw[p], pv[p]);
+            }
+        }
+
+        int[] run() {
+            int n = problem.n;
+            long current = 0;
+            int used = 0;
+            for (int p = 0; p < n; p++) {
+                current += pc[p];
+                if (count[p] > 0) used++;
+            }
+            long best = current;
+            int[] bestAssign = assign.clone();
+
+            long start = System.nanoTime();
+            double span = Math.max(1, deadline - start);
+            double initialTemp = Math.max(1.0, (current % INFEASIBLE_PENALTY_YEN) * 0.02 / Math.max(1, used));
+            double temp = initialTemp;
+
+            for (long iter = 1; iter <= maxIterations; iter++) {
+                if ((iter & 255) == 0) {
+                    long now = System.nanoTime();
+                    if (now >= deadline || Thread.currentThread().isInterrupted()) {
+                        break;
+                    }
+                    // 반복 상한이 있으면 반복 횟수 기준으로 식혀 실행 속도와 무관하게 같은 경로를 밟음
+                    double progress = maxIterations != Long.MAX_VALUE
+                            ? (double) iter / maxIterations
+                            : (now - start) / span;
+                    temp = initialTemp * (1.0 - progress);
+                }
+
+                long delta = random.nextBoolean() ? tryRelocate(temp) : trySwap(temp);
+                if (delta == 0) {
+                    continue;
+                }
+                current += delta;
+                if (current < best) {
+                    best = current;
+                    System.arraycopy(assign, 0, bestAssign, 0, n);
+                }
+            }
+            return bestAssign;
+        }
+
+        // 아이템 하나를 다른(또는 빈) 소포로 이동. 적용했으면 비용 변화량, 아니면 0
+        private long tryRelocate(double temp) {
+            int n = problem.n;
+            int i = random.nextInt(n);
+            int a = assign[i];
+            // 대부분은 기존 소포로, 가끔은 임의 슬롯(빈 소포일 수 있음)으로 이동
+            int b = random.nextInt(10) == 0 ? random.nextInt(n) : assign[random.nextInt(n)];
+            if (a == b) {
+                return 0;
+            }
+
+            double w = problem.weightG[i];
+            double v = problem.volumeCm3[i];
+            double aw = count[a] == 1 ? 0 : pw[a] - w;
+            double av = count[a] == 1 ? 0 : pv[a] - v;
+            long ca = problem.cost(aw, av);
+            long cb = problem.cost(pw[b] + w, pv[b] + v);
+            long delta = ca + cb - pc[a] - pc[b];
+            if (!accept(delta, temp)) {
+                return 0;
+            }
+
+            assign[i] = b;
+            pw[a] = aw;
+            pv[a] = av;
+            pc[a] = ca;
+            count[a]--;
+            pw[b] += w;
+            pv[b] += v;
+            pc[b] = cb;
+            count[b]++;
+            return delta;
+        }
+
+        // 서로 다른 소포의 두 아이템 교환. 적용했으면 비용 변화량, 아니면 0
+        private long trySwap(double temp) {
+            int n = problem.n;
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            int a = assign[i];
+            int b = assign[j];
+            if (a == b) {
+                return 0;
+            }
+
+            double dw = problem.weightG[j] - problem.weightG[i];
+            double dv = problem.volumeCm3[j] - problem.volumeCm3[i];
+            long ca = problem.cost(pw[a] + dw, pv[a] + dv);
+            long cb = problem.cost(pw[b] - dw, pv[b] - dv);
+            long delta = ca + cb - pc[a] - pc[b];
+            if (!accept(delta, temp)) {
+                return 0;
+            }
+
+            assign[i] = b;
+            assign[j] = a;
+            pw[a] += dw;
+            pv[a] += dv;
+            pc[a] = ca;
+            pw[b] -= dw;
+            pv[b] -= dv;
+            pc[b] = cb;
+            return delta;
+        }
+
+        private boolean accept(long delta, double temp) {
+            if (delta < 0) {
+                return true;
+            }
+            if (delta == 0 || temp <= 0) {
+                return false;
+            }
+            return random.nextDouble() < Math.exp(-delta / temp);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.hayo02.proxyshopping.cart.support.rate;
+
+/**
+ * 일본 우편 국제 배송 수단
+ */
+public enum Carrier {
+    EMS,      // 국제 특급 우편 (빠름, 비쌈)
+    SAL,      // SAL 소포 (느림, 중량 구간이 큼)
+    EPACKET   // 국제 e패킷 (2kg 이하 소형)
+}
@@ -0,0 +1,127 @@
+package io.github.hayo02.proxyshopping.cart.support.rate;
+
+import java.util.List;
+
+/**
+ * 요율표를 무게 단위(stepG) 인덱스의 long 배열로 컴파일한 결과.
+ * - 구간 상한들의 최대공약수를 한 칸으로 잡아 yenByStep[ceil(weightG / stepG)] 로 바로 조회 (O(1))
+ * - 마지막 구간 초과분은 overflowPerKgYen 으로 kg 단위 올림 계산 (0이면 초과 무게는 요금을 매기지 않고 거절)
+ */
+public final class RateTable {
+
+    private final Carrier carrier;
+    private final int zone;
+    private final String version;
+    private final int transitDays;
+    private final long maxWeightG;
+    private final double maxVolumeCm3;
+    private final long overflowPerKgYen;
+
+    private final int stepG;
+    private final long[] yenByStep;
+    private final long lastBandWeightG;
+
+    private RateTable(RateTableDefinition def, int stepG, long[] yenByStep, long lastBandWeightG) {
+        this.carrier = def.getCarrier();
+        this.zone = def.getZone();
+        this.version = def.getVersion();
+        this.transitDays = def.getTransitDays();
+        this.maxWeightG = def.getMaxWeightG() > 0 ? def.getMaxWeightG() : Long.MAX_VALUE;
+        this.maxVolumeCm3 = def.getMaxVolumeCm3() > 0 ? def.getMaxVolumeCm3() : Double.MAX_VALUE;
+        this.overflowPerKgYen = def.getOverflowPerKgYen();
+        this.stepG = stepG;
+        this.yenByStep = yenByStep;
+        this.lastBandWeightG = lastBandWeightG;
+    }
+
+    public static RateTable compile(RateTableDefinition def) {
+        if (def.getCarrier() == null) {
+            throw new IllegalArgumentException("요율표에 carrier가 없습니다.");
+        }
+        List<RateTableDefinition.Band> bands = def.getBands();
+        if (bands == null || bands.isEmpty()) {
+            throw new IllegalArgumentException("요율표 구간이 비어 있습니다: " + def.getCarrier());
+        }
+
+        long step = 0;
+        long prevMax = 0;
+        for (RateTableDefinition.Band band : bands) {
+            if (band.getMaxWeightG() <= prevMax) {
+                throw new IllegalArgumentException("요율표 구간은 무게 오름차순이어야 합니다: " + def.getCarrier());
+            }
+            step = gcd(step, band.getMaxWeightG());
+            prevMax = band.getMaxWeightG();
+        }
+
+        long lastBandWeightG = prevMax;
+        int size = (int) (lastBandWeightG / step) + 1;
+        long[] yenByStep = new long[size];
+
+        // 인덱스 i = 무게 (i * step)g 까지를 커버하는 첫 구간 요금 (0번은 0g → 0엔)
+        int bandIdx = 0;
+        for (int i = 1; i < size; i++) {
+            long weightG = i * step;
+            while (bands.get(bandIdx).getMaxWeightG() < weightG) {
+                bandIdx++;
+            }
+            yenByStep[i] = bands.get(bandIdx).getYen();
+        }
+
+        return new RateTable(def, (int) step, yenByStep, lastBandWeightG);
+    }
+
+    /**
+     * 청구 기준 무게(g)에 대한 요금(엔).
+     * 초과 요금이 없는 요율표에서 마지막 구간을 넘으면 IllegalArgumentException (마지막 구간 요금으로 대신하지 않음)
+     */
+    public long yenFor(double weightG) {
+        if (weightG <= 0) {
+            return 0L;
+        }
+        double steps = Math.ceil(weightG / stepG);
+        if (steps < yenByStep.length) {
+            return yenByStep[(int) steps];
+        }
+        if (!priceable(weightG)) {
+            throw new IllegalArgumentException("요율표 범위를 넘는 무게입니다: " + carrier + " " + (long) Math.ceil(weightG) + "g");
+        }
+        // 마지막 구간 초과: kg당 추가 요금 (kg 단위 올림)
+        double extraKg = (weightG - lastBandWeightG) / 1000.0;
+        return yenByStep[yenByStep.length - 1] + (long) Math.ceil(extraKg) * overflowPerKgYen;
+    }
+
+    /**
+     * 소포 1개 기준 배송 가능 여부 (무게/부피 한도)
+     */
+    public boolean accepts(double weightG, double volumeCm3) {
+        if (weightG > maxWeightG || volumeCm3 > maxVolumeCm3) {
+            return false;
+        }
+        return priceable(weightG);
+    }
+
+    /**
+     * 요율표로 요금을 매길 수 있는 무게인지 (마지막 구간 이내이거나 초과 요금이 있음, 한도와는 별개)
+     */
+    public boolean priceable(double weightG) {
+        return weightG <= lastBandWeightG || overflowPerKgYen > 0;
+    }
+
+    public Carrier getCarrier() { return carrier; }
+    public int getZone() { return zone; }
+    public String getVersion() { return version; }
+    public int getTransitDays() { return transitDays; }
+    public long getMaxWeightG() { return maxWeightG; }
+    public double getMaxVolumeCm3() { return maxVolumeCm3; }
+    public long getLastBandWeightG() { return lastBandWeightG; }
+    public long getOverflowPerKgYen() { return overflowPerKgYen; }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.hayo02.proxyshopping.cart.support.rate;
+
+import java.util.List;
+
+/**
+ * 요율표 설정 파일(shipping/rates/*.json) 매핑 DTO.
+ * - bands: 무게 상한(g) 오름차순, 해당 구간 요금(엔)
+ * - overflowPerKgYen: 마지막 구간 초과 시 kg당 추가 요금 (0이면 초과 불가)
+ * - maxWeightG / maxVolumeCm3: 배송 수단 자체의 1개 소포 한도
+ */
+public class RateTableDefinition {
+
+    private Carrier carrier;
+    private int zone;
+    private String version;
+    private int transitDays;
+    private long maxWeightG;
+    private double maxVolumeCm3;
+    private long overflowPerKgYen;
+    private List<Band> bands;
+
+    public Carrier getCarrier() { return carrier; }
+    public void setCarrier(Carrier carrier) { this.carrier = carrier; }
+
+    public int getZone() { return zone; }
+    public void setZone(int zone) { this.zone = zone; }
+
+    public String getVersion() { return version; }
+    public void setVersion(String version) { this.version = version; }
+
+    public int getTransitDays() { return transitDays; }
+    public void setTransitDays(int transitDays) { this.transitDays = transitDays; }
+
+    public long getMaxWeightG() { return maxWeightG; }
+    public void setMaxWeightG(long maxWeightG) { this.maxWeightG = maxWeightG; }
+
+    public double getMaxVolumeCm3() { return maxVolumeCm3; }
+    public void setMaxVolumeCm3(double maxVolumeCm3) { this.maxVolumeCm3 = maxVolumeCm3; }
+
+    public long getOverflowPerKgYen() { return overflowPerKgYen; }
+    public void setOverflowPerKgYen(long overflowPerKgYen) { this.overflowPerKgYen = overflowPerKgYen; }
+
+    public List<Band> getBands() { return bands; }
+    public void setBands(List<Band> bands) { this.bands = bands; }
+
+    public static class Band {
+        private long maxWeightG;
+        private long yen;
+
+        public Band() {
+        }
+
+        public Band(long maxWeightG, long yen) {
+            this.maxWeightG = maxWeightG;
+            this.yen = yen;
+        }
+
+        public long getMaxWeightG() { return maxWeightG; }
+        public void setMaxWeightG(long maxWeightG) { this.maxWeightG = maxWeightG; }
+
+        public long getYen() { return yen; }
+        public void setYen(long yen) { this.yen = yen; }
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.hayo02.proxyshopping.cart.support.rate;
+
+/**
+ * 배송 수단을 직접 지정하지 않았을 때의 선택 기준
+ */
+public enum ShippingPreference {
+    CHEAPEST,  // 이용 가능한 배송 수단 중 최저가
+    FASTEST    // 이용 가능한 배송 수단 중 최단 배송일
+}
@@ -0,0 +1,7 @@
+package io.github.hayo02.proxyshopping.cart.support.rate;
+
+/**
+ * 배송 수단 하나에 대한 국제 배송비 견적 (엔 단위)
+ */
+public record ShippingQuote(Carrier carrier, int zone, long yen, int transitDays, String tableVersion) {
+}
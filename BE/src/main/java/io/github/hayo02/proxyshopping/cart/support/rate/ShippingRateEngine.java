@@ -0,0 +1,195 @@
+package io.github.hayo02.proxyshopping.cart.support.rate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 배송 수단/구역별 요율표 엔진.
+ * - 기동 시 shipping.rate-tables 위치의 버전별 요율표(JSON)를 읽어 RateTable 로 컴파일
+ * - [carrier][zone] 2차원 배열로 보관 → 요율표 선택과 요금 조회 모두 O(1)
+ */
+@Component
+public class ShippingRateEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ShippingRateEngine.class);
+
+    // 선택 기준이 없을 때 사용하는 기본 수단 (기존 EMS 정책)
+    private static final Carrier FALLBACK_CARRIER = Carrier.EMS;
+
+    private final RateTable[][] tables;
+    private final List<RateTable> allTables;
+    private final String version;
+
+    @Autowired
+    public ShippingRateEngine(ObjectMapper objectMapper,
+                              @Value("${shipping.rate-tables:classpath*:shipping/rates/*.json}") String location)
+            throws IOException {
+        this(loadDefinitions(objectMapper, location));
+    }
+
+    public ShippingRateEngine(List<RateTableDefinition> definitions) {
+        int maxZone = definitions.stream().mapToInt(RateTableDefinition::getZone).max().orElse(0);
+        this.tables = new RateTable[Carrier.values().length][maxZone + 1];
+        this.allTables = new ArrayList<>();
+
+        for (RateTableDefinition def : definitions) {
+            RateTable table = RateTable.compile(def);
+            RateTable prev = tables[table.getCarrier().ordinal()][table.getZone()];
+            if (prev != null) {
+                throw new IllegalStateException("요율표가 중복됩니다: " + table.getCarrier() + " zone " + table.getZone());
+            }
+            tables[table.getCarrier().ordinal()][table.getZone()] = table;
+            allTables.add(table);
+        }
+        if (allTables.isEmpty()) {
+            throw new IllegalStateException("요율표가 하나도 없습니다.");
+        }
+
+        // 요율표 조합 버전 (견적 캐시/저장 시 어떤 요율로 계산했는지 식별)
+        this.version = allTables.stream()
+                .sorted(Comparator.comparing(RateTable::getCarrier).thenComparingInt(RateTable::getZone))
+                .map(t -> t.getCarrier() + "-" + t.getZone() + ":" + t.getVersion())
+                .collect(Collectors.joining(","));
+
+        log.info("배송 요율표 로드 완료: {}", version);
+    }
+
+    /**
+     * 지정한 배송 수단의 요금 (무게 한도만 확인)
+     */
+    public ShippingQuote quote(Carrier carrier, int zone, double weightG) {
+        return quote(carrier, zone, weightG, 0);
+    }
+
+    /**
+     * 지정한 배송 수단의 소포 1개 요금.
+     * 한도(무게/부피)를 넘으면 요금을 매기지 않고 IllegalArgumentException
+     */
+    public ShippingQuote quote(Carrier carrier, int zone, double weightG, double volumeCm3) {
+        RateTable table = table(carrier, zone);
+        if (table == null) {
+            throw new IllegalArgumentException("지원하지 않는 배송 수단입니다: " + carrier + " (zone " + zone + ")");
+        }
+        if (!table.accepts(weightG, volumeCm3)) {
+            throw new IllegalArgumentException("배송 수단 한도를 넘어 보낼 수 없습니다: " + carrier
+                    + " (" + (long) Math.ceil(weightG) + "g, " + (long) Math.ceil(volumeCm3) + "cm3)");
+        }
+        return toQuote(table, weightG);
+    }
+
+    /**
+     * 이용 가능한 배송 수단 중 선택 기준에 맞는 견적을 한 번에 조회.
+     * 어느 수단도 한도를 만족하지 못하면 empty (한도를 넘는 수단의 요금으로 대신하지 않음)
+     */
+    public Optional<ShippingQuote> best(ShippingPreference preference, int zone, double weightG, double volumeCm3) {
+        RateTable best = null;
+        long bestYen = Long.MAX_VALUE;
+
+        for (RateTable[] byZone : tables) {
+            RateTable table = zone < byZone.length ? byZone[zone] : null;
+            if (table == null || !table.accepts(weightG, volumeCm3)) {
+                continue;
+            }
+            long yen = table.yenFor(weightG);
+            if (best == null || isBetter(preference, table, yen, best, bestYen)) {
+                best = table;
+                bestYen = yen;
+            }
+        }
+
+        if (best == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ShippingQuote(best.getCarrier(), best.getZone(), bestYen, best.getTransitDays(),
+                best.getVersion()));
+    }
+
+    public Optional<ShippingQuote> cheapest(int zone, double weightG, double volumeCm3) {
+        return best(ShippingPreference.CHEAPEST, zone, weightG, volumeCm3);
+    }
+
+    public Optional<ShippingQuote> fastest(int zone, double weightG, double volumeCm3) {
+        return best(ShippingPreference.FASTEST, zone, weightG, volumeCm3);
+    }
+
+    public RateTable table(Carrier carrier, int zone) {
+        RateTable[] byZone = tables[carrier.ordinal()];
+        return zone >= 0 && zone < byZone.length ? byZone[zone] : null;
+    }
+
+    /**
+     * 선택 조건에 해당하는 후보 요율표 (배송 수단 지정 > 최저가: 전체 / 최단: 가장 빠른 수단 > 기본 EMS)
+     */
+    public List<RateTable> candidates(Carrier carrier, ShippingPreference preference, int zone) {
+        if (carrier != null) {
+            RateTable table = table(carrier, zone);
+            if (table == null) {
+                throw new IllegalArgumentException("지원하지 않는 배송 수단입니다: " + carrier + " (zone " + zone + ")");
+            }
+            return List.of(table);
+        }
+        List<RateTable> inZone = allTables.stream().filter(t -> t.getZone() == zone).toList();
+        if (preference == ShippingPreference.CHEAPEST) {
+            return inZone;
+        }
+        if (preference == ShippingPreference.FASTEST) {
+            int fastest = inZone.stream().mapToInt(RateTable::getTransitDays).min().orElse(Integer.MAX_VALUE);
+            return inZone.stream().filter(t -> t.getTransitDays() == fastest).toList();
+        }
+        RateTable fallback = table(FALLBACK_CARRIER, zone);
+        return fallback != null ? List.of(fallback) : inZone;
+    }
+
+    public List<RateTable> tables() {
+        return List.copyOf(allTables);
+    }
+
+    public String version() {
+        return version;
+    }
+
+    private boolean isBetter(ShippingPreference preference, RateTable candidate, long candidateYen,
+                             RateTable current, long currentYen) {
+        if (preference == ShippingPreference.FASTEST) {
+            if (candidate.getTransitDays() != current.getTransitDays()) {
+                return candidate.getTransitDays() < current.getTransitDays();
+            }
+            return candidateYen < currentYen;
+        }
+        if (candidateYen != currentYen) {
+            return candidateYen < currentYen;
+        }
+        return candidate.getTransitDays() < current.getTransitDays();
+    }
+
+    private ShippingQuote toQuote(RateTable table, double weightG) {
+        return new ShippingQuote(table.getCarrier(), table.getZone(), table.yenFor(weightG),
+                table.getTransitDays(), table.getVersion());
+    }
+
+    private static List<RateTableDefinition> loadDefinitions(ObjectMapper objectMapper, String location)
+            throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(location);
+        List<RateTableDefinition> definitions = new ArrayList<>();
+        for (Resource resource : resources) {
+            try (InputStream in = resource.getInputStream()) {
+                definitions.add(objectMapper.readValue(in, RateTableDefinition.class));
+            }
+        }
+        return definitions;
+    }
+}
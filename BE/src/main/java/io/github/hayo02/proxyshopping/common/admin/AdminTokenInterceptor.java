@@ -0,0 +1,49 @@
+package io.github.hayo02.proxyshopping.common.admin;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 관리자 API(/api/admin/**) 토큰 확인.
+ * - X-Admin-Token 헤더가 admin.api-token 과 같을 때만 통과 (상수 시간 비교)
+ * - 토큰이 설정되지 않은 환경에서는 관리자 API 전체를 막음
+ */
+@Component
+public class AdminTokenInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminTokenInterceptor.class);
+
+    public static final String HEADER = "X-Admin-Token";
+
+    private final byte[] token;
+
+    public AdminTokenInterceptor(@Value("${admin.api-token:}") String token) {
+        this.token = token == null ? new byte[0] : token.trim().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        // CORS preflight 는 헤더 없이 옴
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        String provided = request.getHeader(HEADER);
+        if (token.length > 0 && provided != null
+                && MessageDigest.isEqual(token, provided.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        log.warn("관리자 API 접근 거부 - URI: {}, IP: {}", request.getRequestURI(), request.getRemoteAddr());
+        response.sendError(HttpServletResponse.SC_FORBIDDEN);
+        return false;
+    }
+}
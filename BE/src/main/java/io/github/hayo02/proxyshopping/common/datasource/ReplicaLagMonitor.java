@@ -0,0 +1,131 @@
+package io.github.hayo02.proxyshopping.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+
+/**
+ * 레플리카 복제 지연 감시 (하트비트 방식).
+ * - 주기마다 프라이머리의 replica_heartbeat(id=1) 에 현재 시각(ms)을 기록
+ * - 레플리카에서 같은 행을 읽어 "지금 - 레플리카에 반영된 마지막 하트비트" 를 지연으로 계산
+ * - 지연이 max-lag-ms 를 넘거나, 레플리카 조회가 실패하면 읽기 트랜잭션도 프라이머리로 보냄
+ * - 마지막 정상 확인이 확인 주기 3번보다 오래되면 (스케줄러가 멈춘 경우 등) 레플리카를 쓰지 않음
+ *
+ * 필요한 테이블 (프라이머리에서 생성 → 레플리카로 복제):
+ *   CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL);
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String UPDATE_BEAT = "UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String INSERT_BEAT = "INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)";
+    private static final String SELECT_BEAT = "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+
+    // 확인 주기 몇 번 동안 정상 확인이 없으면 판단이 낡은 것으로 보는지
+    private static final int STALE_AFTER_CHECKS = 3;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long maxLagMs;
+    private final long staleAfterMs;
+    private final Clock clock;
+
+    // 최초 확인 전에는 레플리카를 쓰지 않음
+    private volatile boolean replicaUsable = false;
+    private volatile long lastLagMs = -1;
+    // 마지막으로 레플리카를 사용 가능하다고 확인한 시각 (ms)
+    private volatile long lastUsableCheckAt;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMs, long checkIntervalMs) {
+        this(primary, replica, maxLagMs, checkIntervalMs, Clock.systemUTC());
+    }
+
+    ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMs, long checkIntervalMs, Clock clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+        this.staleAfterMs = checkIntervalMs * STALE_AFTER_CHECKS;
+        this.clock = clock;
+    }
+
+    public boolean isReplicaUsable() {
+        // check() 가 멈추면 마지막 판단을 계속 믿지 않도록 확인 시각이 오래되면 프라이머리로
+        return replicaUsable && clock.millis() - lastUsableCheckAt <= staleAfterMs;
+    }
+
+    // 마지막으로 측정한 지연 (ms, 측정 실패 시 -1)
+    public long lastLagMs() {
+        return lastLagMs;
+    }
+
+    @Scheduled(initialDelayString = "${datasource.replica.lag-check-interval-ms:1000}",
+            fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        long now = clock.millis();
+        try {
+            writeHeartbeat(now);
+        } catch (SQLException e) {
+            // 하트비트를 못 쓰면 지연이 점점 커지는 것으로 보임 → 레플리카 쪽 판단은 그대로 진행
+            log.warn("프라이머리 하트비트 기록 실패: {}", e.getMessage());
+        }
+
+        boolean usable;
+        try {
+            Long beatAt = readReplicaHeartbeat();
+            lastLagMs = beatAt == null ? -1 : Math.max(0, now - beatAt);
+            usable = beatAt != null && lastLagMs <= maxLagMs;
+        } catch (SQLException e) {
+            lastLagMs = -1;
+            usable = false;
+            log.warn("레플리카 하트비트 조회 실패: {}", e.getMessage());
+        }
+
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("레플리카 읽기 재개 (지연 {}ms)", lastLagMs);
+            } else {
+                log.warn("레플리카 지연 초과/조회 불가 → 읽기 트랜잭션을 프라이머리로 전환 (지연 {}ms, 한도 {}ms)",
+                        lastLagMs, maxLagMs);
+            }
+        }
+        if (usable) {
+            lastUsableCheckAt = now;
+        }
+        replicaUsable = usable;
+    }
+
+    private void writeHeartbeat(long now) throws SQLException {
+        try (Connection con = primary.getConnection()) {
+            int updated;
+            try (PreparedStatement ps = con.prepareStatement(UPDATE_BEAT)) {
+                ps.setLong(1, now);
+                updated = ps.executeUpdate();
+            }
+            if (updated == 0) {
+                try (PreparedStatement ps = con.prepareStatement(INSERT_BEAT)) {
+                    ps.setLong(1, now);
+                    ps.executeUpdate();
+                }
+            }
+            if (!con.getAutoCommit()) {
+                con.commit();
+            }
+        }
+    }
+
+    private Long readReplicaHeartbeat() throws SQLException {
+        try (Connection con = replica.getConnection();
+             PreparedStatement ps = con.prepareStatement(SELECT_BEAT);
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : null;
+        }
+    }
+}
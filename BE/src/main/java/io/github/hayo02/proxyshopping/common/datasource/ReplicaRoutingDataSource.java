@@ -0,0 +1,57 @@
+package io.github.hayo02.proxyshopping.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 종류에 따라 커넥션을 고르는 DataSource.
+ * - @Transactional(readOnly = true) → 레플리카 (단, 지연 감시에서 사용 불가로 판단하면 프라이머리)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖) → 프라이머리
+ * - onPrimary(...) 안에서 시작한 조회 → readOnly 여도 프라이머리 (방금 쓴 데이터를 바로 읽을 때)
+ * - readOnly 여부는 트랜잭션 시작 후에 정해지므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    // 현재 스레드의 읽기를 프라이머리로 고정 (onPrimary 안에서만 true)
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * action 안에서 얻는 커넥션은 읽기 전용 트랜잭션이어도 프라이머리로 보냄.
+     * - 커넥션은 첫 쿼리 때 정해지므로 트랜잭션 시작 전이나 첫 조회 전에 감싸야 함
+     * - 복제 지연(최대 max-lag-ms) 동안 방금 커밋한 변경이 레플리카에 없을 수 있는 조회에 사용
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(true);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_PINNED.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PRIMARY_PINNED.get()
+                && lagMonitor.isReplicaUsable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.hayo02.proxyshopping.common.lock;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주기 작업 실행 잠금 (작업 이름당 1행, ShedLock 방식).
+ * - lockedUntil 이 지나기 전에는 lockedBy 노드만 작업을 실행
+ * - 노드가 죽어도 lockedUntil 이 지나면 다른 노드가 가져감
+ *
+ * 필요한 테이블:
+ *   CREATE TABLE scheduler_lock (name VARCHAR(100) PRIMARY KEY, locked_until DATETIME(6) NOT NULL,
+ *                                locked_by VARCHAR(200) NOT NULL);
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false, length = 200)
+    private String lockedBy;
+}
@@ -0,0 +1,38 @@
+package io.github.hayo02.proxyshopping.common.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 만료됐거나 내가 잡고 있던 잠금만 가져감 (여러 노드가 동시에 시도해도 1곳만 성공)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update SchedulerLock l set l.lockedUntil = :until, l.lockedBy = :owner " +
+            "where l.name = :name and (l.lockedUntil <= :now or l.lockedBy = :owner)")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("until") LocalDateTime until);
+
+    // 처음 쓰는 작업 이름 (이미 있으면 PK 중복으로 실패)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into scheduler_lock (name, locked_until, locked_by) values (:name, :until, :owner)",
+            nativeQuery = true)
+    int insert(@Param("name") String name,
+               @Param("owner") String owner,
+               @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update SchedulerLock l set l.lockedUntil = :until where l.name = :name and l.lockedBy = :owner")
+    int release(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("until") LocalDateTime until);
+}
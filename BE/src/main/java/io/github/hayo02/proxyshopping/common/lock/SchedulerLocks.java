@@ -0,0 +1,52 @@
+package io.github.hayo02.proxyshopping.common.lock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 여러 노드에서 같은 @Scheduled 작업이 동시에 돌지 않도록 하는 DB 잠금.
+ * - tryLock: lockAtMostFor 동안 잠금 (실행 중 노드가 죽어도 그 뒤에는 풀림)
+ * - unlock: keepUntil 까지는 잠금 유지 → 노드마다 주기가 어긋나도 한 주기에 한 번만 실행
+ */
+@Component
+public class SchedulerLocks {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String owner;
+
+    @Autowired
+    public SchedulerLocks(SchedulerLockRepository schedulerLockRepository) {
+        this(schedulerLockRepository,
+                ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID());
+    }
+
+    public SchedulerLocks(SchedulerLockRepository schedulerLockRepository, String owner) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.owner = owner;
+    }
+
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lockAtMostFor);
+        if (schedulerLockRepository.acquire(name, owner, now, until) == 1) {
+            return true;
+        }
+        try {
+            return schedulerLockRepository.insert(name, owner, until) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 잡고 있음
+            return false;
+        }
+    }
+
+    public void unlock(String name, LocalDateTime keepUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.release(name, owner, keepUntil.isAfter(now) ? keepUntil : now);
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.hayo02.proxyshopping.common.outbox;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트 백그라운드 처리기.
+ * - 커밋 직후 wakeUp() 또는 주기 폴링으로 깨어나 처리 시각이 된 이벤트를 순서대로 처리
+ * - 처리 전 PENDING → PROCESSING 조건부 갱신으로 선점 (다중 노드에서도 한 번만 처리)
+ * - 실패 시 지수 백오프(+지터) 후 재시도, max-attempts 초과 시 DEAD
+ * - 처리는 전용 단일 스레드에서만 수행 (요청 스레드/트랜잭션과 분리)
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<String, OutboxHandler> handlers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration leaseTimeout;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "outbox-dispatcher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 이미 처리 예약이 있으면 추가 wakeUp 은 합쳐서 한 번만 실행
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxHandler> handlers,
+                            @Value("${outbox.batch-size:20}") int batchSize,
+                            @Value("${outbox.max-attempts:8}") int maxAttempts,
+                            @Value("${outbox.backoff-initial-ms:2000}") long initialBackoffMs,
+                            @Value("${outbox.backoff-max-ms:600000}") long maxBackoffMs,
+                            @Value("${outbox.lease-timeout-ms:300000}") long leaseTimeoutMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxHandler::eventType, Function.identity()));
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.leaseTimeout = Duration.ofMillis(leaseTimeoutMs);
+    }
+
+    /**
+     * 처리 예약 (요청 스레드에서 호출해도 바로 반환)
+     */
+    public void wakeUp() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            worker.execute(() -> {
+                scheduled.set(false);
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+        }
+    }
+
+    // 커밋 후 깨우기를 놓친 이벤트 / 재시도 대기 이벤트 처리용 주기 폴링
+    @Scheduled(initialDelayString = "${outbox.poll-interval-ms:5000}",
+            fixedDelayString = "${outbox.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    void drain() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int released = outboxEventRepository.releaseStale(now.minus(leaseTimeout), now);
+            if (released > 0) {
+                log.warn("처리 중 멈춘 아웃박스 이벤트 {}건을 다시 대기 상태로 전환", released);
+            }
+
+            List<OutboxEvent> due;
+            do {
+                due = outboxEventRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                        OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+                for (OutboxEvent event : due) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    if (outboxEventRepository.claim(event.getId(), LocalDateTime.now()) == 1) {
+                        process(event);
+                    }
+                }
+            } while (due.size() == batchSize);
+        } catch (Exception e) {
+            log.error("아웃박스 처리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    private void process(OutboxEvent event) {
+        OutboxHandler handler = handlers.get(event.getEventType());
+        if (handler == null) {
+            fail(event, maxAttempts, "처리기가 없는 이벤트 종류: " + event.getEventType());
+            return;
+        }
+
+        try {
+            handler.handle(event);
+            outboxEventRepository.markDone(event.getId(), LocalDateTime.now());
+            log.info("아웃박스 처리 완료 - type: {}, id: {}, 시도: {}",
+                    event.getEventType(), event.getAggregateId(), event.getAttempts() + 1);
+        } catch (Exception e) {
+            fail(event, event.getAttempts() + 1, e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+    }
+
+    private void fail(OutboxEvent event, int attempt, String error) {
+        String trimmed = error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (attempt >= maxAttempts) {
+            outboxEventRepository.markFailed(event.getId(), OutboxStatus.DEAD, LocalDateTime.now(), trimmed);
+            log.error("아웃박스 이벤트 DEAD - type: {}, id: {}, 시도: {}, 오류: {}",
+                    event.getEventType(), event.getAggregateId(), attempt, trimmed);
+            return;
+        }
+        LocalDateTime next = LocalDateTime.now().plus(backoff(attempt));
+        outboxEventRepository.markFailed(event.getId(), OutboxStatus.PENDING, next, trimmed);
+        log.warn("아웃박스 처리 실패 (재시도 예정 {}) - type: {}, id: {}, 시도: {}, 오류: {}",
+                next, event.getEventType(), event.getAggregateId(), attempt, trimmed);
+    }
+
+    // initial * 2^(attempt-1), 최대 maxBackoff, 0.5 ~ 1.0 배 지터
+    Duration backoff(int attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        long jittered = capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+        return Duration.ofMillis(jittered);
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.hayo02.proxyshopping.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 이벤트.
+ * - 주문 등 본 트랜잭션과 같은 커밋으로 저장 → 커밋 후 OutboxDispatcher 가 비동기로 처리
+ * - 실패 시 nextAttemptAt 까지 대기 후 재시도, 최대 횟수를 넘기면 DEAD
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_status_next", columnList = "status, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이벤트 종류 (OutboxHandler.eventType 과 매칭)
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    // 대상 식별자 (예: 주문번호)
+    @Column(nullable = false, length = 100)
+    private String aggregateId;
+
+    // 추가 데이터 (JSON 등, 없으면 null)
+    @Column(length = 2000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // PROCESSING 으로 가져간 시각 (노드가 죽어 멈춘 이벤트 회수용)
+    private LocalDateTime claimedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    public void onPersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.hayo02.proxyshopping.common.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 처리 시각이 된 대기 이벤트 (오래된 순)
+    List<OutboxEvent> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(OutboxStatus status,
+                                                                           LocalDateTime now,
+                                                                           Pageable pageable);
+
+    // PENDING → PROCESSING 선점 (여러 노드가 동시에 가져가도 1곳만 성공)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.status = io.github.hayo02.proxyshopping.common.outbox.OutboxStatus.PROCESSING, " +
+            "e.claimedAt = :now " +
+            "where e.id = :id and e.status = io.github.hayo02.proxyshopping.common.outbox.OutboxStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.status = io.github.hayo02.proxyshopping.common.outbox.OutboxStatus.DONE, " +
+            "e.attempts = e.attempts + 1, e.processedAt = :now, e.lastError = null " +
+            "where e.id = :id")
+    int markDone(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 실패 기록: 다음 시도 시각과 함께 PENDING 으로 되돌리거나 DEAD 로 종료
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.status = :status, e.attempts = e.attempts + 1, " +
+            "e.nextAttemptAt = :nextAttemptAt, e.lastError = :error " +
+            "where e.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("status") OutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    // 처리 중 노드가 죽어 PROCESSING 에 멈춘 이벤트를 다시 대기 상태로
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxEvent e set e.status = io.github.hayo02.proxyshopping.common.outbox.OutboxStatus.PENDING, " +
+            "e.nextAttemptAt = :now " +
+            "where e.status = io.github.hayo02.proxyshopping.common.outbox.OutboxStatus.PROCESSING " +
+            "and e.claimedAt < :staleBefore")
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package io.github.hayo02.proxyshopping.common.outbox;
+
+/**
+ * 아웃박스 이벤트 처리기.
+ * - 예외를 던지면 재시도 대상 (백오프 후 다시 호출되므로 여러 번 실행돼도 안전해야 함)
+ */
+public interface OutboxHandler {
+
+    String eventType();
+
+    void handle(OutboxEvent event) throws Exception;
+}
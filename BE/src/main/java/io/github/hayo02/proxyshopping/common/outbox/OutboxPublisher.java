@@ -0,0 +1,47 @@
+package io.github.hayo02.proxyshopping.common.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 호출한 트랜잭션 안에서 아웃박스 이벤트를 저장.
+ * - 본 트랜잭션이 롤백되면 이벤트도 함께 사라짐
+ * - 커밋 직후 디스패처를 깨워 폴링 주기를 기다리지 않고 바로 처리
+ */
+@Component
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+
+    public OutboxPublisher(OutboxEventRepository outboxEventRepository,
+                           OutboxDispatcher outboxDispatcher) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDispatcher = outboxDispatcher;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent publish(String eventType, String aggregateId, String payload) {
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.wakeUp();
+            }
+        });
+        return event;
+    }
+}
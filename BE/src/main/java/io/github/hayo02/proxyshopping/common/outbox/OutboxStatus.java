@@ -0,0 +1,8 @@
+package io.github.hayo02.proxyshopping.common.outbox;
+
+public enum OutboxStatus {
+    PENDING,     // 처리 대기 (재시도 대기 포함)
+    PROCESSING,  // 디스패처가 가져가서 처리 중
+    DONE,        // 처리 완료
+    DEAD         // 최대 재시도 초과 (수동 확인 필요)
+}
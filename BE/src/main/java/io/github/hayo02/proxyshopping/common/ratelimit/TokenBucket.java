@@ -0,0 +1,120 @@
+package io.github.hayo02.proxyshopping.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 (초당 refillPerSecond 개 적립, 최대 capacity 개까지 순간 허용).
+ * - tryAcquire: 토큰이 없으면 바로 false
+ * - acquire: 토큰이 생길 때까지 대기 (인터럽트 시 false)
+ * - tryAcquire(timeout): timeout 안에 토큰이 생기면 대기 후 true, 더 오래 걸리면 기다리지 않고 바로 false
+ * - pauseFor: 외부 API 가 Retry-After 를 주면 그동안 토큰을 내주지 않음
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    public TokenBucket(double capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity >= 1, refillPerSecond > 0 이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.pausedUntilNanos = lastRefillNanos;
+    }
+
+    public synchronized boolean tryAcquire() {
+        return nanosUntilAvailable() == 0 && take();
+    }
+
+    public boolean acquire() {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                waitNanos = nanosUntilAvailable();
+                if (waitNanos == 0) {
+                    return take();
+                }
+            }
+            try {
+                Thread.sleep(Math.max(1, waitNanos / 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    public boolean tryAcquire(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                waitNanos = nanosUntilAvailable();
+                if (waitNanos == 0) {
+                    return take();
+                }
+            }
+            if (System.nanoTime() + waitNanos - deadline > 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(Math.max(1, waitNanos / 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 다음 토큰을 받을 수 있을 때까지 남은 시간 (0 이면 지금 가능)
+     */
+    public synchronized long nanosUntilAvailable() {
+        long now = System.nanoTime();
+        refill(now);
+        long paused = pausedUntilNanos - now;
+        if (paused > 0) {
+            return paused;
+        }
+        if (tokens >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+
+    /**
+     * 지정 시간 동안 토큰 지급 중단 (429 Retry-After 등), 재개 시 버킷은 비어 있는 상태에서 시작
+     */
+    public synchronized void pauseFor(long millis) {
+        long until = System.nanoTime() + millis * 1_000_000;
+        if (until - pausedUntilNanos > 0) {
+            pausedUntilNanos = until;
+        }
+        tokens = 0;
+    }
+
+    private boolean take() {
+        tokens -= 1;
+        return true;
+    }
+
+    private void refill(long now) {
+        if (pausedUntilNanos - now > 0) {
+            // 중단 기간에는 적립하지 않음
+            lastRefillNanos = now;
+            return;
+        }
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.hayo02.proxyshopping.common.retry;
+
+/**
+ * 노드 전체 재시도 예산 (재시도 폭주 방지).
+ * - 원 요청마다 ratio 만큼 적립, 재시도 1회마다 1 차감 → 재시도 비율이 요청의 ratio 를 넘지 않음
+ * - 요청이 적을 때도 재시도가 막히지 않도록 초당 minPerSecond 만큼 시간 기반 적립
+ * - 잔액 상한이 있어 오래 쉬다가 한꺼번에 재시도가 몰리지 않음
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double maxBalance;
+
+    private double balance;
+    private long lastRefillNanos;
+
+    public RetryBudget(double ratio, double minPerSecond) {
+        if (ratio < 0 || minPerSecond < 0) {
+            throw new IllegalArgumentException("ratio/minPerSecond must not be negative");
+        }
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.maxBalance = Math.max(10, minPerSecond * 10);
+        this.balance = maxBalance;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 원 요청 1건 (재시도 제외)
+    public synchronized void recordRequest() {
+        refill();
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    // 재시도 1회 허용 여부 (허용 시 1 차감)
+    public synchronized boolean tryAcquireRetry() {
+        refill();
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+
+    public synchronized double balance() {
+        refill();
+        return balance;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double seconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        lastRefillNanos = now;
+        balance = Math.min(maxBalance, balance + seconds * minPerSecond);
+    }
+}
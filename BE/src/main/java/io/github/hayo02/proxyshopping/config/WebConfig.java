@@ -1,10 +1,18 @@
 package io.github.hayo02.proxyshopping.config;
 
+import io.github.hayo02.proxyshopping.common.admin.AdminTokenInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.*;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+    private final AdminTokenInterceptor adminTokenInterceptor;
+
+    public WebConfig(AdminTokenInterceptor adminTokenInterceptor) {
+        this.adminTokenInterceptor = adminTokenInterceptor;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry reg) {
         reg.addMapping("/api/**")
@@ -17,4 +25,10 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods("GET","POST","PUT","DELETE","PATCH","OPTIONS")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 관리자 API 는 토큰 헤더 필요
+        registry.addInterceptor(adminTokenInterceptor).addPathPatterns("/api/admin/**");
+    }
 }
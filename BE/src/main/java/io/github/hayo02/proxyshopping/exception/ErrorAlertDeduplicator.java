@@ -0,0 +1,193 @@
+package io.github.hayo02.proxyshopping.exception;
+
+import io.github.hayo02.proxyshopping.orders.service.SlackNotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 에러 알림 중복 제거.
+ * - 예외 클래스 + 근본 원인 클래스 + 상위 스택 프레임으로 지문을 만들어 같은 에러끼리 묶음 (문자열 생성 없음)
+ * - 지문마다 window 동안 첫 발생만 전체 알림(스택 포함), 나머지는 건수만 세었다가 summary-interval 마다 요약 한 건으로 전송
+ * - 지문 종류는 max-groups 까지만 추적하고, 넘는 에러는 요약에 건수로만 남김 (메모리 상한)
+ * 장애로 같은 예외가 쏟아져도 스택 문자열 생성/Slack 전송은 지문당 window 마다 한 번.
+ */
+@Component
+public class ErrorAlertDeduplicator {
+
+    private static final Logger log = LoggerFactory.getLogger(ErrorAlertDeduplicator.class);
+
+    static final int TOP_FRAMES = 3;
+    private static final int MAX_CAUSE_DEPTH = 16;
+    // 요약 메시지에 나열할 최대 지문 수 (건수 많은 순)
+    private static final int SUMMARY_MAX_LISTED = 20;
+
+    private final SlackNotificationService slackNotificationService;
+    private final long windowMs;
+    private final int maxGroups;
+    private final LongSupplier clock;
+
+    private final Map<Fingerprint, Group> groups = new ConcurrentHashMap<>();
+    // max-groups 를 넘어 지문별로 세지 못한 발생 수
+    private final LongAdder untracked = new LongAdder();
+    private final LongAdder alerted = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    @Autowired
+    public ErrorAlertDeduplicator(SlackNotificationService slackNotificationService,
+                                  @Value("${error-alert.window-ms:300000}") long windowMs,
+                                  @Value("${error-alert.max-groups:1000}") int maxGroups) {
+        this(slackNotificationService, windowMs, maxGroups, System::currentTimeMillis);
+    }
+
+    public ErrorAlertDeduplicator(SlackNotificationService slackNotificationService,
+                                  long windowMs, int maxGroups, LongSupplier clock) {
+        this.slackNotificationService = slackNotificationService;
+        this.windowMs = windowMs;
+        this.maxGroups = maxGroups;
+        this.clock = clock;
+    }
+
+    /**
+     * 이번 에러를 전체 알림으로 보낼지 (지문의 window 안 첫 발생이면 true, 아니면 건수만 세고 false)
+     */
+    public boolean shouldAlert(Throwable ex, String requestUri) {
+        Fingerprint fingerprint = Fingerprint.of(ex);
+        long now = clock.getAsLong();
+        while (true) {
+            Group group = groups.get(fingerprint);
+            if (group == null) {
+                if (groups.size() >= maxGroups) {
+                    untracked.increment();
+                    return false;
+                }
+                group = groups.computeIfAbsent(fingerprint, Group::new);
+            }
+            synchronized (group) {
+                if (group.removed) {
+                    // 요약 정리와 겹침 → 새 그룹으로 다시
+                    continue;
+                }
+                group.lastUri = requestUri;
+                if (group.windowStart < 0 || now - group.windowStart >= windowMs) {
+                    group.windowStart = now;
+                    alerted.increment();
+                    return true;
+                }
+                group.pending++;
+                suppressed.increment();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 요약 전송: 마지막 요약 이후 생략된 에러를 지문별 건수로 한 메시지에 모아 보냄.
+     * window 가 지났고 그동안 생략된 발생이 없는 지문은 정리 (다음 발생은 다시 전체 알림)
+     */
+    @Scheduled(initialDelayString = "${error-alert.summary-interval-ms:60000}",
+            fixedDelayString = "${error-alert.summary-interval-ms:60000}")
+    public void sendSummary() {
+        long now = clock.getAsLong();
+        List<SummaryLine> lines = new ArrayList<>();
+        for (Group group : groups.values()) {
+            synchronized (group) {
+                if (group.pending > 0) {
+                    lines.add(new SummaryLine(group.fingerprint.label(), group.pending, group.lastUri));
+                    group.pending = 0;
+                } else if (now - group.windowStart >= windowMs) {
+                    group.removed = true;
+                    groups.remove(group.fingerprint, group);
+                }
+            }
+        }
+        long untrackedCount = untracked.sumThenReset();
+        if (lines.isEmpty() && untrackedCount == 0) {
+            return;
+        }
+
+        lines.sort(Comparator.comparingLong(SummaryLine::count).reversed());
+        long total = lines.stream().mapToLong(SummaryLine::count).sum() + untrackedCount;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("같은 에러 반복 %d건 (지문별 %d분에 한 번만 전체 알림)\n",
+                total, TimeUnit.MILLISECONDS.toMinutes(windowMs)));
+        for (int i = 0; i < lines.size() && i < SUMMARY_MAX_LISTED; i++) {
+            SummaryLine line = lines.get(i);
+            sb.append(String.format("%d건 - %s (최근 URI: %s)\n", line.count(), line.label(), line.lastUri()));
+        }
+        if (lines.size() > SUMMARY_MAX_LISTED) {
+            sb.append("... 외 ").append(lines.size() - SUMMARY_MAX_LISTED).append("종\n");
+        }
+        if (untrackedCount > 0) {
+            sb.append(String.format("지문 종류가 %d개를 넘어 분류하지 못한 에러 %d건\n", maxGroups, untrackedCount));
+        }
+
+        log.warn("{}", sb);
+        try {
+            slackNotificationService.sendErrorSummary(sb.toString());
+        } catch (Exception e) {
+            log.error("Slack 에러 요약 전송 중 오류: {}", e.getMessage());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(groups.size(), alerted.sum(), suppressed.sum());
+    }
+
+    /**
+     * 에러 지문 (예외 클래스, 근본 원인 클래스, 상위 TOP_FRAMES 개 프레임). 메시지는 요청마다 달라서 제외
+     */
+    record Fingerprint(Class<?> type, Class<?> rootCause, List<StackTraceElement> frames) {
+
+        static Fingerprint of(Throwable ex) {
+            Throwable root = ex;
+            for (int depth = 0; root.getCause() != null && root.getCause() != root && depth < MAX_CAUSE_DEPTH; depth++) {
+                root = root.getCause();
+            }
+            StackTraceElement[] stack = ex.getStackTrace();
+            List<StackTraceElement> top = Arrays.asList(stack).subList(0, Math.min(TOP_FRAMES, stack.length));
+            return new Fingerprint(ex.getClass(), root.getClass(), List.copyOf(top));
+        }
+
+        String label() {
+            String where = frames.isEmpty() ? "?" : frames.get(0).toString();
+            String cause = rootCause == type ? "" : " ← " + rootCause.getSimpleName();
+            return type.getSimpleName() + cause + " @ " + where;
+        }
+    }
+
+    /**
+     * 중복 제거 상태 - groups: 추적 중인 지문 수, alerted: 전체 알림 수, suppressed: 요약으로 돌린 수 (누적)
+     */
+    public record Stats(int groups, long alerted, long suppressed) {
+    }
+
+    // 지문별 상태 (group 잠금 안에서만 변경)
+    private static final class Group {
+        final Fingerprint fingerprint;
+        long windowStart = -1;
+        long pending;
+        String lastUri;
+        boolean removed;
+
+        Group(Fingerprint fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private record SummaryLine(String label, long count, String lastUri) {
+    }
+}
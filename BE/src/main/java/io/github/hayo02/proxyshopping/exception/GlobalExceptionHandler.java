@@ -17,9 +17,12 @@ public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
     private final SlackNotificationService slackNotificationService;
+    private final ErrorAlertDeduplicator errorAlertDeduplicator;
 
-    public GlobalExceptionHandler(SlackNotificationService slackNotificationService) {
+    public GlobalExceptionHandler(SlackNotificationService slackNotificationService,
+                                  ErrorAlertDeduplicator errorAlertDeduplicator) {
         this.slackNotificationService = slackNotificationService;
+        this.errorAlertDeduplicator = errorAlertDeduplicator;
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -35,19 +38,25 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleUnexpected(Exception ex, HttpServletRequest request){
-        log.error("서버 오류 발생 - URI: {}, 오류: {}", request.getRequestURI(), ex.getMessage(), ex);
-
-        // Slack으로 에러 알림 전송
-        try {
-            StringWriter sw = new StringWriter();
-            ex.printStackTrace(new PrintWriter(sw));
-            slackNotificationService.sendErrorNotification(
-                    ex.getMessage(),
-                    sw.toString(),
-                    request.getRequestURI()
-            );
-        } catch (Exception e) {
-            log.error("Slack 에러 알림 전송 중 오류: {}", e.getMessage());
+        // 같은 에러(지문)는 일정 시간에 한 번만 스택까지 남기고 알림, 나머지는 건수만 세어 주기적으로 요약
+        if (!errorAlertDeduplicator.shouldAlert(ex, request.getRequestURI())) {
+            log.error("서버 오류 발생 (반복, 스택 생략) - URI: {}, 오류: {}: {}",
+                    request.getRequestURI(), ex.getClass().getName(), ex.getMessage());
+        } else {
+            log.error("서버 오류 발생 - URI: {}, 오류: {}", request.getRequestURI(), ex.getMessage(), ex);
+
+            // Slack으로 에러 알림 전송 (스택 문자열은 실제로 보내는 알림에서만 생성)
+            try {
+                StringWriter sw = new StringWriter();
+                ex.printStackTrace(new PrintWriter(sw));
+                slackNotificationService.sendErrorNotification(
+                        ex.getMessage(),
+                        sw.toString(),
+                        request.getRequestURI()
+                );
+            } catch (Exception e) {
+                log.error("Slack 에러 알림 전송 중 오류: {}", e.getMessage());
+            }
         }
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -1,17 +1,27 @@
 package io.github.hayo02.proxyshopping.orders.controller;
 
 import io.github.hayo02.proxyshopping.common.ApiResponse;
+import io.github.hayo02.proxyshopping.common.download.FileDownloadWriter;
 import io.github.hayo02.proxyshopping.orders.dto.OrderCreateRequest;
 import io.github.hayo02.proxyshopping.orders.dto.OrderCreateResponse;
 import io.github.hayo02.proxyshopping.orders.dto.OrderDetailResponse;
+import io.github.hayo02.proxyshopping.orders.dto.OrderListResponse;
 import io.github.hayo02.proxyshopping.orders.service.OrderService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    private static final String XLSX_CONTENT_TYPE =
+            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
     private final OrderService orderService;
 
     public OrderController(OrderService orderService) {
@@ -25,16 +35,29 @@ public class OrderController {
             @CookieValue(value = "proxy_sid", required = false) String proxySidCookie,
             @Valid @RequestBody OrderCreateRequest request
     ) {
-        String proxySid = (proxySidHeader != null && !proxySidHeader.isBlank())
-                ? proxySidHeader
-                : proxySidCookie;
-        if (proxySid == null || proxySid.isBlank()) {
-            throw new IllegalArgumentException("proxy_sid 가 필요합니다.");
-        }
+        String proxySid = resolveProxySid(proxySidHeader, proxySidCookie);
         OrderCreateResponse resp = orderService.createOrder(proxySid, request);
         return ApiResponse.ok(resp);
     }
 
+    // 내 주문 목록 (최신순)
+    //
+    // GET /api/orders?cursor=...&limit=20
+    //
+    // - cursor → 이전 응답의 nextCursor (첫 페이지는 생략)
+    // - limit  → 페이지 크기 (최대 50)
+    @GetMapping
+    public ApiResponse<OrderListResponse> getOrders(
+            @RequestHeader(value = "PROXY_SID", required = false) String proxySidHeader,
+            @CookieValue(value = "proxy_sid", required = false) String proxySidCookie,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        String proxySid = resolveProxySid(proxySidHeader, proxySidCookie);
+        OrderListResponse resp = orderService.getOrders(proxySid, cursor, limit);
+        return ApiResponse.ok(resp);
+    }
+
     // 주문 상세 조회
     //
     // GET /api/orders/{orderId}?receiver=홍길동&phone=010-1234-5678
@@ -51,4 +74,31 @@ public class OrderController {
         OrderDetailResponse resp = orderService.getOrderDetail(orderId, receiver, phone);
         return ApiResponse.ok(resp);
     }
+
+    // 견적서 다운로드 (Range / ETag 지원, 파일이 없으면 생성 후 전송)
+    //
+    // GET /api/orders/{orderId}/quotation?receiver=홍길동&phone=010-1234-5678
+    //
+    // - 본인 확인은 주문 상세 조회와 동일
+    @GetMapping("/{orderId}/quotation")
+    public void downloadQuotation(
+            @PathVariable("orderId") String orderId,
+            @RequestParam("receiver") String receiver,
+            @RequestParam("phone") String phone,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Path file = orderService.getQuotationFile(orderId, receiver, phone);
+        FileDownloadWriter.write(request, response, file, XLSX_CONTENT_TYPE, "견적서_" + orderId + ".xlsx");
+    }
+
+    private String resolveProxySid(String proxySidHeader, String proxySidCookie) {
+        String proxySid = (proxySidHeader != null && !proxySidHeader.isBlank())
+                ? proxySidHeader
+                : proxySidCookie;
+        if (proxySid == null || proxySid.isBlank()) {
+            throw new IllegalArgumentException("proxy_sid 가 필요합니다.");
+        }
+        return proxySid;
+    }
 }
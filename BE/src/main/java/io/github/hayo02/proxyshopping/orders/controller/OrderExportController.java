@@ -0,0 +1,70 @@
+package io.github.hayo02.proxyshopping.orders.controller;
+
+import io.github.hayo02.proxyshopping.orders.service.OrderExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+// 관리자용 주문/견적서 일괄 내보내기 (월말 정산)
+//
+// GET /api/admin/orders/export/orders.csv?from=2026-09-01&to=2026-09-30
+// GET /api/admin/orders/export/quotations.zip?from=2026-09-01&to=2026-09-30
+//
+// - from, to → 주문 생성일 기준, 양 끝 날짜 포함
+// - X-Admin-Token 헤더 필요 (AdminTokenInterceptor)
+@RestController
+@RequestMapping("/api/admin/orders/export")
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    public OrderExportController(OrderExportService orderExportService) {
+        this.orderExportService = orderExportService;
+    }
+
+    @GetMapping("/orders.csv")
+    public void exportOrders(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response
+    ) throws IOException {
+        validateRange(from, to);
+        prepare(response, "text/csv; charset=UTF-8", "orders_" + from + "_" + to + ".csv");
+        orderExportService.writeOrdersCsv(from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                response.getOutputStream());
+    }
+
+    @GetMapping("/quotations.zip")
+    public void exportQuotations(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response
+    ) throws IOException {
+        validateRange(from, to);
+        prepare(response, "application/zip", "quotations_" + from + "_" + to + ".zip");
+        orderExportService.writeQuotationsZip(from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                response.getOutputStream());
+    }
+
+    // 본문을 쓰기 시작하면 오류 응답으로 바꿀 수 없으므로 기간은 먼저 검증
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+    }
+
+    private void prepare(HttpServletResponse response, String contentType, String filename) {
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(filename, StandardCharsets.UTF_8)
+                .build()
+                .toString());
+    }
+}
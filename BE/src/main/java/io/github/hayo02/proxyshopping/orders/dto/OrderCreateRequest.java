@@ -16,6 +16,10 @@ public class OrderCreateRequest {
     @NotNull
     private Long addressId;
 
+    // 토스 결제 승인(/api/orders/pay)에 사용한 paymentKey (결제 대사용)
+    @Size(max = 200)
+    private String paymentKey;
+
     // 개인통관고유부호 (없으면 null 가능)
     @Size(max = 20)
     private String customsCode;
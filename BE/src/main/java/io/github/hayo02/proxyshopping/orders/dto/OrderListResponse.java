@@ -0,0 +1,19 @@
+package io.github.hayo02.proxyshopping.orders.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 세션별 주문 목록 (최신순, 커서 기반 페이지)
+ * - nextCursor: 다음 페이지 요청 시 cursor 로 그대로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+public class OrderListResponse {
+
+    private List<OrderSummaryResponse> orders;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,42 @@
+package io.github.hayo02.proxyshopping.orders.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록용 요약 (아이템/견적 필드는 로드하지 않음).
+ * JPQL 생성자 표현식으로 필요한 컬럼만 조회한다.
+ */
+@Getter
+public class OrderSummaryResponse {
+
+    // 다음 페이지 커서 계산용 (응답에는 노출하지 않음)
+    @JsonIgnore
+    private final Long id;
+
+    private final String orderNumber;
+    private final String status;
+    private final Long totalAmount;
+    private final String receiverName;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime paidAt;
+
+    public OrderSummaryResponse(Long id,
+                                String orderNumber,
+                                OrderStatus status,
+                                Long totalAmount,
+                                String receiverName,
+                                LocalDateTime createdAt,
+                                LocalDateTime paidAt) {
+        this.id = id;
+        this.orderNumber = orderNumber;
+        this.status = status.name();
+        this.totalAmount = totalAmount;
+        this.receiverName = receiverName;
+        this.createdAt = createdAt;
+        this.paidAt = paidAt;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.hayo02.proxyshopping.orders.dto;
+
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 결제 완료 처리 결과 (저장된 주문 상태 그대로)
+ * - quotationFilePath: 견적서 경로, 아웃박스 후속 처리 전이면 null
+ */
+@Getter
+@Builder
+public class PaymentCompleteResponse {
+    private String orderNumber;
+    private String status;
+    private String quotationFilePath;
+
+    public static PaymentCompleteResponse from(Order order) {
+        return PaymentCompleteResponse.builder()
+                .orderNumber(order.getOrderNumber())
+                .status(order.getStatus().name())
+                .quotationFilePath(order.getQuotationFilePath())
+                .build();
+    }
+}
@@ -9,20 +9,34 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 세션별 주문 목록 (최신순 키셋 페이지네이션)
+        @Index(name = "idx_orders_sid_created", columnList = "proxy_sid, created_at, id"),
+        // 결제 대사 대상 (PENDING / 최근 PAID) 순회
+        @Index(name = "idx_orders_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_orders_payment_key", columnList = "payment_key"),
+        // 관리자 내보내기 (기간 내 전체 주문을 생성 순서대로 스트리밍)
+        @Index(name = "idx_orders_created", columnList = "created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Order {
+    // IDENTITY 는 insert 즉시 실행이 필요해 JDBC 배치가 꺼짐 → 시퀀스(pooled, 50개씩 할당) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
-    // 사용자/토스에 노출되는 주문 번호 (예: 20251024723840)
+    // 사용자/토스에 노출되는 주문 번호 (예: 2026101815301234501007, OrderNumberGenerator 참고)
     @Column(nullable = false, unique = true, length = 30)
     private String orderNumber;
 
+    // 토스 결제 키 (결제 대사에 사용, 이전 주문은 null)
+    @Column(length = 200)
+    private String paymentKey;
+
     // 익명 세션 식별용
     @Column(nullable = false, length = 100)
     private String proxySid;
@@ -60,6 +74,14 @@ public class Order {
     private LocalDateTime createdAt;
     private LocalDateTime paidAt;
 
+    // 낙관적 락 버전 (동시 상태 변경 감지)
+    @Version
+    private Long version;
+
+    // 결제 완료 시 생성한 견적서 경로 (중복 완료 요청은 이 값을 그대로 반환)
+    @Column(length = 500)
+    private String quotationFilePath;
+
     // ===== 견적/비용 관련 필드들 =====
     // (OrderDetailResponse 와 타입/이름 맞추기)
     private Long productTotalKRW;
@@ -12,8 +12,10 @@ import lombok.*;
 @Builder
 public class OrderItem {
 
+    // 주문 아이템 insert 를 한 번의 배치로 보내기 위해 시퀀스(pooled) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50)
     private Long id;
 
     // 다대일 - 주문
@@ -0,0 +1,85 @@
+package io.github.hayo02.proxyshopping.orders.entity;
+
+import io.github.hayo02.proxyshopping.orders.dto.TossPayConfirmRequest;
+import io.github.hayo02.proxyshopping.orders.dto.TossPayConfirmResponse;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토스 결제 승인 시도 기록 (paymentKey 당 1행).
+ * - 같은 paymentKey 로 다시 승인 요청이 오면 저장된 결과를 바로 반환
+ * - 결과를 모르는 상태(UNKNOWN)나 멈춘 IN_PROGRESS 만 다시 토스에 요청
+ */
+@Entity
+@Table(name = "payment_confirm_attempt")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PaymentConfirmAttempt {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 200)
+    private String paymentKey;
+
+    // 토스 orderId
+    @Column(nullable = false, length = 64)
+    private String orderId;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PaymentConfirmStatus status;
+
+    // 토스 승인 요청을 실행한 횟수 (한 번의 실행 안의 재시도는 제외)
+    @Column(nullable = false)
+    private int attempts;
+
+    // ===== 승인 성공 시 토스 응답 =====
+    @Column(length = 20)
+    private String tossStatus;
+    private Long approvedAmount;
+    @Column(length = 40)
+    private String approvedAt;
+
+    // 실패/미확인 사유 (토스 에러 응답 등)
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static PaymentConfirmAttempt start(TossPayConfirmRequest req, LocalDateTime now) {
+        return PaymentConfirmAttempt.builder()
+                .paymentKey(req.getPaymentKey())
+                .orderId(req.getOrderId())
+                .amount(req.getAmount())
+                .status(PaymentConfirmStatus.IN_PROGRESS)
+                .attempts(1)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    // 같은 paymentKey 로 다른 주문/금액을 승인하려는 요청인지
+    public boolean matches(TossPayConfirmRequest req) {
+        return orderId.equals(req.getOrderId()) && amount.equals(req.getAmount());
+    }
+
+    public TossPayConfirmResponse toResponse() {
+        TossPayConfirmResponse response = new TossPayConfirmResponse();
+        response.setPaymentKey(paymentKey);
+        response.setOrderId(orderId);
+        response.setStatus(tossStatus);
+        response.setTotalAmount(approvedAmount);
+        response.setApprovedAt(approvedAt);
+        return response;
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.hayo02.proxyshopping.orders.entity;
+
+public enum PaymentConfirmStatus {
+    IN_PROGRESS, // 토스 승인 요청 중
+    SUCCEEDED,   // 승인 완료 (응답 저장)
+    FAILED,      // 토스가 거절 (4xx, 재요청해도 같은 결과)
+    UNKNOWN      // 타임아웃/5xx 로 결과 미확인 (다음 요청에서 재시도)
+}
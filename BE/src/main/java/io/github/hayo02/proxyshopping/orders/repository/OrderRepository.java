@@ -1,9 +1,27 @@
 package io.github.hayo02.proxyshopping.orders.repository;
 
+import io.github.hayo02.proxyshopping.orders.dto.OrderSummaryResponse;
 import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+import io.github.hayo02.proxyshopping.orders.support.export.OrderExportRow;
+import io.github.hayo02.proxyshopping.orders.support.export.QuotationExportRow;
+import io.github.hayo02.proxyshopping.orders.support.reconcile.ReconcileTarget;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
@@ -12,4 +30,97 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     // 주문번호만으로 조회 (주문 상세 조회에 사용)
     Optional<Order> findByOrderNumber(String orderNumber);
+
+    // 주문 + 주문 아이템을 한 번의 쿼리로 조회 (주문 상세/견적서 생성용)
+    @EntityGraph(attributePaths = "items")
+    Optional<Order> findWithItemsByOrderNumber(String orderNumber);
+
+    // PENDING → PAID 상태 전이 (CAS). 1 이면 이 호출이 결제 완료 처리를 맡음, 0 이면 이미 처리됨
+    // 행 잠금은 트랜잭션 종료까지 유지 → 동시 호출은 먼저 잡은 쪽이 커밋/롤백할 때까지 대기
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = io.github.hayo02.proxyshopping.orders.entity.OrderStatus.PAID, " +
+            "o.paidAt = :paidAt, o.version = o.version + 1 " +
+            "where o.orderNumber = :orderNumber " +
+            "and o.status = io.github.hayo02.proxyshopping.orders.entity.OrderStatus.PENDING")
+    int markPaidIfPending(@Param("orderNumber") String orderNumber, @Param("paidAt") LocalDateTime paidAt);
+
+    // 견적서 경로 기록 (아웃박스 후속 처리에서 사용, 엔티티를 다시 로드하지 않음)
+    @Modifying
+    @Query("update Order o set o.quotationFilePath = :path, o.version = o.version + 1 " +
+            "where o.orderNumber = :orderNumber")
+    int updateQuotationFilePath(@Param("orderNumber") String orderNumber, @Param("path") String path);
+
+    // 견적서 경로를 읽어 둔 값(expected, null 포함)에서 바뀌지 않았을 때만 기록 (트랜잭션 밖 지연 생성용)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.quotationFilePath = :path, o.version = o.version + 1 " +
+            "where o.orderNumber = :orderNumber and coalesce(o.quotationFilePath, '') = coalesce(:expected, '')")
+    int updateQuotationFilePathIf(@Param("orderNumber") String orderNumber,
+                                  @Param("expected") String expected,
+                                  @Param("path") String path);
+
+    // 결제 대사 등에서 상태를 조건부로 바꿀 때 사용 (expected 상태일 때만 변경)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :next, o.version = o.version + 1 " +
+            "where o.orderNumber = :orderNumber and o.status = :expected")
+    int updateStatusIf(@Param("orderNumber") String orderNumber,
+                       @Param("expected") OrderStatus expected,
+                       @Param("next") OrderStatus next);
+
+    // 결제 대사 대상: 지정 상태 + since 이후 생성된 주문을 (createdAt, id) 오름차순으로 청크 조회
+    @Query("select new io.github.hayo02.proxyshopping.orders.support.reconcile.ReconcileTarget(" +
+            "o.id, o.orderNumber, o.paymentKey, o.status, o.totalAmount, o.createdAt) " +
+            "from Order o where o.status in :statuses and o.createdAt >= :since " +
+            "and (o.createdAt > :afterCreatedAt or (o.createdAt = :afterCreatedAt and o.id > :afterId)) " +
+            "order by o.createdAt asc, o.id asc")
+    List<ReconcileTarget> findReconcileTargets(@Param("statuses") Collection<OrderStatus> statuses,
+                                               @Param("since") LocalDateTime since,
+                                               @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                               @Param("afterId") Long afterId,
+                                               Limit limit);
+
+    boolean existsByPaymentKey(String paymentKey);
+
+    // ===== 세션별 주문 목록 (키셋 페이지네이션, idx_orders_sid_created 사용) =====
+    // OFFSET 없이 (createdAt, id) 기준 "이전 행" 만 읽으므로 깊은 페이지도 첫 페이지와 비용이 같음
+
+    @Query("select new io.github.hayo02.proxyshopping.orders.dto.OrderSummaryResponse(" +
+            "o.id, o.orderNumber, o.status, o.totalAmount, o.receiverName, o.createdAt, o.paidAt) " +
+            "from Order o where o.proxySid = :proxySid " +
+            "order by o.createdAt desc, o.id desc")
+    List<OrderSummaryResponse> findSummaries(@Param("proxySid") String proxySid, Limit limit);
+
+    @Query("select new io.github.hayo02.proxyshopping.orders.dto.OrderSummaryResponse(" +
+            "o.id, o.orderNumber, o.status, o.totalAmount, o.receiverName, o.createdAt, o.paidAt) " +
+            "from Order o where o.proxySid = :proxySid " +
+            "and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id)) " +
+            "order by o.createdAt desc, o.id desc")
+    List<OrderSummaryResponse> findSummariesBefore(@Param("proxySid") String proxySid,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Limit limit);
+
+    // ===== 관리자 내보내기 (월말 정산, 기간 내 전체 주문) =====
+    // DTO 로 스트리밍 조회 → 영속성 컨텍스트에 쌓이지 않고 fetch size 단위로 읽어 힙 사용량이 일정
+    // Stream 은 읽기 트랜잭션 안에서 사용하고 반드시 닫아야 함
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new io.github.hayo02.proxyshopping.orders.support.export.OrderExportRow(" +
+            "o.orderNumber, o.status, o.createdAt, o.paidAt, o.receiverName, o.totalAmount, " +
+            "o.productTotalKRW, o.serviceFeeKRW, o.totalShippingFeeKRW, o.paymentFeeKRW, " +
+            "o.extraPackagingFeeKRW, o.insuranceFeeKRW, o.grandTotalKRW, " +
+            "i.productName, i.priceKrw, i.quantity) " +
+            "from Order o left join o.items i " +
+            "where o.createdAt >= :from and o.createdAt < :to " +
+            "order by o.createdAt asc, o.id asc, i.id asc")
+    Stream<OrderExportRow> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new io.github.hayo02.proxyshopping.orders.support.export.QuotationExportRow(" +
+            "o.orderNumber, o.quotationFilePath) " +
+            "from Order o where o.status = io.github.hayo02.proxyshopping.orders.entity.OrderStatus.PAID " +
+            "and o.createdAt >= :from and o.createdAt < :to " +
+            "order by o.createdAt asc, o.id asc")
+    Stream<QuotationExportRow> streamQuotationRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
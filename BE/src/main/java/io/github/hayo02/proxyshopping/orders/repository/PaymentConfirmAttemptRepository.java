@@ -0,0 +1,68 @@
+package io.github.hayo02.proxyshopping.orders.repository;
+
+import io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmAttempt;
+import io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentConfirmAttemptRepository extends JpaRepository<PaymentConfirmAttempt, Long> {
+
+    Optional<PaymentConfirmAttempt> findByPaymentKey(String paymentKey);
+
+    // 승인은 성공했는데 주문이 만들어지지 않은 결제 (from ~ to 사이 승인 기록)
+    @Query("select a from PaymentConfirmAttempt a " +
+            "where a.status = io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmStatus.SUCCEEDED " +
+            "and a.updatedAt >= :from and a.updatedAt < :to " +
+            "and not exists (select 1 from Order o where o.paymentKey = a.paymentKey)")
+    List<PaymentConfirmAttempt> findOrphanSucceeded(@Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
+
+    // 결과 미확인(UNKNOWN) 또는 lease 가 지난 IN_PROGRESS 를 다시 선점 (동시 요청 중 1곳만 성공)
+    // 읽어 둔 시도 번호(attempts)가 그대로일 때만 → 선점한 요청의 시도 번호는 attempts + 1
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PaymentConfirmAttempt a " +
+            "set a.status = io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmStatus.IN_PROGRESS, " +
+            "a.attempts = a.attempts + 1, a.updatedAt = :now " +
+            "where a.paymentKey = :paymentKey and a.attempts = :attempts " +
+            "and (a.status = io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmStatus.UNKNOWN " +
+            "or (a.status = io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmStatus.IN_PROGRESS " +
+            "and a.updatedAt < :staleBefore))")
+    int reclaim(@Param("paymentKey") String paymentKey,
+                @Param("attempts") int attempts,
+                @Param("now") LocalDateTime now,
+                @Param("staleBefore") LocalDateTime staleBefore);
+
+    // 결과 기록은 선점한 시도 번호가 그대로일 때만 (lease 가 지나 다른 요청이 다시 선점했으면 0건)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PaymentConfirmAttempt a " +
+            "set a.status = io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmStatus.SUCCEEDED, " +
+            "a.tossStatus = :tossStatus, a.approvedAmount = :approvedAmount, a.approvedAt = :approvedAt, " +
+            "a.lastError = null, a.updatedAt = :now " +
+            "where a.paymentKey = :paymentKey and a.attempts = :attempt")
+    int markSucceeded(@Param("paymentKey") String paymentKey,
+                      @Param("attempt") int attempt,
+                      @Param("tossStatus") String tossStatus,
+                      @Param("approvedAmount") Long approvedAmount,
+                      @Param("approvedAt") String approvedAt,
+                      @Param("now") LocalDateTime now);
+
+    // FAILED(토스 거절) 또는 UNKNOWN(결과 미확인) 기록
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PaymentConfirmAttempt a set a.status = :status, a.lastError = :error, a.updatedAt = :now " +
+            "where a.paymentKey = :paymentKey and a.attempts = :attempt")
+    int markFinished(@Param("paymentKey") String paymentKey,
+                     @Param("attempt") int attempt,
+                     @Param("status") PaymentConfirmStatus status,
+                     @Param("error") String error,
+                     @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,24 @@
+package io.github.hayo02.proxyshopping.orders.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자용 주문/견적서 일괄 내보내기 (월말 정산).
+ * 기간은 [from, to) 주문 생성 시각 기준. 결과를 모으거나 임시 파일을 만들지 않고 out 으로 바로 출력한다.
+ */
+public interface OrderExportService {
+
+    /**
+     * 주문 + 주문 아이템 CSV (아이템마다 한 행, UTF-8 BOM 포함)
+     * @return 출력한 데이터 행 수
+     */
+    long writeOrdersCsv(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException;
+
+    /**
+     * 결제 완료 주문의 견적서 파일 ZIP (파일이 없는 주문은 missing.txt 에 주문번호 기록)
+     * @return ZIP 에 담은 견적서 수
+     */
+    long writeQuotationsZip(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException;
+}
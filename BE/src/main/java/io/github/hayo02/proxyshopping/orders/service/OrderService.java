@@ -3,6 +3,10 @@ package io.github.hayo02.proxyshopping.orders.service;
 import io.github.hayo02.proxyshopping.orders.dto.OrderCreateRequest;
 import io.github.hayo02.proxyshopping.orders.dto.OrderCreateResponse;
 import io.github.hayo02.proxyshopping.orders.dto.OrderDetailResponse;
+import io.github.hayo02.proxyshopping.orders.dto.OrderListResponse;
+import io.github.hayo02.proxyshopping.orders.dto.PaymentCompleteResponse;
+
+import java.nio.file.Path;
 
 public interface OrderService {
 
@@ -12,9 +16,22 @@ public interface OrderService {
     OrderDetailResponse getOrderDetail(String orderId, String receiver, String phone);
 
     /**
-     * 결제 완료 처리 및 견적서 생성
+     * 견적서 파일 조회 (주문 상세와 같은 본인 확인)
+     * - 결제 완료 주문만 허용
+     * - 파일이 아직 없거나 지워졌으면 그 자리에서 생성 후 경로 저장
+     * @return 견적서 파일 경로
+     */
+    Path getQuotationFile(String orderNumber, String receiver, String phone);
+
+    // 세션(proxySid)의 주문 목록 (최신순, cursor 가 없으면 첫 페이지)
+    OrderListResponse getOrders(String proxySid, String cursor, int limit);
+
+    /**
+     * 결제 완료 처리 (멱등)
+     * - PENDING 주문만 PAID 로 전이하고 견적서 생성/Slack 알림은 아웃박스 이벤트로 한 번만 예약
+     * - 이미 완료된 주문은 저장된 상태/견적서 경로를 그대로 반환
      * @param orderNumber 주문번호
-     * @return 생성된 견적서 파일 경로
+     * @return 저장된 주문 상태와 견적서 경로 (후속 처리 전이면 경로 null)
      */
-    String completePayment(String orderNumber);
+    PaymentCompleteResponse completePayment(String orderNumber);
 }
@@ -8,9 +8,13 @@ import java.io.IOException;
 public interface QuotationExcelService {
     /**
      * 주문 정보를 기반으로 견적서 Excel 파일을 생성합니다.
-     * @param order 주문 정보
+     * 렌더링 전용 실행기에서 생성하고 끝날 때까지 기다립니다.
+     * 렌더링 동안 커넥션/행 잠금을 잡지 않도록 트랜잭션 밖에서 호출해야 합니다.
+     * 내용(지문)이 같은 견적서 파일이 이미 있으면 다시 만들지 않고 그 경로를 반환합니다.
+     * @param order 주문 정보 (상품 목록까지 로딩된 상태)
      * @return 생성된 파일 경로
      * @throws IOException 파일 생성 실패 시
+     * @throws java.util.concurrent.RejectedExecutionException 렌더링 대기열이 가득 찬 경우
      */
     String generateQuotation(Order order) throws IOException;
 }
@@ -8,6 +8,7 @@ public interface SlackNotificationService {
      * 결제 완료 알림을 Slack으로 전송하고 견적서 파일을 첨부합니다.
      * @param order 결제가 완료된 주문
      * @param quotationFilePath 견적서 파일 경로
+     * @throws IllegalStateException 전송 실패 시 (아웃박스 처리기가 재시도)
      */
     void sendPaymentCompleteNotification(Order order, String quotationFilePath);
 
@@ -18,4 +19,10 @@ public interface SlackNotificationService {
      * @param requestUri 요청 URI
      */
     void sendErrorNotification(String errorMessage, String stackTrace, String requestUri);
+
+    /**
+     * 반복된 서버 에러 요약을 Slack으로 전송합니다. (지문별 발생 건수)
+     * @param summary 요약 내용
+     */
+    void sendErrorSummary(String summary);
 }
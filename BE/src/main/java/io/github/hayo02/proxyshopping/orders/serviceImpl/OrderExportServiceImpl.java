@@ -0,0 +1,156 @@
+package io.github.hayo02.proxyshopping.orders.serviceImpl;
+
+import io.github.hayo02.proxyshopping.orders.repository.OrderRepository;
+import io.github.hayo02.proxyshopping.orders.service.OrderExportService;
+import io.github.hayo02.proxyshopping.orders.support.QuotationStore;
+import io.github.hayo02.proxyshopping.orders.support.QuotationStore.StoredFile;
+import io.github.hayo02.proxyshopping.orders.support.export.CsvWriter;
+import io.github.hayo02.proxyshopping.orders.support.export.OrderExportRow;
+import io.github.hayo02.proxyshopping.orders.support.export.QuotationExportRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 주문/견적서 일괄 내보내기.
+ * - 읽기 전용 트랜잭션(복제본) 안에서 DTO 스트림으로 조회 → 주문 수와 무관하게 힙 사용량이 일정
+ * - CSV/ZIP 모두 응답 스트림에 바로 쓰고 임시 파일을 만들지 않음
+ * - 견적서(xlsx)는 이미 압축된 파일이라 ZIP 은 무압축으로 담음 (CPU 절약)
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderExportServiceImpl.class);
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    // 엑셀에서 날짜로 인식되는 형식
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // missing.txt 에 기록할 최대 주문번호 수 (넘는 건 건수만)
+    private static final int MAX_MISSING_LISTED = 10_000;
+
+    static final String[] CSV_HEADERS = {"주문번호", "상태", "주문일시", "결제일시", "주문자",
+            "결제 금액", "상품 합계", "대행 수수료", "배송비", "결제 수수료", "추가 포장 비용", "보험료", "최종 결제 금액",
+            "상품", "상품 가격", "개수"};
+
+    private final OrderRepository orderRepository;
+    private final QuotationStore quotationStore;
+
+    public OrderExportServiceImpl(OrderRepository orderRepository, QuotationStore quotationStore) {
+        this.orderRepository = orderRepository;
+        this.quotationStore = quotationStore;
+    }
+
+    @Override
+    public long writeOrdersCsv(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        validateRange(from, to);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        // 엑셀에서 한글이 깨지지 않도록 BOM
+        writer.write('\uFEFF');
+        CsvWriter csv = new CsvWriter(writer);
+        csv.row((Object[]) CSV_HEADERS);
+
+        long rows = 0;
+        try (Stream<OrderExportRow> stream = orderRepository.streamExportRows(from, to)) {
+            Iterator<OrderExportRow> it = stream.iterator();
+            while (it.hasNext()) {
+                OrderExportRow row = it.next();
+                csv.row(row.orderNumber(), row.status().name(), format(row.createdAt()), format(row.paidAt()), row.receiverName(),
+                        row.totalAmount(), row.productTotalKRW(), row.serviceFeeKRW(), row.totalShippingFeeKRW(),
+                        row.paymentFeeKRW(), row.extraPackagingFeeKRW(), row.insuranceFeeKRW(), row.grandTotalKRW(),
+                        row.productName(), row.priceKrw(), row.quantity());
+                rows++;
+            }
+        }
+        writer.flush();
+
+        log.info("주문 CSV 내보내기 완료 - 기간: {} ~ {}, 행: {}", from, to, rows);
+        return rows;
+    }
+
+    @Override
+    public long writeQuotationsZip(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        validateRange(from, to);
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        zip.setLevel(Deflater.NO_COMPRESSION);
+
+        long added = 0;
+        long missing = 0;
+        List<String> missingListed = new ArrayList<>();
+        try (Stream<QuotationExportRow> stream = orderRepository.streamQuotationRows(from, to)) {
+            Iterator<QuotationExportRow> it = stream.iterator();
+            while (it.hasNext()) {
+                QuotationExportRow row = it.next();
+                Optional<StoredFile> file = row.quotationFilePath() == null
+                        ? Optional.empty() : quotationStore.open(row.orderNumber());
+                if (file.isEmpty()) {
+                    // 아직 생성 전이거나 저장소에서 삭제된 견적서 (정산 담당자가 따로 확인)
+                    missing++;
+                    if (missingListed.size() < MAX_MISSING_LISTED) {
+                        missingListed.add(row.orderNumber());
+                    }
+                    continue;
+                }
+                addFile(zip, row.orderNumber() + ".xlsx", file.get());
+                added++;
+            }
+        }
+
+        if (missing > 0) {
+            StringBuilder text = new StringBuilder("견적서 파일이 없는 주문 ").append(missing).append("건\n");
+            missingListed.forEach(orderNumber -> text.append(orderNumber).append('\n'));
+            if (missing > missingListed.size()) {
+                text.append("... 외 ").append(missing - missingListed.size()).append("건\n");
+            }
+            zip.putNextEntry(new ZipEntry("missing.txt"));
+            zip.write(text.toString().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        zip.finish();
+
+        log.info("견적서 ZIP 내보내기 완료 - 기간: {} ~ {}, 견적서: {}, 파일 없음: {}", from, to, added, missing);
+        return added;
+    }
+
+    // 압축 보관 중인 견적서는 풀면서 그대로 복사
+    private void addFile(ZipOutputStream zip, String entryName, StoredFile file) throws IOException {
+        try (InputStream in = file.content()) {
+            ZipEntry entry = new ZipEntry(entryName);
+            entry.setLastModifiedTime(file.lastModified());
+            zip.putNextEntry(entry);
+            in.transferTo(zip);
+            zip.closeEntry();
+        }
+    }
+
+    private String format(LocalDateTime value) {
+        return value == null ? null : DATE_TIME.format(value);
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("내보내기 기간이 올바르지 않습니다.");
+        }
+    }
+}
@@ -5,9 +5,15 @@ import io.github.hayo02.proxyshopping.cart.entity.CartEstimate;
 import io.github.hayo02.proxyshopping.cart.entity.CartItem;
 import io.github.hayo02.proxyshopping.cart.repository.CartEstimateRepository;
 import io.github.hayo02.proxyshopping.cart.repository.CartItemRepository;
+import io.github.hayo02.proxyshopping.cart.support.EstimateMemo;
+import io.github.hayo02.proxyshopping.common.datasource.ReplicaRoutingDataSource;
+import io.github.hayo02.proxyshopping.common.outbox.OutboxPublisher;
 import io.github.hayo02.proxyshopping.orders.dto.OrderCreateRequest;
 import io.github.hayo02.proxyshopping.orders.dto.OrderCreateResponse;
 import io.github.hayo02.proxyshopping.orders.dto.OrderDetailResponse;
+import io.github.hayo02.proxyshopping.orders.dto.OrderListResponse;
+import io.github.hayo02.proxyshopping.orders.dto.OrderSummaryResponse;
+import io.github.hayo02.proxyshopping.orders.dto.PaymentCompleteResponse;
 import io.github.hayo02.proxyshopping.orders.entity.Order;
 import io.github.hayo02.proxyshopping.orders.entity.OrderItem;
 import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
@@ -16,16 +22,24 @@ import io.github.hayo02.proxyshopping.orders.repository.OrderRepository;
 import io.github.hayo02.proxyshopping.orders.repository.ShippingAddressRepository;
 import io.github.hayo02.proxyshopping.orders.service.OrderService;
 import io.github.hayo02.proxyshopping.orders.service.QuotationExcelService;
-import io.github.hayo02.proxyshopping.orders.service.SlackNotificationService;
+import io.github.hayo02.proxyshopping.orders.support.OrderCursor;
+import io.github.hayo02.proxyshopping.orders.support.OrderDetailCache;
+import io.github.hayo02.proxyshopping.orders.support.OrderNumberGenerator;
+import io.github.hayo02.proxyshopping.orders.support.PaymentCompletedHandler;
+import io.github.hayo02.proxyshopping.orders.support.QuotationStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
 @Transactional
@@ -33,25 +47,40 @@ public class OrderServiceImpl implements OrderService {
 
     private static final Logger log = LoggerFactory.getLogger(OrderServiceImpl.class);
 
+    // 주문 목록 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final OrderRepository orderRepository;
     private final ShippingAddressRepository shippingAddressRepository;
     private final CartItemRepository cartItemRepository;
     private final CartEstimateRepository cartEstimateRepository;
     private final QuotationExcelService quotationExcelService;
-    private final SlackNotificationService slackNotificationService;
+    private final EstimateMemo estimateMemo;
+    private final OutboxPublisher outboxPublisher;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OrderDetailCache orderDetailCache;
+    private final QuotationStore quotationStore;
 
     public OrderServiceImpl(OrderRepository orderRepository,
                             ShippingAddressRepository shippingAddressRepository,
                             CartItemRepository cartItemRepository,
                             CartEstimateRepository cartEstimateRepository,
                             QuotationExcelService quotationExcelService,
-                            SlackNotificationService slackNotificationService) {
+                            EstimateMemo estimateMemo,
+                            OutboxPublisher outboxPublisher,
+                            OrderNumberGenerator orderNumberGenerator,
+                            OrderDetailCache orderDetailCache,
+                            QuotationStore quotationStore) {
         this.orderRepository = orderRepository;
         this.shippingAddressRepository = shippingAddressRepository;
         this.cartItemRepository = cartItemRepository;
         this.cartEstimateRepository = cartEstimateRepository;
         this.quotationExcelService = quotationExcelService;
-        this.slackNotificationService = slackNotificationService;
+        this.estimateMemo = estimateMemo;
+        this.outboxPublisher = outboxPublisher;
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.orderDetailCache = orderDetailCache;
+        this.quotationStore = quotationStore;
     }
 
     @Override
@@ -80,13 +109,14 @@ public class OrderServiceImpl implements OrderService {
                     .sum();
         }
 
-        // 5) 주문번호 생성
-        String orderNumber = generateOrderNumber();
+        // 5) 주문번호 생성 (같은 초/밀리초에 주문이 몰려도 중복 없음)
+        String orderNumber = orderNumberGenerator.next();
 
         // 6) Order 엔티티 생성 (배송지 스냅샷 + 저장된 견적 필드 매핑)
         Order order = Order.builder()
                 .orderNumber(orderNumber)
                 .proxySid(proxySid)
+                .paymentKey(request.getPaymentKey())
                 .totalAmount(totalAmount)
                 .status(OrderStatus.PENDING)
                 .customsCode(request.getCustomsCode())
@@ -124,32 +154,21 @@ public class OrderServiceImpl implements OrderService {
             order.addItem(item);
         }
 
-        // 8) 저장
+        // 8) 결제 완료 처리 (저장 전에 상태를 확정 → insert 한 번, 별도 update 없음)
+        order.markPaid(LocalDateTime.now());
+
+        // 9) 저장 (시퀀스 ID라 커밋 시점 flush 에서 주문/아이템 insert 가 배치로 나감)
         Order saved = orderRepository.save(order);
 
-        // 9) 장바구니 비우기
+        // 10) 장바구니 비우기 + 견적 삭제 (주문 완료 후 불필요)
         cartItemRepository.deleteAll(cartItems);
-
-        // 10) 견적 삭제 (주문 완료 후 불필요)
         cartEstimateRepository.delete(estimate);
+        estimateMemo.invalidate(proxySid);
 
-        // 11) 결제 완료 처리 (상태 업데이트)
-        saved.markPaid(LocalDateTime.now());
-        orderRepository.save(saved);
-
-        // 12) 견적서 Excel 생성 + Slack 알림
-        try {
-            String filePath = quotationExcelService.generateQuotation(saved);
-            log.info("견적서 생성 완료 - 주문번호: {}, 파일: {}", saved.getOrderNumber(), filePath);
-
-            // Slack 알림 전송
-            slackNotificationService.sendPaymentCompleteNotification(saved, filePath);
-        } catch (IOException e) {
-            log.error("견적서 생성 실패 - 주문번호: {}, 오류: {}", saved.getOrderNumber(), e.getMessage(), e);
-            // 견적서 생성 실패해도 주문은 정상 처리
-        }
+        // 11) 견적서 Excel 생성 + Slack 알림은 아웃박스에 기록 (주문 커밋 후 백그라운드 처리)
+        outboxPublisher.publish(PaymentCompletedHandler.EVENT_TYPE, saved.getOrderNumber(), null);
 
-        // 13) 응답
+        // 12) 응답
         return OrderCreateResponse.from(saved);
     }
 
@@ -157,60 +176,138 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public OrderDetailResponse getOrderDetail(String orderId, String receiver, String phone) {
-        Order order = orderRepository
-                .findByOrderNumber(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
-
-        // 이름 검증 (공백만 제거)
-        if (receiver != null && !receiver.isBlank()) {
-            String inputName = receiver.trim();
-            String savedName = order.getReceiverName() == null ? "" : order.getReceiverName().trim();
-            if (!savedName.equals(inputName)) {
-                throw new IllegalArgumentException("주문자 이름이 일치하지 않습니다.");
-            }
-        }
-
-        // 전화번호 검증 (숫자만 비교)
-        if (phone != null && !phone.isBlank()) {
-            String inputPhone = normalizePhone(phone);
-            String savedPhone = normalizePhone(order.getPhone());
-            if (!savedPhone.equals(inputPhone)) {
-                throw new IllegalArgumentException("전화번호가 일치하지 않습니다.");
-            }
+        // 캐시는 이름 + 전화번호가 주문자와 정확히 같을 때만 적중
+        OrderDetailResponse cached = orderDetailCache.get(orderId, receiver, phone);
+        if (cached != null) {
+            return cached;
         }
 
-        return OrderDetailResponse.from(order);
+        // 캐시 미스 시 주문 + 아이템을 한 번에 조회, 본인 확인을 통과한 응답만 캐시
+        // 방금 바뀐 주문은 레플리카에 변경 전 상태가 남아 있을 수 있음 → 프라이머리에서 조회
+        Order order = (orderDetailCache.readFromPrimary(orderId)
+                ? ReplicaRoutingDataSource.onPrimary(() -> orderRepository.findWithItemsByOrderNumber(orderId))
+                : orderRepository.findWithItemsByOrderNumber(orderId))
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
+        OrderDetailResponse detail = OrderDetailResponse.from(order);
+        verifyOrderer(detail.getReceiver(), detail.getPhone(), receiver, phone);
+        orderDetailCache.put(orderId, detail);
+        return detail;
     }
 
     @Override
-    public String completePayment(String orderNumber) {
-        // 1) 주문 조회
-        Order order = orderRepository
-                .findByOrderNumber(orderNumber)
-                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + orderNumber));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Path getQuotationFile(String orderNumber, String receiver, String phone) {
+        // 렌더링 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행 (조회/경로 기록은 각각 짧은 트랜잭션)
+        // 방금 결제 완료된 주문은 레플리카에 아직 PENDING 일 수 있음 → 프라이머리에서 조회
+        boolean primary = orderDetailCache.readFromPrimary(orderNumber);
+        Order order = (primary
+                ? ReplicaRoutingDataSource.onPrimary(() -> orderRepository.findByOrderNumber(orderNumber))
+                : orderRepository.findByOrderNumber(orderNumber))
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
 
-        // 2) 결제 완료 처리
-        order.markPaid(LocalDateTime.now());
-        orderRepository.save(order);
+        // 주문 상세 조회와 같은 본인 확인
+        verifyOrderer(order.getReceiverName(), order.getPhone(), receiver, phone);
+        if (order.getStatus() != OrderStatus.PAID) {
+            throw new IllegalArgumentException("결제가 완료된 주문만 견적서를 받을 수 있습니다.");
+        }
 
-        // 3) 견적서 Excel 생성
         try {
-            String filePath = quotationExcelService.generateQuotation(order);
-            log.info("견적서 생성 완료: {}", filePath);
+            // 저장소에 있으면 그대로 사용 (압축돼 있으면 복원)
+            Optional<Path> stored = quotationStore.resolve(orderNumber);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
 
-            // 4) Slack 알림 전송
-            slackNotificationService.sendPaymentCompleteNotification(order, filePath);
+            // 아직 생성 전(아웃박스 처리 대기)이거나 용량 초과로 삭제된 경우 → 지금 생성
+            Order withItems = (primary
+                    ? ReplicaRoutingDataSource.onPrimary(() -> orderRepository.findWithItemsByOrderNumber(orderNumber))
+                    : orderRepository.findWithItemsByOrderNumber(orderNumber))
+                    .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
+            String filePath = quotationExcelService.generateQuotation(withItems);
 
-            return filePath;
+            // 그사이 아웃박스 후속 처리 등이 경로를 바꿨으면 덮지 않음 (같은 주문의 견적서라 이번 파일도 그대로 반환)
+            String expected = order.getQuotationFilePath();
+            if (!filePath.equals(expected)
+                    && orderRepository.updateQuotationFilePathIf(orderNumber, expected, filePath) == 0) {
+                log.info("견적서 경로가 이미 갱신됨 - 주문번호: {}", orderNumber);
+            }
+            log.info("견적서 지연 생성 완료 - 주문번호: {}, 파일: {}", orderNumber, filePath);
+            return Path.of(filePath);
         } catch (IOException e) {
             log.error("견적서 생성 실패: {}", e.getMessage(), e);
             throw new IllegalStateException("견적서 생성에 실패했습니다.", e);
+        } catch (RejectedExecutionException e) {
+            log.warn("견적서 렌더링 대기열 포화 - 주문번호: {}", orderNumber);
+            throw new IllegalStateException("견적서 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.", e);
         }
     }
 
-    private String generateOrderNumber() {
-        return LocalDateTime.now()
-                .format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")); // 14자리
+    @Override
+    @Transactional(readOnly = true)
+    public OrderListResponse getOrders(String proxySid, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        Limit fetch = Limit.of(size + 1);
+        List<OrderSummaryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = orderRepository.findSummaries(proxySid, fetch);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            rows = orderRepository.findSummariesBefore(proxySid, after.createdAt(), after.id(), fetch);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<OrderSummaryResponse> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummaryResponse last = page.get(page.size() - 1);
+            nextCursor = new OrderCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return OrderListResponse.builder()
+                .orders(List.copyOf(page))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public PaymentCompleteResponse completePayment(String orderNumber) {
+        // 1) PENDING → PAID 상태 전이 (CAS, 동시 호출 중 하나만 성공)
+        //    전이한 요청만 후속 처리(견적서 생성 + Slack 알림) 이벤트를 같은 트랜잭션에 기록
+        //    → 렌더링/Slack 은 커밋 후 아웃박스에서 실행, 실패해도 PAID 는 유지되고 이벤트만 재시도
+        if (orderRepository.markPaidIfPending(orderNumber, LocalDateTime.now()) == 1) {
+            outboxPublisher.publish(PaymentCompletedHandler.EVENT_TYPE, orderNumber, null);
+            orderDetailCache.invalidate(orderNumber);
+        }
+
+        // 2) 저장된 상태 반환 (중복 요청 포함, 견적서 경로는 후속 처리가 끝나면 채워짐)
+        Order order = orderRepository
+                .findByOrderNumber(orderNumber)
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + orderNumber));
+        if (order.getStatus() != OrderStatus.PAID) {
+            throw new IllegalStateException("결제를 완료할 수 없는 주문 상태입니다: " + order.getStatus());
+        }
+        return PaymentCompleteResponse.from(order);
+    }
+
+    // 주문자 확인: 입력한 값만 비교 (이름은 앞뒤 공백 제거, 전화번호는 숫자만)
+    private void verifyOrderer(String savedReceiver, String savedPhone, String receiver, String phone) {
+        if (receiver != null && !receiver.isBlank()) {
+            String inputName = receiver.trim();
+            String savedName = savedReceiver == null ? "" : savedReceiver.trim();
+            if (!savedName.equals(inputName)) {
+                throw new IllegalArgumentException("주문자 이름이 일치하지 않습니다.");
+            }
+        }
+
+        if (phone != null && !phone.isBlank()) {
+            String inputPhone = normalizePhone(phone);
+            if (!normalizePhone(savedPhone).equals(inputPhone)) {
+                throw new IllegalArgumentException("전화번호가 일치하지 않습니다.");
+            }
+        }
     }
 
     private String normalizePhone(String value) {
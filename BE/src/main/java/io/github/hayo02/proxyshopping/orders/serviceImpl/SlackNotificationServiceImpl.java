@@ -3,27 +3,36 @@ package io.github.hayo02.proxyshopping.orders.serviceImpl;
 import io.github.hayo02.proxyshopping.orders.entity.Order;
 import io.github.hayo02.proxyshopping.orders.entity.OrderItem;
 import io.github.hayo02.proxyshopping.orders.service.SlackNotificationService;
+import io.github.hayo02.proxyshopping.orders.support.slack.SlackClient;
+import io.github.hayo02.proxyshopping.orders.support.slack.SlackDispatcher;
+import io.github.hayo02.proxyshopping.orders.support.slack.SlackMethod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
-import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.NumberFormat;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+/**
+ * Slack 알림.
+ * - 결제 완료 알림: 아웃박스 스레드에서 동기 전송 (응답을 확인해야 실패 시 재시도 가능),
+ *   메서드별 한도를 기다리다 넘거나 429 면 실패로 돌려 아웃박스 백오프에 맡김
+ * - 에러 알림: SlackDispatcher 대기열에 넣고 바로 반환 (짧은 시간에 몰리면 묶어서 전송)
+ *   (디스크 스풀에 먼저 기록하므로 보내기 전에 재기동해도 다음 기동 시 전송)
+ */
 @Service
 public class SlackNotificationServiceImpl implements SlackNotificationService {
 
@@ -31,22 +40,20 @@ public class SlackNotificationServiceImpl implements SlackNotificationService {
     private static final NumberFormat CURRENCY_FORMAT = NumberFormat.getNumberInstance(Locale.KOREA);
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    private final WebClient webClient;
-
-    @Value("${slack.webhook-url:}")
-    private String webhookUrl;
-
-    @Value("${slack.bot-token:}")
-    private String botToken;
-
-    @Value("${slack.channel:}")
-    private String channel;
-
-    @Value("${slack.enabled:true}")
-    private boolean enabled;
-
-    public SlackNotificationServiceImpl(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.build();
+    private final SlackClient slackClient;
+    private final SlackDispatcher slackDispatcher;
+    private final boolean enabled;
+    // 결제 완료 알림이 호출 한도 토큰을 기다리는 최대 시간 (넘으면 아웃박스 재시도)
+    private final long maxWaitMs;
+
+    public SlackNotificationServiceImpl(SlackClient slackClient,
+                                        SlackDispatcher slackDispatcher,
+                                        @Value("${slack.enabled:true}") boolean enabled,
+                                        @Value("${slack.rate.max-wait-ms:5000}") long maxWaitMs) {
+        this.slackClient = slackClient;
+        this.slackDispatcher = slackDispatcher;
+        this.enabled = enabled;
+        this.maxWaitMs = maxWaitMs;
     }
 
     @Override
@@ -56,68 +63,28 @@ public class SlackNotificationServiceImpl implements SlackNotificationService {
             return;
         }
 
-        boolean hasWebhook = webhookUrl != null && !webhookUrl.isBlank() && !webhookUrl.contains("YOUR/WEBHOOK/URL");
-        boolean hasBotToken = botToken != null && !botToken.isBlank() && channel != null && !channel.isBlank();
-
-        if (!hasWebhook && !hasBotToken) {
+        if (!slackClient.hasWebhook() && !slackClient.hasBotToken()) {
             log.warn("Slack 설정이 없습니다. webhook-url 또는 bot-token + channel을 설정해주세요.");
             return;
         }
 
         try {
-            if (hasBotToken) {
-                // Bot Token이 있으면 chat.postMessage API로 메시지 전송 + 파일 업로드
-                sendMessageWithBotToken(order, quotationFilePath);
+            // Bot Token이 있으면 chat.postMessage API로 메시지 전송 + 파일 업로드, Webhook만 있으면 메시지만 전송
+            slackClient.postMessage(buildPaymentCompleteMessage(order, quotationFilePath), maxWaitMs);
+            if (slackClient.hasBotToken()) {
                 uploadFileToSlack(quotationFilePath, order.getOrderNumber());
-            } else if (hasWebhook) {
-                // Webhook만 있으면 메시지만 전송
-                sendWebhookMessage(order, quotationFilePath);
             }
 
             log.info("Slack 알림 전송 완료 - 주문번호: {}", order.getOrderNumber());
+        } catch (SlackClient.RateLimitedException e) {
+            log.warn("Slack 호출 한도 초과 - 주문번호: {}, {}", order.getOrderNumber(), e.getMessage());
+            throw e;
         } catch (Exception e) {
-            log.error("Slack 알림 전송 실패 - 주문번호: {}, 오류: {}", order.getOrderNumber(), e.getMessage(), e);
+            log.error("Slack 알림 전송 실패 - 주문번호: {}, 오류: {}", order.getOrderNumber(), e.getMessage());
+            throw new IllegalStateException("Slack 알림 전송 실패: " + e.getMessage(), e);
         }
     }
 
-    private void sendWebhookMessage(Order order, String quotationFilePath) {
-        String message = buildPaymentCompleteMessage(order, quotationFilePath);
-
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("text", message);
-        payload.put("mrkdwn", true);
-
-        webClient.post()
-                .uri(webhookUrl)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(payload)
-                .retrieve()
-                .bodyToMono(String.class)
-                .doOnSuccess(response -> log.debug("Slack Webhook 응답: {}", response))
-                .doOnError(error -> log.error("Slack Webhook 전송 실패: {}", error.getMessage()))
-                .subscribe();
-    }
-
-    private void sendMessageWithBotToken(Order order, String quotationFilePath) {
-        String message = buildPaymentCompleteMessage(order, quotationFilePath);
-
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("channel", channel);
-        payload.put("text", message);
-        payload.put("mrkdwn", true);
-
-        webClient.post()
-                .uri("https://slack.com/api/chat.postMessage")
-                .header("Authorization", "Bearer " + botToken)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(payload)
-                .retrieve()
-                .bodyToMono(String.class)
-                .doOnSuccess(response -> log.debug("Slack API 응답: {}", response))
-                .doOnError(error -> log.error("Slack 메시지 전송 실패: {}", error.getMessage()))
-                .subscribe();
-    }
-
     private String buildPaymentCompleteMessage(Order order, String quotationFilePath) {
         StringBuilder sb = new StringBuilder();
 
@@ -176,76 +143,41 @@ public class SlackNotificationServiceImpl implements SlackNotificationService {
         return sb.toString();
     }
 
-    private void uploadFileToSlack(String filePath, String orderNumber) {
-        try {
-            Path path = Paths.get(filePath);
-            File file = path.toFile();
-            String fileName = "견적서_" + orderNumber + ".xlsx";
-            long fileSize = file.length();
-
-            // 1단계: 업로드 URL 획득
-            String uploadUrlResponse = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("slack.com")
-                            .path("/api/files.getUploadURLExternal")
-                            .queryParam("filename", fileName)
-                            .queryParam("length", fileSize)
-                            .build())
-                    .header("Authorization", "Bearer " + botToken)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.debug("Slack 업로드 URL 응답: {}", uploadUrlResponse);
-
-            if (uploadUrlResponse == null || !uploadUrlResponse.contains("\"ok\":true")) {
-                log.error("Slack 업로드 URL 획득 실패: {}", uploadUrlResponse);
-                return;
-            }
+    private void uploadFileToSlack(String filePath, String orderNumber) throws IOException {
+        Path path = Paths.get(filePath);
+        String fileName = "견적서_" + orderNumber + ".xlsx";
+        long fileSize = Files.size(path);
 
-            // upload_url과 file_id 추출
-            String uploadUrl = extractJsonValue(uploadUrlResponse, "upload_url");
-            String fileId = extractJsonValue(uploadUrlResponse, "file_id");
+        // 1단계: 업로드 URL 획득
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("filename", fileName);
+        params.put("length", fileSize);
+        String uploadUrlResponse = slackClient.get(SlackMethod.FILES_GET_UPLOAD_URL, params, maxWaitMs);
 
-            if (uploadUrl == null || fileId == null) {
-                log.error("업로드 URL 또는 파일 ID를 추출할 수 없습니다.");
-                return;
-            }
+        log.debug("Slack 업로드 URL 응답: {}", uploadUrlResponse);
 
-            // 2단계: 파일 업로드
-            byte[] fileBytes = Files.readAllBytes(path);
-            String uploadResult = webClient.post()
-                    .uri(uploadUrl)
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .bodyValue(fileBytes)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.debug("Slack 파일 업로드 결과: {}", uploadResult);
-
-            // 3단계: 파일 공유 완료
-            Map<String, Object> completePayload = new HashMap<>();
-            completePayload.put("files", List.of(Map.of("id", fileId, "title", fileName)));
-            completePayload.put("channel_id", channel.replace("#", ""));
-            completePayload.put("initial_comment", "주문번호 " + orderNumber + " 견적서입니다.");
-
-            // channel_id가 채널 이름이면 채널 ID로 변환 필요 - 일단 채널 이름으로 시도
-            String completeResponse = webClient.post()
-                    .uri("https://slack.com/api/files.completeUploadExternal")
-                    .header("Authorization", "Bearer " + botToken)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(completePayload)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.info("Slack 파일 공유 완료: {}", completeResponse);
+        // upload_url과 file_id 추출
+        String uploadUrl = extractJsonValue(uploadUrlResponse, "upload_url");
+        String fileId = extractJsonValue(uploadUrlResponse, "file_id");
 
-        } catch (Exception e) {
-            log.error("Slack 파일 업로드 중 오류: {}", e.getMessage(), e);
+        if (uploadUrl == null || fileId == null) {
+            throw new IllegalStateException("업로드 URL 또는 파일 ID를 추출할 수 없습니다.");
         }
+
+        // 2단계: 파일 업로드
+        String uploadResult = slackClient.upload(uploadUrl, Files.readAllBytes(path));
+
+        log.debug("Slack 파일 업로드 결과: {}", uploadResult);
+
+        // 3단계: 파일 공유 완료
+        Map<String, Object> completePayload = new HashMap<>();
+        completePayload.put("files", List.of(Map.of("id", fileId, "title", fileName)));
+        completePayload.put("channel_id", slackClient.channel().replace("#", ""));
+        completePayload.put("initial_comment", "주문번호 " + orderNumber + " 견적서입니다.");
+
+        // channel_id가 채널 이름이면 채널 ID로 변환 필요 - 일단 채널 이름으로 시도
+        String completeResponse = slackClient.post(SlackMethod.FILES_COMPLETE_UPLOAD, completePayload, maxWaitMs);
+        log.info("Slack 파일 공유 완료: {}", completeResponse);
     }
 
     private String extractJsonValue(String json, String key) {
@@ -288,41 +220,16 @@ public class SlackNotificationServiceImpl implements SlackNotificationService {
 
     @Override
     public void sendErrorNotification(String errorMessage, String stackTrace, String requestUri) {
-        if (!enabled) {
-            log.info("Slack 알림이 비활성화되어 있습니다.");
-            return;
-        }
-
-        boolean hasBotToken = botToken != null && !botToken.isBlank() && channel != null && !channel.isBlank();
-
-        if (!hasBotToken) {
-            log.warn("Slack Bot Token 설정이 없어 에러 알림을 보낼 수 없습니다.");
-            return;
+        // 요청 스레드에서는 대기열에 넣기만 함 (비활성/설정 없음/대기열 초과는 전송기가 로그)
+        if (slackDispatcher.enqueue(buildErrorMessage(errorMessage, stackTrace, requestUri))) {
+            log.info("Slack 에러 알림 전송 예약 - URI: {}", requestUri);
         }
+    }
 
-        try {
-            String message = buildErrorMessage(errorMessage, stackTrace, requestUri);
-
-            Map<String, Object> payload = new HashMap<>();
-            payload.put("channel", channel);
-            payload.put("text", message);
-            payload.put("mrkdwn", true);
-
-            webClient.post()
-                    .uri("https://slack.com/api/chat.postMessage")
-                    .header("Authorization", "Bearer " + botToken)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(payload)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .doOnSuccess(response -> log.debug("Slack 에러 알림 응답: {}", response))
-                    .doOnError(error -> log.error("Slack 에러 알림 전송 실패: {}", error.getMessage()))
-                    .subscribe();
-
-            log.info("Slack 에러 알림 전송 완료 - URI: {}", requestUri);
-        } catch (Exception e) {
-            log.error("Slack 에러 알림 전송 중 오류: {}", e.getMessage(), e);
-        }
+    @Override
+    public void sendErrorSummary(String summary) {
+        String message = ":repeat: *반복 에러 요약*\n\n```\n" + summary + "```\n";
+        slackDispatcher.enqueue(message);
     }
 
     private String buildErrorMessage(String errorMessage, String stackTrace, String requestUri) {
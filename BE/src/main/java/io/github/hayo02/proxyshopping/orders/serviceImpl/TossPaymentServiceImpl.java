@@ -3,72 +3,178 @@ package io.github.hayo02.proxyshopping.orders.serviceImpl;
 
 import io.github.hayo02.proxyshopping.orders.dto.TossPayConfirmRequest;
 import io.github.hayo02.proxyshopping.orders.dto.TossPayConfirmResponse;
+import io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmAttempt;
+import io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmStatus;
+import io.github.hayo02.proxyshopping.orders.repository.PaymentConfirmAttemptRepository;
 import io.github.hayo02.proxyshopping.orders.service.PaymentService;
+import io.github.hayo02.proxyshopping.orders.support.TossPaymentClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.Map;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
 
+/**
+ * 토스 결제 승인.
+ * - paymentKey 별 승인 시도 기록(payment_confirm_attempt)을 먼저 선점한 요청만 토스를 호출
+ * - 이미 승인/거절된 paymentKey 는 저장된 결과를 바로 반환 (사용자 재시도로 토스 부하가 늘지 않도록)
+ * - 타임아웃/5xx 로 결과를 모르면 UNKNOWN 으로 남기고, 다음 요청에서 같은 Idempotency-Key 로 다시 확인
+ *   (ALREADY_PROCESSED 후 결제 조회가 실패해도 UNKNOWN, 결제 대사에서도 확인)
+ * - 결과 기록은 선점한 시도 번호(attempts)가 그대로일 때만 → lease 가 지나 다시 선점된 시도를 덮지 않음
+ */
 @Service
 public class TossPaymentServiceImpl implements PaymentService {
 
     private static final Logger log = LoggerFactory.getLogger(TossPaymentServiceImpl.class);
 
-    private final WebClient webClient;
+    // 이미 승인된 결제를 다시 승인 요청했을 때 토스 에러 코드
+    private static final String ALREADY_PROCESSED = "ALREADY_PROCESSED_PAYMENT";
+
+    private final TossPaymentClient tossPaymentClient;
+    private final PaymentConfirmAttemptRepository attemptRepository;
+    private final Duration inProgressLease;
 
     public TossPaymentServiceImpl(
-            @Value("${toss.secret-key}") String secretKey,
-            @Value("${toss.base-url}") String baseUrl
+            TossPaymentClient tossPaymentClient,
+            PaymentConfirmAttemptRepository attemptRepository,
+            @Value("${toss.confirm.in-progress-lease-ms:60000}") long inProgressLeaseMs
     ) {
-        String basicAuth = "Basic " + Base64.getEncoder()
-                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
-
-        this.webClient = WebClient.builder()
-                .baseUrl(baseUrl)
-                .defaultHeader("Authorization", basicAuth)
-                .defaultHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
-                .build();
+        this.tossPaymentClient = tossPaymentClient;
+        this.attemptRepository = attemptRepository;
+        this.inProgressLease = Duration.ofMillis(inProgressLeaseMs);
     }
 
     @Override
     public TossPayConfirmResponse confirm(TossPayConfirmRequest req) {
-        Map<String, Object> body = Map.of(
-                "paymentKey", req.getPaymentKey(),
-                "orderId", req.getOrderId(),
-                "amount", req.getAmount()
-        );
+        if (req.getPaymentKey() == null || req.getOrderId() == null || req.getAmount() == null) {
+            throw new IllegalArgumentException("paymentKey, orderId, amount 는 필수입니다.");
+        }
 
-        try {
-            TossPayConfirmResponse response = webClient.post()
-                    .uri("/v1/payments/confirm")
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(TossPayConfirmResponse.class)
-                    .block();
-
-            // 결제 승인 성공 로그 (주문 생성은 /api/orders에서 별도 처리)
-            if (response != null) {
-                log.info("토스 결제 승인 성공 - 토스 orderId: {}", req.getOrderId());
-            }
+        // 1) 승인 시도 선점 (이미 끝난 시도면 저장된 결과 반환)
+        Claim claim = claim(req);
+        if (claim.stored() != null) {
+            return claim.stored();
+        }
 
+        // 2) 토스 승인 요청 (타임아웃/재시도는 TossPaymentClient)
+        //    결과 기록은 선점한 시도 번호로만 (lease 가 지나 다른 요청이 가져갔으면 그쪽 결과를 덮지 않음)
+        String paymentKey = req.getPaymentKey();
+        int attempt = claim.attempt();
+        try {
+            TossPayConfirmResponse response = tossPaymentClient.confirm(req);
+            recordSuccess(paymentKey, attempt, response);
+            log.info("토스 결제 승인 성공 - 토스 orderId: {}", req.getOrderId());
             return response;
         } catch (WebClientResponseException e) {
-            // 토스에서 에러 리턴한 경우
-            if (e.getStatusCode() == HttpStatus.BAD_REQUEST ||
-                    e.getStatusCode() == HttpStatus.UNAUTHORIZED ||
-                    e.getStatusCode() == HttpStatus.FORBIDDEN) {
-                // 전역 예외 핸들러에서 잡히도록 런타임 예외로 던져줌
-                throw new IllegalStateException("토스 결제 승인 실패: " + e.getResponseBodyAsString(), e);
+            if (TossPaymentClient.isRetryable(e)) {
+                throw unknown(paymentKey, attempt, e);
+            }
+            // 이전 시도가 실제로는 승인됐던 경우 → 결제 조회로 결과 확정
+            if (e.getResponseBodyAsString().contains(ALREADY_PROCESSED)) {
+                TossPayConfirmResponse payment;
+                try {
+                    payment = tossPaymentClient.getPayment(paymentKey);
+                } catch (RuntimeException lookupFailure) {
+                    // 승인됐는지 모르는 상태 → FAILED 로 확정하지 않고 다음 요청/결제 대사에서 다시 확인
+                    log.warn("토스 결제 조회 실패 - paymentKey: {}, {}", paymentKey, lookupFailure.toString());
+                    throw unknown(paymentKey, attempt, lookupFailure);
+                }
+                if (isApproved(req, payment)) {
+                    recordSuccess(paymentKey, attempt, payment);
+                    return payment;
+                }
             }
-            throw e;
+            // 토스에서 거절한 경우 (400/401/403 등) → 같은 요청은 같은 에러로 응답
+            record(paymentKey, attempt, PaymentConfirmStatus.FAILED, e.getResponseBodyAsString());
+            // 전역 예외 핸들러에서 잡히도록 런타임 예외로 던져줌
+            throw new IllegalStateException("토스 결제 승인 실패: " + e.getResponseBodyAsString(), e);
+        } catch (RuntimeException e) {
+            throw unknown(paymentKey, attempt, e);
+        }
+    }
+
+    private Claim claim(TossPayConfirmRequest req) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<PaymentConfirmAttempt> existing = attemptRepository.findByPaymentKey(req.getPaymentKey());
+        if (existing.isEmpty()) {
+            try {
+                PaymentConfirmAttempt started = attemptRepository.saveAndFlush(PaymentConfirmAttempt.start(req, now));
+                return Claim.of(started.getAttempts());
+            } catch (DataIntegrityViolationException e) {
+                // 같은 paymentKey 의 동시 요청이 먼저 기록함
+                existing = attemptRepository.findByPaymentKey(req.getPaymentKey());
+                if (existing.isEmpty()) {
+                    throw e;
+                }
+            }
+        }
+
+        PaymentConfirmAttempt attempt = existing.get();
+        if (!attempt.matches(req)) {
+            throw new IllegalArgumentException("결제 정보가 이전 승인 요청과 다릅니다.");
+        }
+        if (attempt.getStatus() == PaymentConfirmStatus.SUCCEEDED) {
+            log.info("토스 결제 승인 중복 요청 - 저장된 결과 반환, 토스 orderId: {}", req.getOrderId());
+            return Claim.stored(attempt.toResponse());
+        }
+        if (attempt.getStatus() == PaymentConfirmStatus.FAILED) {
+            throw new IllegalStateException("토스 결제 승인 실패: " + attempt.getLastError());
+        }
+        // UNKNOWN 이거나 lease 가 지난 IN_PROGRESS 만 다시 시도
+        if (attemptRepository.reclaim(req.getPaymentKey(), attempt.getAttempts(), now, now.minus(inProgressLease)) == 0) {
+            throw new IllegalStateException("결제 승인이 진행 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        return Claim.of(attempt.getAttempts() + 1);
+    }
+
+    private boolean isApproved(TossPayConfirmRequest req, TossPayConfirmResponse payment) {
+        return payment != null && "DONE".equals(payment.getStatus())
+                && req.getOrderId().equals(payment.getOrderId())
+                && Objects.equals(req.getAmount(), payment.getTotalAmount());
+    }
+
+    private void recordSuccess(String paymentKey, int attempt, TossPayConfirmResponse response) {
+        int updated = attemptRepository.markSucceeded(paymentKey, attempt, response.getStatus(),
+                response.getTotalAmount(), response.getApprovedAt(), LocalDateTime.now());
+        if (updated == 0) {
+            // 같은 Idempotency-Key 라 다시 선점한 요청도 같은 승인 결과를 받음 → 그쪽이 기록
+            log.warn("승인 시도 lease 만료 - 다른 요청이 다시 선점해 결과를 기록하지 않음, paymentKey: {}", paymentKey);
+        }
+    }
+
+    private IllegalStateException unknown(String paymentKey, int attempt, RuntimeException e) {
+        log.warn("토스 결제 승인 결과 미확인 - paymentKey: {}, {}", paymentKey, e.toString());
+        record(paymentKey, attempt, PaymentConfirmStatus.UNKNOWN, e.toString());
+        return new IllegalStateException("결제 승인 결과를 확인하지 못했습니다. 잠시 후 다시 시도해주세요.", e);
+    }
+
+    private void record(String paymentKey, int attempt, PaymentConfirmStatus status, String error) {
+        if (attemptRepository.markFinished(paymentKey, attempt, status, truncate(error), LocalDateTime.now()) == 0) {
+            log.warn("승인 시도 lease 만료 - 다른 요청이 다시 선점해 {} 를 기록하지 않음, paymentKey: {}",
+                    status, paymentKey);
+        }
+    }
+
+    private String truncate(String value) {
+        if (value == null) return null;
+        return value.length() <= 1000 ? value : value.substring(0, 1000);
+    }
+
+    // 선점 결과: 이번 요청의 시도 번호, 또는 이미 끝난 시도의 저장된 응답
+    private record Claim(TossPayConfirmResponse stored, int attempt) {
+
+        static Claim of(int attempt) {
+            return new Claim(null, attempt);
+        }
+
+        static Claim stored(TossPayConfirmResponse stored) {
+            return new Claim(stored, 0);
         }
     }
 }
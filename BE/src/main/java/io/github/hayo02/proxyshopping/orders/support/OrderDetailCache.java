@@ -0,0 +1,114 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import io.github.hayo02.proxyshopping.common.cache.LruCache;
+import io.github.hayo02.proxyshopping.orders.dto.OrderDetailResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 주문번호별 주문 상세 응답 캐시 (주문 상태 페이지 새로고침 대응).
+ * - 최대 개수(LRU) + 짧은 TTL 로 메모리와 오래된 응답 노출을 모두 제한
+ * - 주문 상태가 바뀌면 invalidate (커밋 후 한 번 더 지워 커밋 전 조회분이 남지 않도록)
+ * - 바뀐 뒤 primary-pin-ms(기본: 레플리카 허용 지연) 동안은 readFromPrimary 가 true
+ *   → 다시 채울 때 레플리카의 변경 전 상태를 TTL 동안 캐시하지 않도록 프라이머리에서 조회
+ * - 노드 로컬 캐시이므로 다른 노드의 변경은 TTL 안에서만 늦게 보일 수 있음
+ * - 조회한 사람의 이름 + 전화번호(숫자만)가 주문자와 정확히 같을 때만 적중 (비어 있으면 항상 미스)
+ *   → 다른 사람이 주문번호만으로 캐시된 주문을 볼 수 없음, 불일치/누락은 DB 조회 경로의 본인 확인이 처리
+ */
+@Component
+public class OrderDetailCache {
+
+    private final LruCache<String, Entry> cache;
+    // 주문번호 → 마지막 변경(커밋) 시각
+    private final LruCache<String, Long> recentWrites;
+    private final long ttlNanos;
+    private final long primaryPinNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public OrderDetailCache(@Value("${order.detail-cache.max-entries:5000}") int maxEntries,
+                            @Value("${order.detail-cache.ttl-seconds:30}") long ttlSeconds,
+                            @Value("${order.detail-cache.primary-pin-ms:${datasource.replica.max-lag-ms:5000}}")
+                            long primaryPinMs) {
+        this(maxEntries, ttlSeconds, primaryPinMs, System::nanoTime);
+    }
+
+    OrderDetailCache(int maxEntries, long ttlSeconds, long primaryPinMs, LongSupplier nanoClock) {
+        this.cache = new LruCache<>(maxEntries);
+        this.recentWrites = new LruCache<>(maxEntries);
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.primaryPinNanos = primaryPinMs * 1_000_000L;
+        this.nanoClock = nanoClock;
+    }
+
+    public OrderDetailResponse get(String orderNumber, String receiver, String phone) {
+        Entry entry = cache.get(orderNumber);
+        if (entry == null) {
+            return null;
+        }
+        if (nanoClock.getAsLong() - entry.cachedAt() > ttlNanos) {
+            cache.remove(orderNumber);
+            return null;
+        }
+        String owner = ownerKey(receiver, phone);
+        if (owner == null || !owner.equals(entry.owner())) {
+            return null;
+        }
+        return entry.response();
+    }
+
+    /**
+     * 본인 확인을 통과한 응답만 저장 (주문자 이름/전화번호는 응답에서 가져옴)
+     */
+    public void put(String orderNumber, OrderDetailResponse response) {
+        cache.put(orderNumber, new Entry(response, ownerKey(response.getReceiver(), response.getPhone()),
+                nanoClock.getAsLong()));
+    }
+
+    public void invalidate(String orderNumber) {
+        cache.remove(orderNumber);
+        recentWrites.put(orderNumber, nanoClock.getAsLong());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.remove(orderNumber);
+                    // 복제 지연은 커밋 시점부터 → 고정 구간도 커밋 후부터 계산
+                    recentWrites.put(orderNumber, nanoClock.getAsLong());
+                }
+            });
+        }
+    }
+
+    /**
+     * 최근에 바뀐 주문이라 레플리카에 아직 반영되지 않았을 수 있으면 true
+     */
+    public boolean readFromPrimary(String orderNumber) {
+        Long writtenAt = recentWrites.get(orderNumber);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (nanoClock.getAsLong() - writtenAt > primaryPinNanos) {
+            recentWrites.remove(orderNumber);
+            return false;
+        }
+        return true;
+    }
+
+    // 이름(앞뒤 공백 제거) + 전화번호(숫자만), 둘 중 하나라도 비어 있으면 null
+    private static String ownerKey(String receiver, String phone) {
+        if (receiver == null || receiver.isBlank() || phone == null) {
+            return null;
+        }
+        String digits = phone.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? null : receiver.trim() + "|" + digits;
+    }
+
+    private record Entry(OrderDetailResponse response, String owner, long cachedAt) {
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문번호 생성기 (락 없음, 단조 증가, 노드 간 충돌 없음).
+ * - 형식: yyyyMMddHHmmssSSS(17) + 노드 ID(2) + 밀리초 내 순번(3) = 숫자 22자리
+ *   예) 20261018153012345 01 007 → 2026101815301234501007
+ * - 토스 orderId 규칙(6~64자, 영문/숫자/-/_) 만족, 숫자만이라 사람이 읽고 입력하기 쉬움
+ * - 상태는 (밀리초 * 1000 + 순번) 하나의 AtomicLong → CAS 로만 갱신
+ *   · 같은 밀리초 안에서는 순번 증가, 1000개를 넘으면 다음 밀리초를 미리 사용
+ *   · 시계가 뒤로 가도 직전 값보다 큰 값만 발급 (프로세스 내 단조 증가)
+ * - 노드마다 order.node-id (0~99) 를 다르게 설정해야 여러 BE 노드에서도 유일
+ *   · 프로필 미지정/dev/test/local 에서만 비어 있으면 0, 그 외(prod 등)에서는 필수 (없으면 기동 실패)
+ */
+@Component
+public class OrderNumberGenerator {
+
+    static final int SEQUENCE_PER_MILLI = 1000;
+    static final int MAX_NODE_ID = 99;
+
+    // order.node-id 를 비워 두면 0 을 쓰는 프로필 (단일 노드 개발/테스트용)
+    private static final Set<String> DEFAULT_NODE_PROFILES = Set.of("dev", "test", "local");
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    private final Clock clock;
+    private final ZoneId zone;
+    private final String nodeId;
+
+    // 마지막으로 발급한 (epochMilli * 1000 + 순번)
+    private final AtomicLong last = new AtomicLong();
+
+    @Autowired
+    public OrderNumberGenerator(@Value("${order.node-id:}") String nodeId, Environment environment) {
+        this(resolveNodeId(nodeId, environment.getActiveProfiles()));
+    }
+
+    public OrderNumberGenerator(int nodeId) {
+        this(nodeId, Clock.systemDefaultZone());
+    }
+
+    OrderNumberGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("order.node-id 는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.clock = clock;
+        this.zone = clock.getZone();
+        this.nodeId = String.format("%02d", nodeId);
+    }
+
+    /**
+     * 설정한 노드 ID. 비어 있으면 개발/테스트 프로필에서만 0, 그 외에는 IllegalStateException
+     * (여러 노드가 같은 기본값 0 으로 떠서 주문번호가 겹치지 않도록)
+     */
+    static int resolveNodeId(String configured, String[] activeProfiles) {
+        if (configured != null && !configured.isBlank()) {
+            try {
+                return Integer.parseInt(configured.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("order.node-id 는 숫자여야 합니다: " + configured);
+            }
+        }
+        boolean defaultAllowed = activeProfiles.length == 0
+                || Arrays.stream(activeProfiles).allMatch(DEFAULT_NODE_PROFILES::contains);
+        if (!defaultAllowed) {
+            throw new IllegalStateException("order.node-id(ORDER_NODE_ID) 가 설정되지 않았습니다. "
+                    + "노드마다 다른 값(0~" + MAX_NODE_ID + ")을 지정해야 합니다. 활성 프로필: "
+                    + String.join(",", activeProfiles));
+        }
+        return 0;
+    }
+
+    public String next() {
+        return format(nextSequence());
+    }
+
+    /**
+     * 다음 (epochMilli * 1000 + 순번) 값 발급
+     */
+    long nextSequence() {
+        while (true) {
+            long prev = last.get();
+            long candidate = Math.max(prev + 1, clock.millis() * SEQUENCE_PER_MILLI);
+            if (last.compareAndSet(prev, candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    String format(long sequence) {
+        long epochMilli = sequence / SEQUENCE_PER_MILLI;
+        int seq = (int) (sequence % SEQUENCE_PER_MILLI);
+
+        StringBuilder sb = new StringBuilder(22);
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(epochMilli).atZone(zone), sb);
+        sb.append(nodeId);
+        if (seq < 100) sb.append('0');
+        if (seq < 10) sb.append('0');
+        sb.append(seq);
+        return sb.toString();
+    }
+}
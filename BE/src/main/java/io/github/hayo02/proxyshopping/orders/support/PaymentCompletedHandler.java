@@ -0,0 +1,69 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import io.github.hayo02.proxyshopping.common.datasource.ReplicaRoutingDataSource;
+import io.github.hayo02.proxyshopping.common.outbox.OutboxEvent;
+import io.github.hayo02.proxyshopping.common.outbox.OutboxHandler;
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.repository.OrderRepository;
+import io.github.hayo02.proxyshopping.orders.service.QuotationExcelService;
+import io.github.hayo02.proxyshopping.orders.service.SlackNotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 완료 후속 처리 (아웃박스 이벤트 PAYMENT_COMPLETED).
+ * - 견적서 Excel 생성 → Slack 결제 완료 알림 + 견적서 업로드
+ * - 주문 트랜잭션 커밋 후 OutboxDispatcher 스레드에서 실행 (실패 시 재시도)
+ * - 재시도 시 견적서는 같은 파일로 다시 생성, Slack 알림은 중복될 수 있음 (at-least-once)
+ */
+@Component
+public class PaymentCompletedHandler implements OutboxHandler {
+
+    public static final String EVENT_TYPE = "PAYMENT_COMPLETED";
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentCompletedHandler.class);
+
+    private final OrderRepository orderRepository;
+    private final QuotationExcelService quotationExcelService;
+    private final SlackNotificationService slackNotificationService;
+    private final TransactionTemplate readOnlyTx;
+    private final TransactionTemplate writeTx;
+
+    public PaymentCompletedHandler(OrderRepository orderRepository,
+                                   QuotationExcelService quotationExcelService,
+                                   SlackNotificationService slackNotificationService,
+                                   PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.quotationExcelService = quotationExcelService;
+        this.slackNotificationService = slackNotificationService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        // 주문 + 상품 목록만 짧은 읽기 트랜잭션으로 조회 (렌더링/Slack 전송 중에는 커넥션을 잡지 않음)
+        // 방금 커밋된 결제 완료 직후라 레플리카에는 아직 없을 수 있음 → 프라이머리에서 조회
+        Order order = ReplicaRoutingDataSource.onPrimary(() -> readOnlyTx.execute(status -> orderRepository
+                .findWithItemsByOrderNumber(event.getAggregateId())
+                .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다: " + event.getAggregateId()))));
+
+        String filePath = quotationExcelService.generateQuotation(order);
+        log.info("견적서 생성 완료 - 주문번호: {}, 파일: {}", order.getOrderNumber(), filePath);
+
+        // 중복 결제 완료 요청(completePayment)이 저장된 결과를 재사용할 수 있도록 경로 기록
+        writeTx.executeWithoutResult(status ->
+                orderRepository.updateQuotationFilePath(order.getOrderNumber(), filePath));
+
+        slackNotificationService.sendPaymentCompleteNotification(order, filePath);
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.entity.OrderItem;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 견적서 내용 지문 (SHA-256).
+ * - 견적서에 출력되는 주문 값/상품 목록과 템플릿 버전(QuotationTemplate.VERSION)으로 계산
+ * - 견적서 xlsx(zip) 의 주석으로 파일과 함께 저장 → 같은 지문의 파일이 있으면 다시 렌더링하지 않음
+ *   (트랜잭션이 롤백돼도 파일 쪽 지문은 남아 재시도 시 그대로 재사용)
+ */
+public final class QuotationFingerprint {
+
+    // zip 주석 형식: "quotation-sha256:<64자리 hex>"
+    static final String COMMENT_PREFIX = "quotation-sha256:";
+    static final int COMMENT_LENGTH = COMMENT_PREFIX.length() + 64;
+
+    // zip 끝 레코드(End Of Central Directory): 서명 4 + 필드 16 + 주석 길이 2
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_SIZE = 22;
+
+    private QuotationFingerprint() {
+    }
+
+    /**
+     * 주문의 견적서 지문 (상품 목록까지 로딩된 주문)
+     */
+    public static String of(Order order) {
+        MessageDigest digest = sha256();
+        putInt(digest, QuotationTemplate.VERSION);
+        putString(digest, order.getOrderNumber());
+        putLong(digest, order.getTotalShippingFeeKRW());
+        putLong(digest, order.getServiceFeeKRW());
+        putLong(digest, order.getPaymentFeeKRW());
+        putLong(digest, order.getExtraPackagingFeeKRW());
+        putLong(digest, order.getInsuranceFeeKRW());
+        putLong(digest, order.getGrandTotalKRW());
+
+        putInt(digest, order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            putString(digest, item.getProductName());
+            putLong(digest, item.getPriceKrw() == null ? null : item.getPriceKrw().longValue());
+            putLong(digest, item.getQuantity() == null ? null : item.getQuantity().longValue());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static String comment(String fingerprint) {
+        return COMMENT_PREFIX + fingerprint;
+    }
+
+    /**
+     * 견적서 파일에 기록된 지문 (파일이 없거나 지문이 없으면 null).
+     * 파일 끝의 zip 끝 레코드만 읽으므로 파일 크기와 무관하게 한 번의 작은 읽기.
+     */
+    public static String read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int tailSize = EOCD_SIZE + COMMENT_LENGTH;
+            if (size < tailSize) {
+                return null;
+            }
+            ByteBuffer tail = ByteBuffer.allocate(tailSize).order(ByteOrder.LITTLE_ENDIAN);
+            while (tail.hasRemaining()) {
+                if (channel.read(tail, size - tailSize + tail.position()) < 0) {
+                    return null;
+                }
+            }
+            if (tail.getInt(0) != EOCD_SIGNATURE || (tail.getShort(EOCD_SIZE - 2) & 0xFFFF) != COMMENT_LENGTH) {
+                return null;
+            }
+            String comment = new String(tail.array(), EOCD_SIZE, COMMENT_LENGTH, StandardCharsets.US_ASCII);
+            return comment.startsWith(COMMENT_PREFIX) ? comment.substring(COMMENT_PREFIX.length()) : null;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 파일이 있고 지문이 같은지 (읽기 실패는 불일치로 보고 다시 렌더링)
+     */
+    public static boolean matches(Path file, String fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try {
+            return fingerprint.equals(read(file));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // null 과 빈 값이 구분되도록 존재 여부 + 길이를 함께 기록
+    private static void putString(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        putInt(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void putLong(MessageDigest digest, Long value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        digest.update((byte) 1);
+        long v = value;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            digest.update((byte) (v >>> shift));
+        }
+    }
+
+    private static void putInt(MessageDigest digest, int value) {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            digest.update((byte) (value >>> shift));
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 견적서 렌더링 전용 실행기.
+ * - 동시에 렌더링하는 수(concurrency)와 대기열 길이(queue-capacity)를 모두 제한 → 주문이 몰려도 메모리 사용량이 일정
+ * - 대기열이 가득 차면 제출한 쪽이 submit-timeout 동안 자리가 나길 기다림 (배압),
+ *   그래도 자리가 없으면 RejectedExecutionException 으로 실패한 future 반환 (호출 측에서 재시도)
+ * - 대기열 길이 / 처리 중 / 렌더링 시간 / 거절 수를 stats() 로 제공하고 주기적으로 로그에 남김
+ */
+@Component
+public class QuotationRenderExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(QuotationRenderExecutor.class);
+
+    private final ThreadPoolExecutor pool;
+    // 처리 중 + 대기 중 작업 수 제한 (concurrency + queue-capacity)
+    private final Semaphore permits;
+    private final long submitTimeoutMs;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder renderNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    // 마지막 로그 이후 최대 렌더링 시간
+    private final AtomicLong maxRenderNanos = new AtomicLong();
+
+    // 로그 주기 사이에 변화가 있었는지 판단용
+    private long lastReportedTotal;
+
+    public QuotationRenderExecutor(@Value("${quotation.render.concurrency:2}") int concurrency,
+                                   @Value("${quotation.render.queue-capacity:50}") int queueCapacity,
+                                   @Value("${quotation.render.submit-timeout-ms:2000}") long submitTimeoutMs) {
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "quotation-render-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.permits = new Semaphore(concurrency + queueCapacity);
+        this.submitTimeoutMs = submitTimeoutMs;
+    }
+
+    /**
+     * 렌더링 작업 제출. 자리가 날 때까지 최대 submit-timeout 동안 호출 스레드를 막음.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            if (!permits.tryAcquire(submitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                future.completeExceptionally(new RejectedExecutionException("견적서 렌더링 대기열이 가득 찼습니다."));
+                return future;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            future.completeExceptionally(new RejectedExecutionException("견적서 렌더링 대기 중 인터럽트", e));
+            return future;
+        }
+
+        long submittedAt = System.nanoTime();
+        try {
+            pool.execute(() -> run(task, future, submittedAt));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            permits.release();
+            rejected.increment();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private <T> void run(Callable<T> task, CompletableFuture<T> future, long submittedAt) {
+        long startedAt = System.nanoTime();
+        waitNanos.add(startedAt - submittedAt);
+        try {
+            T result = task.call();
+            completed.increment();
+            future.complete(result);
+        } catch (Throwable e) {
+            failed.increment();
+            future.completeExceptionally(e);
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            renderNanos.add(elapsed);
+            maxRenderNanos.accumulateAndGet(elapsed, Math::max);
+            permits.release();
+        }
+    }
+
+    public Stats stats() {
+        long done = completed.sum() + failed.sum();
+        return new Stats(
+                pool.getQueue().size(),
+                pool.getActiveCount(),
+                permits.getQueueLength(),
+                completed.sum(),
+                failed.sum(),
+                rejected.sum(),
+                done == 0 ? 0 : renderNanos.sum() / done / 1_000_000.0,
+                done == 0 ? 0 : waitNanos.sum() / done / 1_000_000.0,
+                maxRenderNanos.get() / 1_000_000.0);
+    }
+
+    @Scheduled(initialDelayString = "${quotation.render.stats-log-interval-ms:60000}",
+            fixedDelayString = "${quotation.render.stats-log-interval-ms:60000}")
+    public void report() {
+        Stats stats = stats();
+        long total = stats.completed() + stats.failed() + stats.rejected();
+        if (total == lastReportedTotal && stats.queued() == 0) {
+            return;
+        }
+        lastReportedTotal = total;
+        maxRenderNanos.set(0);
+        if (stats.rejected() > 0 || stats.blockedSubmitters() > 0) {
+            log.warn("{}", stats);
+        } else {
+            log.info("{}", stats);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 진행 중/대기 중인 렌더링은 끝내고 종료
+        pool.shutdown();
+        if (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 렌더링 실행기 상태
+     * - queued: 스레드를 기다리는 작업 수, active: 렌더링 중, blockedSubmitters: 대기열 자리를 기다리는 호출 수
+     * - completed / failed / rejected: 누적 건수
+     * - avgRenderMs / avgWaitMs: 누적 평균 렌더링 시간 / 대기열 대기 시간, maxRenderMs: 마지막 로그 이후 최대
+     */
+    public record Stats(int queued,
+                        int active,
+                        int blockedSubmitters,
+                        long completed,
+                        long failed,
+                        long rejected,
+                        double avgRenderMs,
+                        double avgWaitMs,
+                        double maxRenderMs) {
+
+        @Override
+        public String toString() {
+            return String.format("견적서 렌더링 - 대기 %d, 처리 중 %d, 배압 대기 %d, 완료 %d, 실패 %d, 거절 %d, "
+                            + "평균 %.1fms (대기 %.1fms), 최대 %.1fms",
+                    queued, active, blockedSubmitters, completed, failed, rejected, avgRenderMs, avgWaitMs, maxRenderMs);
+        }
+    }
+}
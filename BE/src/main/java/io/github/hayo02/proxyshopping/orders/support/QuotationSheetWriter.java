@@ -0,0 +1,155 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 견적서 시트 스트리밍 작성기 (QuotationTemplate.open 으로 생성).
+ * - 템플릿의 고정 파트(스타일/공유 문자열/워크북 등)는 미리 만든 바이트를 그대로 복사
+ * - 시트 XML 은 템플릿의 앞부분(열 너비/제목/헤더) 뒤에 행을 바로 출력 → 행을 메모리에 모으지 않음
+ * - 문자열은 인라인 문자열(inlineStr)로 기록 (SXSSF 와 같은 방식)
+ * - 내용 지문을 받으면 zip 주석으로 기록 (QuotationFingerprint.read 로 확인)
+ * 행 번호/열 번호는 0부터 시작, 행은 오름차순으로만 쓸 수 있음. close() 시 전달받은 스트림도 닫음.
+ */
+public class QuotationSheetWriter implements AutoCloseable {
+
+    private static final int WRITER_BUFFER_SIZE = 16 * 1024;
+
+    private final QuotationTemplate template;
+    private final ZipOutputStream zip;
+    private final Writer xml;
+    private final List<String> mergedRegions;
+
+    private int lastRow;
+    private boolean rowOpen;
+    private boolean closed;
+
+    QuotationSheetWriter(QuotationTemplate template, OutputStream out, String fingerprint) throws IOException {
+        this.template = template;
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        if (fingerprint != null) {
+            zip.setComment(QuotationFingerprint.comment(fingerprint));
+        }
+        this.mergedRegions = new ArrayList<>(template.mergedRegions());
+        this.lastRow = QuotationTemplate.FIRST_ITEM_ROW - 1;
+
+        for (QuotationTemplate.Part part : template.parts()) {
+            zip.putNextEntry(new ZipEntry(part.name()));
+            zip.write(part.bytes());
+            zip.closeEntry();
+        }
+        zip.putNextEntry(new ZipEntry(QuotationTemplate.SHEET_PART));
+        zip.write(template.sheetHead());
+        this.xml = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), WRITER_BUFFER_SIZE);
+    }
+
+    public void startRow(int rowIndex) throws IOException {
+        if (rowIndex <= lastRow) {
+            throw new IllegalStateException("행은 오름차순으로만 쓸 수 있습니다: " + rowIndex);
+        }
+        endRow();
+        xml.write("<row r=\"");
+        xml.write(Integer.toString(rowIndex + 1));
+        xml.write("\">");
+        lastRow = rowIndex;
+        rowOpen = true;
+    }
+
+    public void string(int column, String value, int style) throws IOException {
+        startCell(column, style);
+        xml.write(" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+        escape(value == null ? "" : value);
+        xml.write("</t></is></c>");
+    }
+
+    public void number(int column, long value, int style) throws IOException {
+        startCell(column, style);
+        xml.write("><v>");
+        xml.write(Long.toString(value));
+        xml.write("</v></c>");
+    }
+
+    // 한 행 안에서 열을 병합 (예: 합계/안내사항 행)
+    public void mergeColumns(int rowIndex, int firstColumn, int lastColumn) {
+        mergedRegions.add(cellRef(rowIndex, firstColumn) + ":" + cellRef(rowIndex, lastColumn));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        endRow();
+        xml.write("</sheetData><mergeCells count=\"");
+        xml.write(Integer.toString(mergedRegions.size()));
+        xml.write("\">");
+        for (String region : mergedRegions) {
+            xml.write("<mergeCell ref=\"");
+            xml.write(region);
+            xml.write("\"/>");
+        }
+        xml.write("</mergeCells>");
+        xml.flush();
+        zip.write(template.sheetTail());
+        zip.closeEntry();
+        zip.finish();
+        xml.close();
+    }
+
+    private void startCell(int column, int style) throws IOException {
+        if (!rowOpen) {
+            throw new IllegalStateException("startRow 를 먼저 호출해야 합니다.");
+        }
+        xml.write("<c r=\"");
+        xml.write(cellRef(lastRow, column));
+        xml.write("\" s=\"");
+        xml.write(Integer.toString(style));
+        xml.write('"');
+    }
+
+    private void endRow() throws IOException {
+        if (rowOpen) {
+            xml.write("</row>");
+            rowOpen = false;
+        }
+    }
+
+    // XML 텍스트 이스케이프 (XML 1.0 에서 허용되지 않는 제어 문자는 제거)
+    private void escape(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '&' -> xml.write("&amp;");
+                case '<' -> xml.write("&lt;");
+                case '>' -> xml.write("&gt;");
+                case '\t', '\n', '\r' -> xml.write(ch);
+                default -> {
+                    if (ch >= 0x20 && ch != 0xFFFE && ch != 0xFFFF) {
+                        xml.write(ch);
+                    }
+                }
+            }
+        }
+    }
+
+    static String cellRef(int rowIndex, int column) {
+        return columnName(column) + (rowIndex + 1);
+    }
+
+    private static String columnName(int column) {
+        StringBuilder name = new StringBuilder(3);
+        for (int n = column + 1; n > 0; n = (n - 1) / 26) {
+            name.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,467 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 견적서 파일 저장소 (quotation.output-dir).
+ * - hot: 최근 사용한 견적서 (주문번호.xlsx, 다운로드 시 그대로 전송)
+ * - cold: compress-after-days 동안 접근이 없는 견적서는 gzip 으로 압축 (주문번호.xlsx.gz, 다시 접근하면 hot 으로 복원)
+ * - 전체 용량이 quota 를 넘으면 가장 오래 접근하지 않은 파일부터 삭제 (주문 정보로 다시 생성 가능)
+ * - 저장된 파일 목록/크기/마지막 접근 시각은 메모리 색인으로 관리 → 조회/정리 시 디렉토리를 훑지 않음
+ *   (기동 시 한 번만 읽어 색인 생성)
+ * 파일 이동/삭제는 모두 이 객체의 잠금 안에서 rename 으로 처리하고, 압축/복원은 잠금 밖에서 임시 파일에 씀.
+ */
+@Component
+public class QuotationStore {
+
+    private static final Logger log = LoggerFactory.getLogger(QuotationStore.class);
+
+    static final String HOT_SUFFIX = ".xlsx";
+    static final String COLD_SUFFIX = ".xlsx.gz";
+    static final String TEMP_SUFFIX = ".tmp";
+
+    // quota 를 넘으면 quota 의 90% 까지 비움 (경계에서 매번 삭제가 일어나지 않도록)
+    private static final double EVICT_TARGET_RATIO = 0.9;
+
+    private final Path dir;
+    private final long quotaBytes;
+    private final long compressAfterMillis;
+    private final LongSupplier clock;
+
+    // 접근 순서 색인 (가장 오래 접근하지 않은 파일이 앞). 모든 접근은 this 잠금 안에서
+    private final LinkedHashMap<String, IndexEntry> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long usedBytes;
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder restored = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    // 로그 주기 사이에 변화가 있었는지 판단용
+    private long lastReportedTotal = -1;
+
+    @Autowired
+    public QuotationStore(@Value("${quotation.output-dir:/new_data/bm/buylink/BE/견적서}") String outputDir,
+                          @Value("${quotation.storage.quota-mb:2048}") long quotaMb,
+                          @Value("${quotation.storage.compress-after-days:7}") long compressAfterDays) {
+        this(outputDir, quotaMb * 1024 * 1024, TimeUnit.DAYS.toMillis(compressAfterDays), System::currentTimeMillis);
+    }
+
+    public QuotationStore(String outputDir, long quotaBytes, long compressAfterMillis, LongSupplier clock) {
+        this.dir = Paths.get(outputDir);
+        this.quotaBytes = quotaBytes;
+        this.compressAfterMillis = compressAfterMillis;
+        this.clock = clock;
+        loadIndex();
+    }
+
+    /**
+     * 견적서 렌더링용 임시 파일 (저장소 디렉토리 안 → commit 시 rename 만으로 교체)
+     */
+    public Path createTempFile(String orderNumber) throws IOException {
+        Files.createDirectories(dir);
+        return Files.createTempFile(dir, orderNumber + "-", HOT_SUFFIX + TEMP_SUFFIX);
+    }
+
+    public Path hotPath(String orderNumber) {
+        return dir.resolve(orderNumber + HOT_SUFFIX);
+    }
+
+    Path coldPath(String orderNumber) {
+        return dir.resolve(orderNumber + COLD_SUFFIX);
+    }
+
+    /**
+     * 렌더링을 마친 임시 파일을 해당 주문의 견적서로 교체 (이전 압축본이 있으면 삭제)
+     * @return 견적서 경로 (hot)
+     */
+    public Path commit(String orderNumber, Path temp) throws IOException {
+        Path hot = hotPath(orderNumber);
+        long size = Files.size(temp);
+        synchronized (this) {
+            Files.move(temp, hot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(coldPath(orderNumber));
+            remove(orderNumber);
+            add(orderNumber, new IndexEntry(false, size, clock.getAsLong()));
+        }
+        evictOverQuota();
+        return hot;
+    }
+
+    /**
+     * 다운로드용 견적서 경로. 압축돼 있으면 hot 으로 복원해서 반환, 없거나 삭제됐으면 empty (다시 생성 필요)
+     */
+    public Optional<Path> resolve(String orderNumber) throws IOException {
+        IndexEntry entry;
+        long expected;
+        synchronized (this) {
+            entry = index.get(orderNumber);
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            entry.lastAccess = clock.getAsLong();
+            if (!entry.cold) {
+                Path hot = hotPath(orderNumber);
+                if (Files.isRegularFile(hot)) {
+                    hits.increment();
+                    return Optional.of(hot);
+                }
+                // 밖에서 지워진 파일
+                remove(orderNumber);
+                misses.increment();
+                return Optional.empty();
+            }
+            expected = entry.generation;
+        }
+
+        Optional<Path> restoredPath = restore(orderNumber, entry, expected);
+        if (restoredPath.isPresent()) {
+            evictOverQuota();
+        }
+        return restoredPath;
+    }
+
+    /**
+     * 견적서 내용 읽기 (일괄 내보내기용, 압축본은 풀면서 읽음). 접근 순서/단계는 바꾸지 않음
+     */
+    public Optional<StoredFile> open(String orderNumber) throws IOException {
+        // 정리 작업과 겹쳐 옮겨진 경우를 위해 hot → cold → hot 순서로 시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Optional<StoredFile> hot = openIfExists(hotPath(orderNumber), false);
+            if (hot.isPresent()) {
+                return hot;
+            }
+            Optional<StoredFile> cold = openIfExists(coldPath(orderNumber), true);
+            if (cold.isPresent()) {
+                return cold;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 재사용한 견적서의 마지막 접근 시각 갱신 (렌더링 생략 시)
+     */
+    public synchronized void touch(String orderNumber) {
+        IndexEntry entry = index.get(orderNumber);
+        if (entry != null) {
+            entry.lastAccess = clock.getAsLong();
+        }
+    }
+
+    /**
+     * 정리 작업: 오래 접근하지 않은 hot 파일 압축 → quota 초과분 삭제
+     */
+    @Scheduled(initialDelayString = "${quotation.storage.housekeeping-interval-ms:600000}",
+            fixedDelayString = "${quotation.storage.housekeeping-interval-ms:600000}")
+    public void housekeeping() {
+        compressIdle();
+        evictOverQuota();
+
+        Stats stats = stats();
+        long total = stats.compressed() + stats.restored() + stats.evicted();
+        if (total != lastReportedTotal) {
+            lastReportedTotal = total;
+            log.info("{}", stats);
+        }
+    }
+
+    void compressIdle() {
+        long cutoff = clock.getAsLong() - compressAfterMillis;
+        List<Candidate> candidates = new ArrayList<>();
+        synchronized (this) {
+            // 접근 순서이므로 앞에서부터 cutoff 이전 항목만 보면 됨
+            for (var it : index.entrySet()) {
+                IndexEntry entry = it.getValue();
+                if (entry.lastAccess >= cutoff) {
+                    break;
+                }
+                if (!entry.cold) {
+                    candidates.add(new Candidate(it.getKey(), entry, entry.generation));
+                }
+            }
+        }
+        for (Candidate candidate : candidates) {
+            try {
+                compress(candidate, cutoff);
+            } catch (IOException e) {
+                log.warn("견적서 압축 실패 - 주문번호: {}, 오류: {}", candidate.orderNumber(), e.getMessage());
+            }
+        }
+    }
+
+    void evictOverQuota() {
+        List<String> victims = new ArrayList<>();
+        synchronized (this) {
+            if (usedBytes <= quotaBytes) {
+                return;
+            }
+            long target = (long) (quotaBytes * EVICT_TARGET_RATIO);
+            Iterator<Map.Entry<String, IndexEntry>> it = index.entrySet().iterator();
+            while (usedBytes > target && it.hasNext()) {
+                var next = it.next();
+                IndexEntry entry = next.getValue();
+                try {
+                    Files.deleteIfExists(entry.cold ? coldPath(next.getKey()) : hotPath(next.getKey()));
+                } catch (IOException e) {
+                    log.warn("견적서 삭제 실패 - 주문번호: {}, 오류: {}", next.getKey(), e.getMessage());
+                    continue;
+                }
+                it.remove();
+                entry.removed = true;
+                usedBytes -= entry.size;
+                evicted.increment();
+                victims.add(next.getKey());
+            }
+        }
+        if (!victims.isEmpty()) {
+            log.info("견적서 저장 용량 초과로 {}건 삭제 (다시 요청하면 재생성)", victims.size());
+        }
+    }
+
+    public synchronized Stats stats() {
+        int cold = 0;
+        for (IndexEntry entry : index.values()) {
+            if (entry.cold) {
+                cold++;
+            }
+        }
+        return new Stats(index.size() - cold, cold, usedBytes, quotaBytes,
+                hits.sum(), misses.sum(), compressed.sum(), restored.sum(), evicted.sum());
+    }
+
+    private void compress(Candidate candidate, long cutoff) throws IOException {
+        String orderNumber = candidate.orderNumber();
+        Path temp = Files.createTempFile(dir, orderNumber + "-", COLD_SUFFIX + TEMP_SUFFIX);
+        try {
+            try (InputStream in = Files.newInputStream(hotPath(orderNumber));
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp)) {
+                     {
+                         def.setLevel(Deflater.BEST_COMPRESSION);
+                     }
+                 }) {
+                in.transferTo(out);
+            } catch (NoSuchFileException e) {
+                return;
+            }
+            long size = Files.size(temp);
+
+            synchronized (this) {
+                // 그 사이 다시 생성/삭제/복원됐거나 다시 접근했으면 버림
+                IndexEntry entry = candidate.entry();
+                if (entry.removed || entry.generation != candidate.generation() || entry.lastAccess >= cutoff) {
+                    return;
+                }
+                Files.move(temp, coldPath(orderNumber), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                Files.deleteIfExists(hotPath(orderNumber));
+                usedBytes += size - entry.size;
+                entry.size = size;
+                entry.cold = true;
+                entry.generation = ++generation;
+                compressed.increment();
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Optional<Path> restore(String orderNumber, IndexEntry entry, long expected) throws IOException {
+        Path hot = hotPath(orderNumber);
+        Path temp = createTempFile(orderNumber);
+        try {
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(coldPath(orderNumber)));
+                 OutputStream out = Files.newOutputStream(temp)) {
+                in.transferTo(out);
+            } catch (NoSuchFileException e) {
+                // 복원 중 삭제됨 (quota 초과)
+                misses.increment();
+                return Optional.empty();
+            }
+            long size = Files.size(temp);
+
+            synchronized (this) {
+                if (entry.removed || entry.generation != expected) {
+                    // 그 사이 다시 생성됐으면 새 파일 사용, 삭제됐으면 다시 생성 필요
+                    IndexEntry current = index.get(orderNumber);
+                    return current != null && !current.cold ? Optional.of(hot) : Optional.empty();
+                }
+                Files.move(temp, hot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Files.deleteIfExists(coldPath(orderNumber));
+                usedBytes += size - entry.size;
+                entry.size = size;
+                entry.cold = false;
+                entry.generation = ++generation;
+                restored.increment();
+            }
+            return Optional.of(hot);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Optional<StoredFile> openIfExists(Path file, boolean gzip) throws IOException {
+        try {
+            FileTime lastModified = Files.getLastModifiedTime(file);
+            InputStream in = Files.newInputStream(file);
+            return Optional.of(new StoredFile(gzip ? new GZIPInputStream(in) : in, lastModified));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void add(String orderNumber, IndexEntry entry) {
+        entry.generation = ++generation;
+        index.put(orderNumber, entry);
+        usedBytes += entry.size;
+    }
+
+    private void remove(String orderNumber) {
+        IndexEntry previous = index.remove(orderNumber);
+        if (previous != null) {
+            previous.removed = true;
+            usedBytes -= previous.size;
+        }
+    }
+
+    // 기동 시 한 번만 디렉토리를 읽어 색인 생성 (남은 임시 파일 삭제, hot/cold 가 둘 다 있으면 hot 사용)
+    private void loadIndex() {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        List<Loaded> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                boolean cold = name.endsWith(COLD_SUFFIX);
+                if (!cold && !name.endsWith(HOT_SUFFIX)) {
+                    continue;
+                }
+                String orderNumber = name.substring(0, name.length() - (cold ? COLD_SUFFIX : HOT_SUFFIX).length());
+                BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                loaded.add(new Loaded(orderNumber, cold, attrs.size(), attrs.lastModifiedTime().toMillis()));
+            }
+        } catch (IOException e) {
+            log.warn("견적서 저장소 색인 생성 실패 - 디렉토리: {}, 오류: {}", dir, e.getMessage());
+            return;
+        }
+
+        // 압축 도중 중단돼 hot/cold 가 둘 다 있으면 hot 을 남기고 압축본 삭제
+        Map<String, Loaded> byOrder = new HashMap<>();
+        for (Loaded file : loaded) {
+            Loaded other = byOrder.putIfAbsent(file.orderNumber(), file);
+            if (other != null) {
+                Loaded hot = file.cold() ? other : file;
+                byOrder.put(file.orderNumber(), hot);
+                deleteQuietly(coldPath(file.orderNumber()));
+            }
+        }
+
+        // 마지막 수정 시각을 마지막 접근 시각으로 보고 오래된 것부터 넣음
+        List<Loaded> ordered = new ArrayList<>(byOrder.values());
+        ordered.sort(Comparator.comparingLong(Loaded::lastModified));
+        synchronized (this) {
+            for (Loaded file : ordered) {
+                add(file.orderNumber(), new IndexEntry(file.cold(), file.size(), file.lastModified()));
+            }
+        }
+        log.info("견적서 저장소 색인 생성 - {}", stats());
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", file);
+        }
+    }
+
+    /**
+     * 내보내기용으로 연 견적서 (압축본이면 풀면서 읽는 스트림)
+     */
+    public record StoredFile(InputStream content, FileTime lastModified) {
+    }
+
+    /**
+     * 저장소 상태
+     * - hotFiles / coldFiles: 단계별 파일 수, usedBytes / quotaBytes: 사용량 / 한도
+     * - hits / misses: 다운로드 조회 시 파일 있음 / 없음(재생성 필요), compressed / restored / evicted: 누적 건수
+     */
+    public record Stats(int hotFiles,
+                        int coldFiles,
+                        long usedBytes,
+                        long quotaBytes,
+                        long hits,
+                        long misses,
+                        long compressed,
+                        long restored,
+                        long evicted) {
+
+        @Override
+        public String toString() {
+            return String.format("견적서 저장소 - hot %d, cold %d, 사용 %.1fMB / %.1fMB, 조회 %d (없음 %d), "
+                            + "압축 %d, 복원 %d, 삭제 %d",
+                    hotFiles, coldFiles, usedBytes / 1048576.0, quotaBytes / 1048576.0, hits, misses,
+                    compressed, restored, evicted);
+        }
+    }
+
+    // 색인 항목 (this 잠금 안에서만 변경)
+    private static final class IndexEntry {
+        boolean cold;
+        long size;
+        long lastAccess;
+        long generation;
+        boolean removed;
+
+        IndexEntry(boolean cold, long size, long lastAccess) {
+            this.cold = cold;
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private record Candidate(String orderNumber, IndexEntry entry, long generation) {
+    }
+
+    private record Loaded(String orderNumber, boolean cold, long size, long lastModified) {
+    }
+}
@@ -0,0 +1,295 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 견적서 엑셀 템플릿 (기동 시 한 번만 생성).
+ * - 열 너비, 제목/헤더 행, 셀 스타일/폰트를 POI 로 한 번 만든 뒤 xlsx 파트별 바이트로 보관
+ * - 시트 XML 은 상품 행이 들어갈 위치 앞/뒤로 나눠 둠 → 주문마다 POI 모델 없이 행만 스트리밍 (QuotationSheetWriter)
+ * - 스타일은 템플릿 styles.xml 의 인덱스로 참조 (Styles)
+ */
+@Component
+public class QuotationTemplate {
+
+    static final String SHEET_PART = "xl/worksheets/sheet1.xml";
+
+    private static final Pattern MERGE_CELL = Pattern.compile("<mergeCell ref=\"([A-Z0-9:]+)\"/>");
+    private static final Pattern DIMENSION = Pattern.compile("<dimension [^>]*/>");
+
+    // 양식(열/스타일/문구) 또는 행 작성 방식(QuotationExcelServiceImpl.writeRows)을 바꾸면 올릴 것
+    // → 견적서 지문이 달라져 기존 파일을 재사용하지 않고 다시 렌더링
+    public static final int VERSION = 1;
+
+    public static final int COLUMN_COUNT = 11;
+    public static final int LAST_COLUMN = COLUMN_COUNT - 1;
+
+    // 제목(0), 빈 행(1), 헤더(2) 다음부터 상품 행
+    public static final int FIRST_ITEM_ROW = 3;
+
+    static final String TITLE = "Buylink 구매&배송대행 견적서";
+
+    static final String[] HEADERS = {"No", "상품", "상품 가격(원)", "개수", "해외+국내 배송비",
+            "대행 수수료(5%)", "결제 수수료(3.4%)", "추가 포장 비용",
+            "해외 배송 보상 보험료", "총 결제 금액", "비고"};
+
+    static final int[] COLUMN_WIDTHS = {
+            3000,   // No
+            12000,  // 상품
+            5000,   // 상품 가격
+            2500,   // 개수
+            6000,   // 해외+국내 배송비
+            5000,   // 대행 수수료
+            5000,   // 결제 수수료
+            5000,   // 추가 포장 비용
+            6000,   // 해외 배송 보상 보험료
+            5000,   // 총 결제 금액
+            4000    // 비고
+    };
+
+    public static final List<String> NOTICES = List.of(
+            "배송비는 실무게와 부피 무게 중 더 무거운 쪽으로 계산됩니다.",
+            "본 서비스는 대행 상품입니다. 보험 미가입 시 파손 및 분실에 대해 책임을 지기 어렵습니다.",
+            "보험과 추가 포장 신청이 필요하실 경우 구매 전 요청 부탁드립니다.",
+            "보험 신청 시 파손 정도에 따라 보상이 지급되며, 대행 수수료 및 해외배송비는 미지급 됩니다.",
+            "총 상품 가격이 150달러 이하라면 관부가세를 부과하지 않습니다.",
+            "150달러 이상일 경우, 직접 납부 / 납부 대행은 따로 요청(3,000원)",
+            "상품 문의는 결제 전에만 가능하며, 결제 후 할인된 금액에 대해 환불은 어렵습니다.",
+            "배송비는 예상 배송비로 측정됩니다. 추가 비용이 발생하면 네스팅이 납부하나, 덜 나올 경우 따로 환불은 진행하지 않습니다."
+    );
+
+    private final List<Part> parts;
+    private final byte[] sheetHead;
+    private final byte[] sheetTail;
+    private final List<String> mergedRegions;
+    private final Styles styles;
+
+    public QuotationTemplate() {
+        byte[] workbookBytes;
+        Styles compiledStyles;
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("견적서");
+            for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+                sheet.setColumnWidth(i, COLUMN_WIDTHS[i]);
+            }
+
+            CellStyle titleStyle = createTitleStyle(workbook);
+            CellStyle headerStyle = createHeaderStyle(workbook);
+            compiledStyles = new Styles(
+                    createDataStyle(workbook).getIndex(),
+                    createCurrencyStyle(workbook).getIndex(),
+                    createTotalStyle(workbook).getIndex(),
+                    createNoticeHeaderStyle(workbook).getIndex(),
+                    createNoticeStyle(workbook).getIndex());
+
+            // 제목
+            Cell titleCell = sheet.createRow(0).createCell(0);
+            titleCell.setCellValue(TITLE);
+            titleCell.setCellStyle(titleStyle);
+            sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, LAST_COLUMN));
+
+            // 헤더 행
+            Row headerRow = sheet.createRow(FIRST_ITEM_ROW - 1);
+            for (int i = 0; i < HEADERS.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(HEADERS[i]);
+                cell.setCellStyle(headerStyle);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(8 * 1024);
+            workbook.write(out);
+            workbookBytes = out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("견적서 템플릿 생성 실패", e);
+        }
+
+        // xlsx(zip) 를 파트별로 나누고 시트 XML 은 행을 이어 붙일 위치 기준으로 앞/뒤를 분리
+        List<Part> compiledParts = new ArrayList<>();
+        String sheetXml = null;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(workbookBytes), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                byte[] bytes = zip.readAllBytes();
+                if (SHEET_PART.equals(entry.getName())) {
+                    sheetXml = new String(bytes, StandardCharsets.UTF_8);
+                } else {
+                    compiledParts.add(new Part(entry.getName(), bytes));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("견적서 템플릿 생성 실패", e);
+        }
+        if (sheetXml == null) {
+            throw new IllegalStateException("견적서 템플릿에 시트가 없습니다.");
+        }
+
+        int sheetDataEnd = sheetXml.indexOf("</sheetData>");
+        int mergeStart = sheetXml.indexOf("<mergeCells", sheetDataEnd);
+        int mergeEnd = sheetXml.indexOf("</mergeCells>", sheetDataEnd);
+        if (sheetDataEnd < 0 || mergeStart != sheetDataEnd + "</sheetData>".length() || mergeEnd < 0) {
+            throw new IllegalStateException("견적서 템플릿 시트 형식이 예상과 다릅니다.");
+        }
+
+        List<String> compiledMerges = new ArrayList<>();
+        Matcher merge = MERGE_CELL.matcher(sheetXml.substring(mergeStart, mergeEnd));
+        while (merge.find()) {
+            compiledMerges.add(merge.group(1));
+        }
+
+        // dimension(사용 범위)은 선택 요소라 제거 (행 수가 주문마다 다름)
+        String head = DIMENSION.matcher(sheetXml.substring(0, sheetDataEnd)).replaceFirst("");
+
+        this.parts = List.copyOf(compiledParts);
+        this.sheetHead = head.getBytes(StandardCharsets.UTF_8);
+        this.sheetTail = sheetXml.substring(mergeEnd + "</mergeCells>".length()).getBytes(StandardCharsets.UTF_8);
+        this.mergedRegions = List.copyOf(compiledMerges);
+        this.styles = compiledStyles;
+    }
+
+    /**
+     * 템플릿 뒤에 행을 이어 쓰는 작성기를 연다 (out 으로 xlsx 를 바로 출력).
+     */
+    public QuotationSheetWriter open(OutputStream out) throws IOException {
+        return new QuotationSheetWriter(this, out, null);
+    }
+
+    /**
+     * 내용 지문(QuotationFingerprint)을 zip 주석으로 남기는 작성기를 연다.
+     */
+    public QuotationSheetWriter open(OutputStream out, String fingerprint) throws IOException {
+        return new QuotationSheetWriter(this, out, fingerprint);
+    }
+
+    public Styles styles() {
+        return styles;
+    }
+
+    List<Part> parts() {
+        return parts;
+    }
+
+    byte[] sheetHead() {
+        return sheetHead;
+    }
+
+    byte[] sheetTail() {
+        return sheetTail;
+    }
+
+    List<String> mergedRegions() {
+        return mergedRegions;
+    }
+
+    /**
+     * 상품 행 이후에 쓰는 스타일 (템플릿 styles.xml 의 인덱스)
+     */
+    public record Styles(int data,
+                         int currency,
+                         int total,
+                         int noticeHeader,
+                         int notice) {
+    }
+
+    record Part(String name, byte[] bytes) {
+    }
+
+    private static CellStyle createTitleStyle(Workbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        font.setFontHeightInPoints((short) 16);
+        style.setFont(font);
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        return style;
+    }
+
+    private static CellStyle createHeaderStyle(Workbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        font.setFontHeightInPoints((short) 10);
+        style.setFont(font);
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        setThinBorders(style);
+        style.setWrapText(true);
+        return style;
+    }
+
+    private static CellStyle createDataStyle(Workbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        setThinBorders(style);
+        return style;
+    }
+
+    private static CellStyle createCurrencyStyle(Workbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        style.setAlignment(HorizontalAlignment.RIGHT);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        setThinBorders(style);
+        style.setDataFormat(workbook.createDataFormat().getFormat("#,##0"));
+        return style;
+    }
+
+    private static CellStyle createTotalStyle(Workbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        font.setFontHeightInPoints((short) 11);
+        style.setFont(font);
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        style.setFillForegroundColor(IndexedColors.LIGHT_YELLOW.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        setThinBorders(style);
+        style.setDataFormat(workbook.createDataFormat().getFormat("#,##0"));
+        return style;
+    }
+
+    private static CellStyle createNoticeHeaderStyle(Workbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        font.setFontHeightInPoints((short) 10);
+        style.setFont(font);
+        style.setAlignment(HorizontalAlignment.LEFT);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        return style;
+    }
+
+    private static CellStyle createNoticeStyle(Workbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setFontHeightInPoints((short) 9);
+        style.setFont(font);
+        style.setAlignment(HorizontalAlignment.LEFT);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        return style;
+    }
+
+    private static void setThinBorders(CellStyle style) {
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import io.github.hayo02.proxyshopping.common.retry.RetryBudget;
+import io.github.hayo02.proxyshopping.orders.dto.TossPayConfirmRequest;
+import io.github.hayo02.proxyshopping.orders.dto.TossPayConfirmResponse;
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 토스페이먼츠 API 호출 (타임아웃 + 지터 백오프 재시도 + 전역 재시도 예산).
+ * - 연결/응답 타임아웃을 명시, 시도마다 attempt-timeout 안에 끝나지 않으면 실패로 간주
+ * - 5xx / 429 / 타임아웃 / 연결 오류만 재시도, 4xx 는 바로 호출자에게 전달
+ * - 재시도는 노드 전체 RetryBudget 안에서만 허용 (장애 시 재시도로 부하가 몇 배가 되지 않도록)
+ * - 승인 요청은 Idempotency-Key 를 붙여 재시도해도 토스에서 한 번만 승인됨
+ */
+@Component
+public class TossPaymentClient {
+
+    private static final Logger log = LoggerFactory.getLogger(TossPaymentClient.class);
+
+    private final WebClient webClient;
+    private final Duration attemptTimeout;
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final RetryBudget retryBudget;
+
+    public TossPaymentClient(
+            @Value("${toss.secret-key}") String secretKey,
+            @Value("${toss.base-url}") String baseUrl,
+            @Value("${toss.client.connect-timeout-ms:3000}") int connectTimeoutMs,
+            @Value("${toss.client.attempt-timeout-ms:10000}") long attemptTimeoutMs,
+            @Value("${toss.client.max-retries:3}") int maxRetries,
+            @Value("${toss.client.backoff-initial-ms:200}") long initialBackoffMs,
+            @Value("${toss.client.backoff-max-ms:2000}") long maxBackoffMs,
+            @Value("${toss.client.retry-budget.ratio:0.2}") double budgetRatio,
+            @Value("${toss.client.retry-budget.min-per-second:2}") double budgetMinPerSecond
+    ) {
+        String basicAuth = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+
+        this.attemptTimeout = Duration.ofMillis(attemptTimeoutMs);
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(attemptTimeout);
+
+        this.webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader("Authorization", basicAuth)
+                .defaultHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .build();
+        this.maxRetries = maxRetries;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.retryBudget = new RetryBudget(budgetRatio, budgetMinPerSecond);
+    }
+
+    /**
+     * 결제 승인 (POST /v1/payments/confirm)
+     */
+    public TossPayConfirmResponse confirm(TossPayConfirmRequest req) {
+        Map<String, Object> body = Map.of(
+                "paymentKey", req.getPaymentKey(),
+                "orderId", req.getOrderId(),
+                "amount", req.getAmount()
+        );
+        Mono<TossPayConfirmResponse> call = webClient.post()
+                .uri("/v1/payments/confirm")
+                .header("Idempotency-Key", "confirm-" + req.getPaymentKey())
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(TossPayConfirmResponse.class);
+        return execute(call, "confirm " + req.getOrderId());
+    }
+
+    /**
+     * 결제 조회 (GET /v1/payments/{paymentKey})
+     */
+    public TossPayConfirmResponse getPayment(String paymentKey) {
+        Mono<TossPayConfirmResponse> call = webClient.get()
+                .uri("/v1/payments/{paymentKey}", paymentKey)
+                .retrieve()
+                .bodyToMono(TossPayConfirmResponse.class);
+        return execute(call, "payment " + paymentKey);
+    }
+
+    /**
+     * 결제 조회 1회 (재시도 없음, 재시도 예산과 무관).
+     * - 결제 대사처럼 자체 요청 한도/Retry-After 처리를 하는 배치용 (429 를 바로 호출자에게 전달)
+     */
+    public TossPayConfirmResponse lookupPayment(String paymentKey) {
+        Mono<TossPayConfirmResponse> call = webClient.get()
+                .uri("/v1/payments/{paymentKey}", paymentKey)
+                .retrieve()
+                .bodyToMono(TossPayConfirmResponse.class);
+        return block(call.timeout(attemptTimeout), "payment " + paymentKey);
+    }
+
+    public RetryBudget retryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * 재시도할 만한 오류인지 (5xx, 429, 타임아웃, 연결 오류)
+     */
+    public static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException re) {
+            return re.getStatusCode().is5xxServerError() || re.getStatusCode().value() == 429;
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+
+    private <T> T execute(Mono<T> call, String description) {
+        retryBudget.recordRequest();
+        Retry retry = Retry.backoff(maxRetries, initialBackoff)
+                .maxBackoff(maxBackoff)
+                .jitter(0.5)
+                .filter(e -> isRetryable(e) && retryBudget.tryAcquireRetry())
+                .doBeforeRetry(signal -> log.warn("토스 API 재시도 {}회 - {}: {}",
+                        signal.totalRetries() + 1, description, signal.failure().toString()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+        return block(call.timeout(attemptTimeout).retryWhen(retry), description);
+    }
+
+    private <T> T block(Mono<T> call, String description) {
+        try {
+            return call.block();
+        } catch (RuntimeException e) {
+            // block() 은 checked 예외(TimeoutException)를 감싸서 던지므로 원인으로 되돌림
+            Throwable cause = Exceptions.unwrap(e);
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new TossCallException(description + " 실패", cause);
+        }
+    }
+
+    /**
+     * 재시도 후에도 응답을 받지 못한 경우 (타임아웃 등 checked 예외 래핑)
+     */
+    public static class TossCallException extends RuntimeException {
+        public TossCallException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.hayo02.proxyshopping.orders.support.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 CSV 작성기 (행을 모으지 않고 바로 출력).
+ * - 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감싸고 따옴표는 두 번 씀
+ * - =, +, -, @ 로 시작하는 문자열은 엑셀에서 수식으로 실행되지 않도록 앞에 ' 를 붙임
+ * - null 은 빈 칸
+ */
+public class CsvWriter {
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    public void row(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = values[i];
+            if (value instanceof Number number) {
+                out.write(number.toString());
+            } else if (value != null) {
+                text(value.toString());
+            }
+        }
+        out.write("\r\n");
+    }
+
+    private void text(String value) throws IOException {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char ch = value.charAt(i);
+            quote = ch == ',' || ch == '"' || ch == '\n' || ch == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.hayo02.proxyshopping.orders.support.export;
+
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 CSV 내보내기 한 행 (주문 × 주문 아이템, 아이템이 없는 주문은 아이템 값이 null).
+ * JPQL 생성자 표현식으로 조회 → 영속성 컨텍스트에 쌓이지 않음
+ */
+public record OrderExportRow(String orderNumber,
+                             OrderStatus status,
+                             LocalDateTime createdAt,
+                             LocalDateTime paidAt,
+                             String receiverName,
+                             Long totalAmount,
+                             Long productTotalKRW,
+                             Long serviceFeeKRW,
+                             Long totalShippingFeeKRW,
+                             Long paymentFeeKRW,
+                             Long extraPackagingFeeKRW,
+                             Long insuranceFeeKRW,
+                             Long grandTotalKRW,
+                             String productName,
+                             Integer priceKrw,
+                             Integer quantity) {
+}
@@ -0,0 +1,7 @@
+package io.github.hayo02.proxyshopping.orders.support.export;
+
+/**
+ * 견적서 ZIP 내보내기 대상 (주문번호 + 저장된 견적서 경로)
+ */
+public record QuotationExportRow(String orderNumber, String quotationFilePath) {
+}
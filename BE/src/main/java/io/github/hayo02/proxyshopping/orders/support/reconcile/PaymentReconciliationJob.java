@@ -0,0 +1,387 @@
+package io.github.hayo02.proxyshopping.orders.support.reconcile;
+
+import io.github.hayo02.proxyshopping.common.lock.SchedulerLocks;
+import io.github.hayo02.proxyshopping.common.outbox.OutboxPublisher;
+import io.github.hayo02.proxyshopping.common.ratelimit.TokenBucket;
+import io.github.hayo02.proxyshopping.orders.dto.TossPayConfirmResponse;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+import io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmAttempt;
+import io.github.hayo02.proxyshopping.orders.repository.OrderRepository;
+import io.github.hayo02.proxyshopping.orders.repository.PaymentConfirmAttemptRepository;
+import io.github.hayo02.proxyshopping.orders.service.SlackNotificationService;
+import io.github.hayo02.proxyshopping.orders.support.OrderDetailCache;
+import io.github.hayo02.proxyshopping.orders.support.PaymentCompletedHandler;
+import io.github.hayo02.proxyshopping.orders.support.TossPaymentClient;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토스 결제 상태와 주문 상태 대사 (주기 실행).
+ * - 최근 lookback 기간의 PENDING / PAID 주문을 (createdAt, id) 순으로 청크 단위 조회 (전체를 메모리에 올리지 않음)
+ * - 청크마다 토스 결제 조회를 최대 concurrency 개 동시에, 초당 requests-per-second 이내로 실행
+ * - 토스 조회는 재시도 없이 1회 (사용자 승인과 재시도 예산을 나눠 쓰지 않고, 요청 한도는 이 작업의 토큰 버킷으로)
+ * - 토스가 429 를 주면 Retry-After 동안 요청을 멈추고 이번 실행은 그 청크까지만 처리
+ * - 모든 노드에서 스케줄되므로 scheduler_lock 을 잡은 노드만 실행
+ * - 스케줄러 스레드는 실행을 전용 스레드에 넘기기만 함 (대사가 길어져도 다른 @Scheduled 작업이 밀리지 않도록)
+ * - 안전한 전이만 자동 보정 (PENDING→PAID/FAILED/CANCELED, PAID→CANCELED), 나머지는 요약에 남김
+ * - 승인은 성공했는데 주문이 없는 결제도 함께 찾아 요약/Slack 으로 보고
+ */
+@Component
+public class PaymentReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentReconciliationJob.class);
+
+    private static final List<OrderStatus> TARGET_STATUSES = List.of(OrderStatus.PENDING, OrderStatus.PAID);
+    private static final long DEFAULT_RETRY_AFTER_MS = 1000;
+    private static final String LOCK_NAME = "payment-reconciliation";
+
+    private final OrderRepository orderRepository;
+    private final PaymentConfirmAttemptRepository attemptRepository;
+    private final TossPaymentClient tossPaymentClient;
+    private final OutboxPublisher outboxPublisher;
+    private final OrderDetailCache orderDetailCache;
+    private final SlackNotificationService slackNotificationService;
+    private final SchedulerLocks schedulerLocks;
+    private final TransactionTemplate readOnlyTx;
+    private final TransactionTemplate writeTx;
+
+    private final boolean enabled;
+    private final Duration lookback;
+    private final int chunkSize;
+    private final Duration orphanGrace;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+    private final TokenBucket rateLimiter;
+    private final ExecutorService runner;
+    private final ExecutorService workers;
+
+    // 이전 실행이 끝나지 않았으면 건너뜀
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PaymentReconciliationJob(OrderRepository orderRepository,
+                                    PaymentConfirmAttemptRepository attemptRepository,
+                                    TossPaymentClient tossPaymentClient,
+                                    OutboxPublisher outboxPublisher,
+                                    OrderDetailCache orderDetailCache,
+                                    SlackNotificationService slackNotificationService,
+                                    SchedulerLocks schedulerLocks,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${payment.reconciliation.enabled:true}") boolean enabled,
+                                    @Value("${payment.reconciliation.lookback-hours:24}") long lookbackHours,
+                                    @Value("${payment.reconciliation.chunk-size:100}") int chunkSize,
+                                    @Value("${payment.reconciliation.concurrency:4}") int concurrency,
+                                    @Value("${payment.reconciliation.requests-per-second:10}") double requestsPerSecond,
+                                    @Value("${payment.reconciliation.orphan-grace-minutes:30}") long orphanGraceMinutes,
+                                    @Value("${payment.reconciliation.lock-at-most-ms:1800000}") long lockAtMostMs,
+                                    @Value("${payment.reconciliation.lock-at-least-ms:300000}") long lockAtLeastMs) {
+        this.orderRepository = orderRepository;
+        this.attemptRepository = attemptRepository;
+        this.tossPaymentClient = tossPaymentClient;
+        this.outboxPublisher = outboxPublisher;
+        this.orderDetailCache = orderDetailCache;
+        this.slackNotificationService = slackNotificationService;
+        this.schedulerLocks = schedulerLocks;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.lookback = Duration.ofHours(lookbackHours);
+        this.chunkSize = chunkSize;
+        this.orphanGrace = Duration.ofMinutes(orphanGraceMinutes);
+        this.lockAtMostFor = Duration.ofMillis(lockAtMostMs);
+        this.lockAtLeastFor = Duration.ofMillis(lockAtLeastMs);
+        this.rateLimiter = new TokenBucket(Math.max(1, requestsPerSecond), requestsPerSecond);
+
+        this.runner = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "payment-reconcile-run");
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread t = new Thread(r, "payment-reconcile-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Scheduled(initialDelayString = "${payment.reconciliation.interval-ms:600000}",
+            fixedDelayString = "${payment.reconciliation.interval-ms:600000}")
+    public void run() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            runner.execute(this::runLocked);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            running.set(false);
+        }
+    }
+
+    // 이전 실행이 아직 끝나지 않았는지 (테스트용)
+    boolean isRunning() {
+        return running.get();
+    }
+
+    private void runLocked() {
+        LocalDateTime started = LocalDateTime.now();
+        // 다른 노드가 이번 주기를 실행 중이거나 방금 실행했으면 건너뜀
+        if (!tryLock()) {
+            running.set(false);
+            return;
+        }
+        try {
+            ReconciliationSummary summary = reconcile();
+            if (summary.needsAttention()) {
+                log.warn("{}", summary);
+                notifySlack(summary);
+            } else {
+                log.info("{}", summary);
+            }
+        } catch (Exception e) {
+            log.error("결제 대사 실행 실패: {}", e.getMessage(), e);
+        } finally {
+            try {
+                schedulerLocks.unlock(LOCK_NAME, started.plus(lockAtLeastFor));
+            } catch (Exception e) {
+                log.warn("결제 대사 잠금 해제 실패 (lock-at-most 후 만료): {}", e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    private boolean tryLock() {
+        try {
+            return schedulerLocks.tryLock(LOCK_NAME, lockAtMostFor);
+        } catch (Exception e) {
+            log.warn("결제 대사 잠금 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public ReconciliationSummary reconcile() throws InterruptedException {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minus(lookback);
+
+        Map<ReconcileOutcome, Integer> counts = new EnumMap<>(ReconcileOutcome.class);
+        AtomicBoolean rateLimited = new AtomicBoolean(false);
+
+        // (createdAt, id) 키셋으로 청크 순회
+        LocalDateTime afterCreatedAt = since.minusNanos(1);
+        long afterId = 0L;
+        while (!rateLimited.get()) {
+            LocalDateTime cursorCreatedAt = afterCreatedAt;
+            long cursorId = afterId;
+            List<ReconcileTarget> chunk = readOnlyTx.execute(status -> orderRepository.findReconcileTargets(
+                    TARGET_STATUSES, since, cursorCreatedAt, cursorId, Limit.of(chunkSize)));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+
+            List<Future<ReconcileOutcome>> futures = new ArrayList<>(chunk.size());
+            for (ReconcileTarget target : chunk) {
+                futures.add(workers.submit(() -> check(target, rateLimited)));
+            }
+            for (Future<ReconcileOutcome> future : futures) {
+                counts.merge(outcomeOf(future), 1, Integer::sum);
+            }
+
+            ReconcileTarget last = chunk.get(chunk.size() - 1);
+            afterCreatedAt = last.createdAt();
+            afterId = last.id();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        int orphans = reportOrphans(since, now.minus(orphanGrace));
+        return new ReconciliationSummary(counts, orphans, rateLimited.get(), System.currentTimeMillis() - started);
+    }
+
+    ReconcileOutcome check(ReconcileTarget target, AtomicBoolean rateLimited) {
+        if (target.paymentKey() == null) {
+            return ReconcileOutcome.UNVERIFIABLE;
+        }
+        if (rateLimited.get() || !rateLimiter.acquire()) {
+            return ReconcileOutcome.RATE_LIMITED;
+        }
+
+        TossPayConfirmResponse payment;
+        try {
+            payment = tossPaymentClient.lookupPayment(target.paymentKey());
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                rateLimiter.pauseFor(retryAfterMs(e));
+                rateLimited.set(true);
+                return ReconcileOutcome.RATE_LIMITED;
+            }
+            if (e.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                log.warn("결제 대사 - 토스에 결제가 없음: 주문 {}, paymentKey {}", target.orderNumber(), target.paymentKey());
+                return ReconcileOutcome.MANUAL_REVIEW;
+            }
+            log.warn("결제 대사 - 토스 조회 실패: 주문 {}, {}", target.orderNumber(), e.toString());
+            return ReconcileOutcome.ERROR;
+        } catch (RuntimeException e) {
+            log.warn("결제 대사 - 토스 조회 실패: 주문 {}, {}", target.orderNumber(), e.toString());
+            return ReconcileOutcome.ERROR;
+        }
+        return apply(target, payment);
+    }
+
+    private ReconcileOutcome apply(ReconcileTarget target, TossPayConfirmResponse payment) {
+        OrderStatus expected = expectedStatus(payment.getStatus());
+        if (expected == null) {
+            return ReconcileOutcome.SKIPPED;
+        }
+        if (expected == OrderStatus.PAID && !Objects.equals(payment.getTotalAmount(), target.totalAmount())) {
+            log.warn("결제 대사 - 금액 불일치: 주문 {} ({}원), 토스 {}원",
+                    target.orderNumber(), target.totalAmount(), payment.getTotalAmount());
+            return ReconcileOutcome.MANUAL_REVIEW;
+        }
+        if (expected == target.status()) {
+            return ReconcileOutcome.MATCHED;
+        }
+
+        ReconcileOutcome outcome = correct(target, expected, payment);
+        if (outcome != ReconcileOutcome.MANUAL_REVIEW && outcome != ReconcileOutcome.MATCHED) {
+            orderDetailCache.invalidate(target.orderNumber());
+            log.info("결제 대사 - 주문 {} 상태 보정: {} → {} (토스 {})",
+                    target.orderNumber(), target.status(), expected, payment.getStatus());
+        }
+        return outcome;
+    }
+
+    private ReconcileOutcome correct(ReconcileTarget target, OrderStatus expected, TossPayConfirmResponse payment) {
+        String orderNumber = target.orderNumber();
+        if (target.status() == OrderStatus.PENDING && expected == OrderStatus.PAID) {
+            // 결제 완료 처리 + 견적서/Slack 후속 처리는 아웃박스로 (같은 트랜잭션)
+            Boolean marked = writeTx.execute(status -> {
+                if (orderRepository.markPaidIfPending(orderNumber, approvedAt(payment)) == 0) {
+                    return false;
+                }
+                outboxPublisher.publish(PaymentCompletedHandler.EVENT_TYPE, orderNumber, null);
+                return true;
+            });
+            return Boolean.TRUE.equals(marked) ? ReconcileOutcome.MARKED_PAID : ReconcileOutcome.MATCHED;
+        }
+        if (target.status() == OrderStatus.PENDING && expected == OrderStatus.FAILED) {
+            return orderRepository.updateStatusIf(orderNumber, OrderStatus.PENDING, OrderStatus.FAILED) == 1
+                    ? ReconcileOutcome.MARKED_FAILED : ReconcileOutcome.MATCHED;
+        }
+        if (expected == OrderStatus.CANCELED) {
+            return orderRepository.updateStatusIf(orderNumber, target.status(), OrderStatus.CANCELED) == 1
+                    ? ReconcileOutcome.MARKED_CANCELED : ReconcileOutcome.MATCHED;
+        }
+        // PAID 인데 토스에서는 만료/중단 등 → 사람이 확인
+        log.warn("결제 대사 - 자동 보정 불가: 주문 {} {}, 토스 {}", orderNumber, target.status(), payment.getStatus());
+        return ReconcileOutcome.MANUAL_REVIEW;
+    }
+
+    /**
+     * 토스 결제 상태 → 기대하는 주문 상태 (null: 아직 진행 중이라 판단 보류)
+     */
+    static OrderStatus expectedStatus(String tossStatus) {
+        if (tossStatus == null) {
+            return null;
+        }
+        return switch (tossStatus) {
+            case "DONE", "PARTIAL_CANCELED" -> OrderStatus.PAID;
+            case "CANCELED" -> OrderStatus.CANCELED;
+            case "ABORTED", "EXPIRED" -> OrderStatus.FAILED;
+            default -> null; // READY, IN_PROGRESS, WAITING_FOR_DEPOSIT
+        };
+    }
+
+    private int reportOrphans(LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            return 0;
+        }
+        List<PaymentConfirmAttempt> orphans = readOnlyTx.execute(status -> attemptRepository.findOrphanSucceeded(from, to));
+        if (orphans == null) {
+            return 0;
+        }
+        for (PaymentConfirmAttempt orphan : orphans) {
+            log.warn("결제 대사 - 승인됐지만 주문이 없는 결제: paymentKey {}, 토스 orderId {}, {}원",
+                    orphan.getPaymentKey(), orphan.getOrderId(), orphan.getApprovedAmount());
+        }
+        return orphans.size();
+    }
+
+    private ReconcileOutcome outcomeOf(Future<ReconcileOutcome> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.warn("결제 대사 - 처리 실패: {}", e.getCause().toString());
+            return ReconcileOutcome.ERROR;
+        }
+    }
+
+    private long retryAfterMs(WebClientResponseException e) {
+        String retryAfter = e.getHeaders().getFirst("Retry-After");
+        if (retryAfter != null) {
+            try {
+                return Math.max(0, Long.parseLong(retryAfter.trim())) * 1000;
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 기본값 사용
+            }
+        }
+        return DEFAULT_RETRY_AFTER_MS;
+    }
+
+    private LocalDateTime approvedAt(TossPayConfirmResponse payment) {
+        if (payment.getApprovedAt() != null) {
+            try {
+                return OffsetDateTime.parse(payment.getApprovedAt())
+                        .atZoneSameInstant(ZoneId.systemDefault())
+                        .toLocalDateTime();
+            } catch (DateTimeParseException ignored) {
+                // 형식이 다르면 현재 시각
+            }
+        }
+        return LocalDateTime.now();
+    }
+
+    private void notifySlack(ReconciliationSummary summary) {
+        try {
+            slackNotificationService.sendErrorNotification(summary.toString(), "", "payment-reconciliation");
+        } catch (Exception e) {
+            log.warn("결제 대사 요약 Slack 전송 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.hayo02.proxyshopping.orders.support.reconcile;
+
+public enum ReconcileOutcome {
+    MATCHED,         // 토스 상태와 주문 상태가 일치
+    MARKED_PAID,     // PENDING → PAID 보정 (견적서/알림은 아웃박스로)
+    MARKED_FAILED,   // PENDING → FAILED 보정 (토스 결제 만료/중단)
+    MARKED_CANCELED, // PENDING/PAID → CANCELED 보정 (토스에서 취소됨)
+    SKIPPED,         // 토스에서 아직 진행 중 (READY 등)
+    MANUAL_REVIEW,   // 자동 보정 불가 (금액 불일치, 토스에 결제 없음 등)
+    UNVERIFIABLE,    // paymentKey 가 없는 주문
+    RATE_LIMITED,    // 토스 429 로 확인하지 못함
+    ERROR            // 조회 실패
+}
@@ -0,0 +1,16 @@
+package io.github.hayo02.proxyshopping.orders.support.reconcile;
+
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대사 대상 주문 (대사에 필요한 컬럼만 조회)
+ */
+public record ReconcileTarget(Long id,
+                              String orderNumber,
+                              String paymentKey,
+                              OrderStatus status,
+                              Long totalAmount,
+                              LocalDateTime createdAt) {
+}
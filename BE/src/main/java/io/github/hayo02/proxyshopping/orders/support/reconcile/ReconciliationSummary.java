@@ -0,0 +1,79 @@
+package io.github.hayo02.proxyshopping.orders.support.reconcile;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 대사 1회 실행 결과 요약
+ * - counts: 결과별 주문 수
+ * - orphanPayments: 승인은 성공했지만 주문이 없는 결제 수
+ * - rateLimited: 토스 429 로 중간에 멈췄는지
+ */
+public class ReconciliationSummary {
+
+    private final Map<ReconcileOutcome, Integer> counts;
+    private final int orphanPayments;
+    private final boolean rateLimited;
+    private final long durationMs;
+
+    public ReconciliationSummary(Map<ReconcileOutcome, Integer> counts,
+                                 int orphanPayments,
+                                 boolean rateLimited,
+                                 long durationMs) {
+        EnumMap<ReconcileOutcome, Integer> copy = new EnumMap<>(ReconcileOutcome.class);
+        copy.putAll(counts);
+        this.counts = Collections.unmodifiableMap(copy);
+        this.orphanPayments = orphanPayments;
+        this.rateLimited = rateLimited;
+        this.durationMs = durationMs;
+    }
+
+    public int count(ReconcileOutcome outcome) {
+        return counts.getOrDefault(outcome, 0);
+    }
+
+    public int checked() {
+        return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public int corrected() {
+        return count(ReconcileOutcome.MARKED_PAID) + count(ReconcileOutcome.MARKED_FAILED)
+                + count(ReconcileOutcome.MARKED_CANCELED);
+    }
+
+    // 사람이 확인해야 하는 항목이 있는지 (Slack 보고 대상)
+    public boolean needsAttention() {
+        return count(ReconcileOutcome.MANUAL_REVIEW) > 0 || orphanPayments > 0 || rateLimited
+                || count(ReconcileOutcome.ERROR) > 0;
+    }
+
+    public Map<ReconcileOutcome, Integer> getCounts() {
+        return counts;
+    }
+
+    public int getOrphanPayments() {
+        return orphanPayments;
+    }
+
+    public boolean isRateLimited() {
+        return rateLimited;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    @Override
+    public String toString() {
+        String detail = counts.entrySet().stream()
+                .filter(e -> e.getValue() > 0)
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining(", "));
+        return "결제 대사 - 확인 " + checked() + "건, 보정 " + corrected() + "건 [" + detail + "]"
+                + ", 주문 없는 승인 " + orphanPayments + "건"
+                + (rateLimited ? ", 토스 429 로 중단" : "")
+                + ", " + durationMs + "ms";
+    }
+}
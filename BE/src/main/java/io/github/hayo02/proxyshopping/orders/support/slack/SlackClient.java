@@ -0,0 +1,209 @@
+package io.github.hayo02.proxyshopping.orders.support.slack;
+
+import io.github.hayo02.proxyshopping.common.ratelimit.TokenBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Slack API 호출기.
+ * - 메서드(SlackMethod)마다 토큰 버킷을 두고, 토큰을 받은 호출만 보냄 (maxWaitMs 까지만 기다림)
+ * - 429 응답이면 Retry-After 동안 해당 메서드 버킷을 멈추고 RateLimitedException (다른 호출도 그동안 보내지 않음)
+ * - Web API 응답이 "ok":true 가 아니면 IllegalStateException
+ */
+@Component
+public class SlackClient {
+
+    private static final long DEFAULT_RETRY_AFTER_MS = 1000;
+
+    // 호출 하나의 응답 대기 시간
+    private static final Duration SLACK_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WebClient webClient;
+    private final String apiBaseUrl;
+    private final String webhookUrl;
+    private final String botToken;
+    private final String channel;
+    private final Map<SlackMethod, TokenBucket> buckets = new EnumMap<>(SlackMethod.class);
+
+    public SlackClient(WebClient.Builder webClientBuilder,
+                       @Value("${slack.api-base-url:https://slack.com/api}") String apiBaseUrl,
+                       @Value("${slack.webhook-url:}") String webhookUrl,
+                       @Value("${slack.bot-token:}") String botToken,
+                       @Value("${slack.channel:}") String channel) {
+        this.webClient = webClientBuilder.build();
+        this.apiBaseUrl = apiBaseUrl;
+        this.webhookUrl = webhookUrl;
+        this.botToken = botToken;
+        this.channel = channel;
+        for (SlackMethod method : SlackMethod.values()) {
+            buckets.put(method, new TokenBucket(method.burst(), method.perSecond()));
+        }
+    }
+
+    public boolean hasWebhook() {
+        return webhookUrl != null && !webhookUrl.isBlank() && !webhookUrl.contains("YOUR/WEBHOOK/URL");
+    }
+
+    public boolean hasBotToken() {
+        return botToken != null && !botToken.isBlank() && channel != null && !channel.isBlank();
+    }
+
+    public String channel() {
+        return channel;
+    }
+
+    /**
+     * 텍스트 메시지를 보낼 때 쓰는 메서드 (Bot Token 우선, 없으면 Webhook, 둘 다 없으면 null)
+     */
+    public SlackMethod messageMethod() {
+        if (hasBotToken()) {
+            return SlackMethod.CHAT_POST_MESSAGE;
+        }
+        return hasWebhook() ? SlackMethod.WEBHOOK : null;
+    }
+
+    /**
+     * 해당 메서드의 다음 토큰까지 남은 시간 (0 이면 지금 호출 가능)
+     */
+    public long nanosUntilAvailable(SlackMethod method) {
+        return buckets.get(method).nanosUntilAvailable();
+    }
+
+    /**
+     * 텍스트 메시지 전송 (messageMethod 기준 chat.postMessage 또는 Webhook)
+     */
+    public void postMessage(String text, long maxWaitMs) {
+        SlackMethod method = messageMethod();
+        if (method == null) {
+            throw new IllegalStateException("Slack 설정이 없습니다. webhook-url 또는 bot-token + channel을 설정해주세요.");
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("text", text);
+        payload.put("mrkdwn", true);
+        if (method == SlackMethod.WEBHOOK) {
+            call(method, maxWaitMs, () -> webClient.post()
+                    .uri(webhookUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(payload)
+                    .retrieve()
+                    .bodyToMono(String.class));
+            return;
+        }
+        payload.put("channel", channel);
+        post(method, payload, maxWaitMs);
+    }
+
+    /**
+     * Web API POST (JSON) 후 응답 본문 반환
+     */
+    public String post(SlackMethod method, Map<String, Object> payload, long maxWaitMs) {
+        String response = call(method, maxWaitMs, () -> webClient.post()
+                .uri(apiBaseUrl + "/" + method.apiName())
+                .header("Authorization", "Bearer " + botToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(payload)
+                .retrieve()
+                .bodyToMono(String.class));
+        return requireOk(method, response);
+    }
+
+    /**
+     * Web API GET (쿼리 파라미터) 후 응답 본문 반환
+     */
+    public String get(SlackMethod method, Map<String, Object> params, long maxWaitMs) {
+        String response = call(method, maxWaitMs, () -> webClient.get()
+                .uri(apiBaseUrl + "/" + method.apiName(), uriBuilder -> {
+                    params.forEach(uriBuilder::queryParam);
+                    return uriBuilder.build();
+                })
+                .header("Authorization", "Bearer " + botToken)
+                .retrieve()
+                .bodyToMono(String.class));
+        return requireOk(method, response);
+    }
+
+    /**
+     * files.getUploadURLExternal 로 받은 주소에 파일 본문 업로드 (Web API 메서드가 아니라 한도 없음)
+     */
+    public String upload(String uploadUrl, byte[] content) {
+        return webClient.post()
+                .uri(uploadUrl)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .bodyValue(content)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(SLACK_TIMEOUT);
+    }
+
+    private String call(SlackMethod method, long maxWaitMs, Supplier<Mono<String>> request) {
+        TokenBucket bucket = buckets.get(method);
+        if (!bucket.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+            throw new RateLimitedException(method, TimeUnit.NANOSECONDS.toMillis(bucket.nanosUntilAvailable()));
+        }
+        try {
+            return request.get().block(SLACK_TIMEOUT);
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                long retryAfterMs = retryAfterMs(e);
+                bucket.pauseFor(retryAfterMs);
+                throw new RateLimitedException(method, retryAfterMs);
+            }
+            throw e;
+        }
+    }
+
+    private String requireOk(SlackMethod method, String response) {
+        if (response == null || !response.contains("\"ok\":true")) {
+            throw new IllegalStateException("Slack " + method.apiName() + " 실패: " + response);
+        }
+        return response;
+    }
+
+    private long retryAfterMs(WebClientResponseException e) {
+        String retryAfter = e.getHeaders().getFirst("Retry-After");
+        if (retryAfter != null) {
+            try {
+                return Math.max(0, Long.parseLong(retryAfter.trim())) * 1000;
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 기본값 사용
+            }
+        }
+        return DEFAULT_RETRY_AFTER_MS;
+    }
+
+    /**
+     * 호출 한도 초과 (토큰 대기 시간 초과 또는 429).
+     * 아웃박스 처리기가 기존처럼 재시도하도록 IllegalStateException 으로 둠
+     */
+    public static class RateLimitedException extends IllegalStateException {
+
+        private final SlackMethod method;
+        private final long retryAfterMs;
+
+        public RateLimitedException(SlackMethod method, long retryAfterMs) {
+            super("Slack 호출 한도 초과: " + method.apiName() + " (" + retryAfterMs + "ms 후 가능)");
+            this.method = method;
+            this.retryAfterMs = retryAfterMs;
+        }
+
+        public SlackMethod getMethod() {
+            return method;
+        }
+
+        public long getRetryAfterMs() {
+            return retryAfterMs;
+        }
+    }
+}
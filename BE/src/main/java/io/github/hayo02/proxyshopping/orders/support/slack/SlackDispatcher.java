@@ -0,0 +1,287 @@
+package io.github.hayo02.proxyshopping.orders.support.slack;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Slack 텍스트 알림 비동기 전송기 (에러/대사 요약 등 재시도가 필요 없는 알림).
+ * - enqueue 는 대기열에 넣고 바로 반환 (호출 스레드에서 Slack 을 기다리지 않음), 대기열이 가득 차면 버림
+ * - 첫 알림 후 coalesce-window 동안 모인 알림은 한 메시지(묶음)로 합쳐서 전송
+ * - 전송은 SlackClient 의 메서드별 토큰 버킷을 따르고, 한도 초과/429 면 버킷이 풀릴 때까지 미뤘다가 다시 묶어서 전송
+ *   (밀려 있는 동안 들어온 알림도 같은 묶음에 합쳐지므로 한도 안에서 전달량이 늘어남)
+ * - 접수한 알림은 SlackSpool 에 먼저 기록하고, 전송(또는 포기)한 만큼 acknowledge → 재기동 시 남은 알림을 다시 보냄 (최소 한 번)
+ * - 전송 실패(429 외)는 RETRY_DELAYS_MS 간격으로 다시 시도하고, 그래도 실패하면 버림
+ * - 대기/전송/합쳐짐/버림 건수를 stats() 로 제공하고 주기적으로 로그에 남김
+ */
+@Component
+public class SlackDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SlackDispatcher.class);
+
+    // Slack 은 4,000자가 넘는 text 를 잘라서 보여주므로 묶음 하나를 이 길이 안으로
+    static final int MAX_DIGEST_CHARS = 3_500;
+    static final String DIGEST_SEPARATOR = "\n────────────\n";
+    // 전송 실패 시 다시 시도하기까지 대기 (횟수만큼 시도 후 버림)
+    static final long[] RETRY_DELAYS_MS = {1_000, 5_000, 30_000};
+
+    private final SlackClient slackClient;
+    private final SlackSpool spool;
+    private final boolean enabled;
+    private final long coalesceWindowMs;
+    private final int capacity;
+
+    private final BlockingQueue<String> queue;
+    // 꺼냈지만 아직 보내지 못한 알림 (전송 스레드에서만 접근)
+    private final ArrayDeque<String> pending = new ArrayDeque<>();
+    private volatile int pendingSize;
+    // 맨 앞 묶음의 연속 전송 실패 횟수 (전송 스레드에서만 접근)
+    private int failures;
+
+    private final ScheduledThreadPoolExecutor worker;
+    // 이미 전송 예약이 있으면 추가 enqueue 는 같은 전송에 합쳐짐
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+
+    // 로그 주기 사이에 변화가 있었는지 판단용
+    private long lastReportedTotal;
+
+    public SlackDispatcher(SlackClient slackClient,
+                           SlackSpool spool,
+                           @Value("${slack.enabled:true}") boolean enabled,
+                           @Value("${slack.dispatcher.coalesce-window-ms:2000}") long coalesceWindowMs,
+                           @Value("${slack.dispatcher.queue-capacity:500}") int capacity) {
+        this.slackClient = slackClient;
+        this.spool = spool;
+        this.enabled = enabled;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.worker = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "slack-dispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+        // 종료 시 Retry-After 로 미뤄 둔 전송은 기다리지 않음
+        this.worker.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        resume();
+    }
+
+    // 지난 실행에서 보내지 못한 알림을 대기열 앞에 두고 전송 예약 (capacity 를 넘어도 모두 보냄)
+    private void resume() {
+        List<String> recovered = spool.replay();
+        if (recovered.isEmpty()) {
+            return;
+        }
+        pending.addAll(recovered);
+        pendingSize = pending.size();
+        log.info("지난 실행에서 보내지 못한 Slack 알림 {}건을 다시 보냅니다.", recovered.size());
+        if (enabled && slackClient.messageMethod() != null) {
+            schedule(0);
+        }
+    }
+
+    /**
+     * 알림 전송 예약 (바로 반환). 비활성/설정 없음/대기열 가득 참이면 false
+     */
+    public boolean enqueue(String text) {
+        if (!enabled) {
+            log.info("Slack 알림이 비활성화되어 있습니다.");
+            return false;
+        }
+        if (slackClient.messageMethod() == null) {
+            log.warn("Slack 설정이 없어 알림을 보낼 수 없습니다.");
+            return false;
+        }
+        // 스풀 기록 순서와 대기열 순서를 맞춤 (acknowledge 를 앞에서부터 건수로 하기 위해)
+        synchronized (this) {
+            if (queue.remainingCapacity() == 0) {
+                dropped.increment();
+                log.warn("Slack 알림 대기열이 가득 차 알림을 버립니다.");
+                return false;
+            }
+            if (!spool.append(text)) {
+                dropped.increment();
+                log.warn("Slack 스풀에 기록할 수 없어 알림을 버립니다. {}", spool.stats());
+                return false;
+            }
+            // 꺼내는 쪽만 동시에 실행되므로 자리가 줄지 않음
+            queue.add(text);
+        }
+        enqueued.increment();
+        schedule(coalesceWindowMs);
+        return true;
+    }
+
+    private void schedule(long delayMs) {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            worker.schedule(this::flush, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            scheduled.set(false);
+        }
+    }
+
+    // 전송 스레드에서만 실행
+    void flush() {
+        scheduled.set(false);
+        SlackMethod method = slackClient.messageMethod();
+        try {
+            refill();
+            while (!pending.isEmpty()) {
+                long waitNanos = slackClient.nanosUntilAvailable(method);
+                if (waitNanos > 0) {
+                    schedule(Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+                    return;
+                }
+                List<String> digest = nextDigest();
+                try {
+                    slackClient.postMessage(render(digest), 0);
+                    sent.increment();
+                    messages.add(digest.size());
+                    coalesced.add(digest.size() - 1);
+                } catch (SlackClient.RateLimitedException e) {
+                    // 다음 전송에서 다시 묶음 (그사이 들어온 알림과 합쳐짐)
+                    rateLimited.increment();
+                    putBack(digest);
+                    schedule(Math.max(1, e.getRetryAfterMs()));
+                    return;
+                } catch (RuntimeException e) {
+                    if (failures < RETRY_DELAYS_MS.length) {
+                        log.warn("Slack 알림 전송 실패 ({}건, {}ms 후 다시 시도): {}",
+                                digest.size(), RETRY_DELAYS_MS[failures], e.getMessage());
+                        retried.increment();
+                        putBack(digest);
+                        schedule(RETRY_DELAYS_MS[failures++]);
+                        return;
+                    }
+                    dropped.add(digest.size());
+                    log.error("Slack 알림 전송 실패 ({}건 버림): {}", digest.size(), e.getMessage());
+                }
+                // 보냈거나 포기한 알림은 스풀에서 확인 처리
+                failures = 0;
+                spool.acknowledge(digest.size());
+                refill();
+            }
+        } finally {
+            pendingSize = pending.size();
+        }
+    }
+
+    private void putBack(List<String> digest) {
+        for (int i = digest.size() - 1; i >= 0; i--) {
+            pending.addFirst(digest.get(i));
+        }
+    }
+
+    // 대기열 → pending (둘 다 capacity 이내로 유지)
+    private void refill() {
+        queue.drainTo(pending, capacity - pending.size());
+        pendingSize = pending.size();
+    }
+
+    // 앞에서부터 MAX_DIGEST_CHARS 안에 들어가는 만큼 (첫 알림은 길어도 단독으로 보냄)
+    private List<String> nextDigest() {
+        List<String> digest = new ArrayList<>();
+        int length = 0;
+        while (!pending.isEmpty()) {
+            String next = pending.peekFirst();
+            int added = next.length() + (digest.isEmpty() ? 0 : DIGEST_SEPARATOR.length());
+            if (!digest.isEmpty() && length + added > MAX_DIGEST_CHARS) {
+                break;
+            }
+            digest.add(pending.pollFirst());
+            length += added;
+        }
+        return digest;
+    }
+
+    static String render(List<String> digest) {
+        if (digest.size() == 1) {
+            return digest.get(0);
+        }
+        return ":package: *알림 " + digest.size() + "건 묶음*\n\n" + String.join(DIGEST_SEPARATOR, digest);
+    }
+
+    public Stats stats() {
+        return new Stats(queue.size() + pendingSize, enqueued.sum(), sent.sum(), messages.sum(),
+                coalesced.sum(), dropped.sum(), rateLimited.sum(), retried.sum());
+    }
+
+    @Scheduled(initialDelayString = "${slack.dispatcher.stats-log-interval-ms:60000}",
+            fixedDelayString = "${slack.dispatcher.stats-log-interval-ms:60000}")
+    public void report() {
+        Stats stats = stats();
+        long total = stats.enqueued() + stats.dropped() + stats.rateLimited() + stats.retried();
+        if (total == lastReportedTotal && stats.queued() == 0) {
+            return;
+        }
+        lastReportedTotal = total;
+        if (stats.dropped() > 0 || stats.rateLimited() > 0 || stats.retried() > 0) {
+            log.warn("{}", stats);
+        } else {
+            log.info("{}", stats);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 대기 중인 알림은 한 번 더 보내 보고 종료 (한도에 걸려 남은 건 스풀에 남아 다음 기동 시 전송)
+        worker.execute(this::flush);
+        worker.shutdown();
+        if (!worker.awaitTermination(5, TimeUnit.SECONDS)) {
+            worker.shutdownNow();
+        }
+        int remaining = queue.size() + pendingSize;
+        if (remaining > 0) {
+            log.warn("종료 시 전송하지 못한 Slack 알림 {}건 (다음 기동 시 다시 전송)", remaining);
+        }
+    }
+
+    /**
+     * 전송기 상태
+     * - queued: 보내지 않은 알림 수, enqueued: 누적 접수
+     * - sent: Slack 메시지 수, messages: 전달한 알림 수, coalesced: 다른 알림과 묶여 메시지를 아낀 수 (messages - sent)
+     * - dropped: 대기열/스풀 초과, 재시도 후에도 전송 실패로 버린 알림, rateLimited: 한도 초과/429 로 미룬 횟수
+     * - retried: 전송 실패로 다시 시도한 횟수
+     */
+    public record Stats(int queued,
+                        long enqueued,
+                        long sent,
+                        long messages,
+                        long coalesced,
+                        long dropped,
+                        long rateLimited,
+                        long retried) {
+
+        @Override
+        public String toString() {
+            return String.format("Slack 알림 - 대기 %d, 접수 %d, 전송 %d건(알림 %d, 묶음으로 절약 %d), 버림 %d, 한도 대기 %d, 재시도 %d",
+                    queued, enqueued, sent, messages, coalesced, dropped, rateLimited, retried);
+        }
+    }
+}
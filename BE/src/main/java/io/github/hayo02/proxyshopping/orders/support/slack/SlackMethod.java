@@ -0,0 +1,36 @@
+package io.github.hayo02.proxyshopping.orders.support.slack;
+
+/**
+ * 호출하는 Slack API 메서드와 메서드별 호출 한도.
+ * Slack 은 메서드(tier)마다 한도가 따로라 토큰 버킷도 메서드마다 둠
+ * (chat.postMessage / webhook: 채널당 초당 1건, 짧은 순간 몇 건까지 허용 / files.*: Tier 4, 분당 100건+)
+ */
+public enum SlackMethod {
+
+    CHAT_POST_MESSAGE("chat.postMessage", 3, 1.0),
+    FILES_GET_UPLOAD_URL("files.getUploadURLExternal", 10, 1.5),
+    FILES_COMPLETE_UPLOAD("files.completeUploadExternal", 10, 1.5),
+    WEBHOOK("incoming-webhook", 3, 1.0);
+
+    private final String apiName;
+    private final int burst;
+    private final double perSecond;
+
+    SlackMethod(String apiName, int burst, double perSecond) {
+        this.apiName = apiName;
+        this.burst = burst;
+        this.perSecond = perSecond;
+    }
+
+    public String apiName() {
+        return apiName;
+    }
+
+    int burst() {
+        return burst;
+    }
+
+    double perSecond() {
+        return perSecond;
+    }
+}
@@ -0,0 +1,397 @@
+package io.github.hayo02.proxyshopping.orders.support.slack;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Slack 알림 디스크 스풀 (slack.spool.dir). 보내기 전 알림을 파일에 남겨 재기동해도 잃지 않음 (최소 한 번 전송).
+ * - 세그먼트 파일(번호.seg, segment-bytes 크기)을 메모리 매핑해서 뒤에 이어 씀: 레코드 = [길이 4B][CRC32 4B][UTF-8 본문]
+ *   (본문/CRC 를 먼저 쓰고 길이를 마지막에 써서, 길이가 0 이면 거기까지가 끝)
+ * - 전송을 마친 건수만큼 acknowledge → 확인 위치(세그먼트 번호 + 오프셋)를 ack 파일에 기록
+ * - 확인 위치보다 앞에 있는 세그먼트는 통째로 삭제 (압축)
+ * - 기동 시 확인 위치부터 남은 레코드를 replay (CRC 가 맞지 않는 레코드부터는 버림)
+ * 디스크 반영(force)은 세그먼트를 넘길 때와 종료 시에만 함 → 프로세스 재기동은 견디고, 전원 장애 시에는 최근 알림을 잃을 수 있음.
+ * 모든 메서드는 이 객체의 잠금 안에서 실행.
+ */
+@Component
+public class SlackSpool {
+
+    private static final Logger log = LoggerFactory.getLogger(SlackSpool.class);
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String ACK_FILE = "ack";
+    static final int HEADER_BYTES = 8;
+    // [세그먼트 번호 8B][오프셋 4B][CRC32 4B]
+    private static final int ACK_BYTES = 16;
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final int maxSegments;
+
+    // 오래된 세그먼트가 앞. 첫 세그먼트의 ackPosition 이 확인 위치
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private int ackPosition;
+    // 다음 세그먼트 번호 (ack 파일이 가리키는 번호보다 작아지지 않도록)
+    private long nextSegmentId;
+    private final MappedByteBuffer ackBuffer;
+    private final FileChannel ackChannel;
+
+    private long pending;
+    private long appended;
+    private long acknowledged;
+    private long rejected;
+    private long corrupted;
+
+    @Autowired
+    public SlackSpool(@Value("${slack.spool.dir:${java.io.tmpdir}/buylink/slack-spool}") String dir,
+                      @Value("${slack.spool.segment-kb:1024}") int segmentKb,
+                      @Value("${slack.spool.max-mb:64}") long maxMb) {
+        this(usableDir(Paths.get(dir)), segmentKb * 1024, maxMb * 1024 * 1024);
+    }
+
+    public SlackSpool(Path dir, int segmentBytes, long maxBytes) {
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = (int) Math.max(2, maxBytes / segmentBytes);
+        try {
+            Files.createDirectories(dir);
+            this.ackChannel = FileChannel.open(dir.resolve(ACK_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.ackBuffer = ackChannel.map(FileChannel.MapMode.READ_WRITE, 0, ACK_BYTES);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Slack 스풀을 열 수 없습니다: " + dir, e);
+        }
+    }
+
+    /**
+     * 설정한 디렉토리를 만들 수 없거나 쓸 수 없으면 경고 후 임시 디렉토리 사용
+     * (알림 때문에 기동이 실패하지 않도록, 이때는 재기동하면 남은 알림을 잃을 수 있음)
+     */
+    static Path usableDir(Path preferred) {
+        try {
+            Files.createDirectories(preferred);
+            if (Files.isWritable(preferred)) {
+                return preferred;
+            }
+            log.warn("Slack 스풀 디렉토리에 쓸 수 없음: {}", preferred);
+        } catch (IOException e) {
+            log.warn("Slack 스풀 디렉토리를 만들 수 없음: {} ({})", preferred, e.toString());
+        }
+        try {
+            Path fallback = Files.createTempDirectory("slack-spool");
+            log.warn("Slack 스풀을 임시 디렉토리로 대체: {} (재기동 후 replay 되지 않을 수 있음)", fallback);
+            return fallback;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Slack 스풀 임시 디렉토리를 만들 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 알림 기록. 레코드가 세그먼트보다 크거나 스풀이 max 크기만큼 차 있으면 false
+     */
+    public synchronized boolean append(String text) {
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        int size = HEADER_BYTES + body.length;
+        if (size > segmentBytes) {
+            rejected++;
+            return false;
+        }
+        Segment tail = segments.peekLast();
+        if (tail == null || tail.writePosition + size > segmentBytes) {
+            if (segments.size() >= maxSegments) {
+                rejected++;
+                return false;
+            }
+            tail = roll(tail);
+        }
+        MappedByteBuffer buffer = tail.buffer;
+        int position = tail.writePosition;
+        buffer.put(position + HEADER_BYTES, body);
+        buffer.putInt(position + 4, crc(body));
+        buffer.putInt(position, body.length);
+        tail.writePosition = position + size;
+        pending++;
+        appended++;
+        return true;
+    }
+
+    /**
+     * 앞에서부터 count 건 전송 완료 처리 (확인 위치 기록 후 다 읽은 세그먼트 삭제)
+     */
+    public synchronized void acknowledge(int count) {
+        for (int i = 0; i < count && pending > 0; i++) {
+            Segment head = segments.peekFirst();
+            while (ackPosition >= head.writePosition) {
+                // 앞 세그먼트를 다 읽음 → 다음 세그먼트 처음으로 (pending > 0 이므로 반드시 있음)
+                dropHead();
+                head = segments.peekFirst();
+            }
+            ackPosition += HEADER_BYTES + head.buffer.getInt(ackPosition);
+            pending--;
+            acknowledged++;
+        }
+        compact();
+        writeAck();
+    }
+
+    /**
+     * 확인 위치 이후에 남아 있는 알림 (기동 시 다시 보낼 목록, 기록 순서대로)
+     */
+    public synchronized List<String> replay() {
+        List<String> records = new ArrayList<>();
+        boolean first = true;
+        for (Segment segment : segments) {
+            int position = first ? ackPosition : 0;
+            first = false;
+            while (position < segment.writePosition) {
+                int length = segment.buffer.getInt(position);
+                byte[] body = new byte[length];
+                segment.buffer.get(position + HEADER_BYTES, body);
+                records.add(new String(body, StandardCharsets.UTF_8));
+                position += HEADER_BYTES + length;
+            }
+        }
+        return records;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(segments.size(), pending, appended, acknowledged, rejected, corrupted);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+        ackBuffer.force();
+        try {
+            ackChannel.close();
+        } catch (IOException e) {
+            log.warn("Slack 스풀 ack 파일 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    // 기동 시: 세그먼트 목록 + 확인 위치 읽기, 레코드 검증, 이미 확인한 세그먼트 삭제
+    private void recover() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                try {
+                    ids.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    log.warn("Slack 스풀에 알 수 없는 파일: {}", path);
+                }
+            }
+        }
+        ids.sort(null);
+
+        long ackSegment = ackBuffer.getLong(0);
+        int ackOffset = ackBuffer.getInt(8);
+        boolean ackValid = ackBuffer.getInt(12) == ackCrc(ackSegment, ackOffset);
+
+        nextSegmentId = ackValid ? ackSegment : 0;
+        boolean tailDamaged = false;
+        for (long id : ids) {
+            nextSegmentId = Math.max(nextSegmentId, id + 1);
+            if (ackValid && id < ackSegment) {
+                // 확인을 마쳤지만 삭제 전에 종료된 세그먼트
+                Files.deleteIfExists(segmentPath(id));
+                continue;
+            }
+            Segment segment = Segment.open(segmentPath(id), id, segmentBytes);
+            tailDamaged = !scan(segment);
+            segments.addLast(segment);
+        }
+
+        Segment head = segments.peekFirst();
+        if (head != null && ackValid && head.id == ackSegment && ackOffset <= head.writePosition) {
+            ackPosition = ackOffset;
+        } else {
+            // ack 기록이 없거나 깨졌으면 남은 세그먼트 처음부터 다시 보냄 (중복 전송 가능)
+            ackPosition = 0;
+        }
+        pending = countFrom(ackPosition);
+        if (tailDamaged) {
+            // 깨진 레코드 뒤에 이어 쓰지 않도록 새 세그먼트에서 시작
+            roll(segments.peekLast());
+        }
+        compact();
+        writeAck();
+        if (pending > 0 || corrupted > 0) {
+            log.info("Slack 스풀 복구 - 보내지 못한 알림 {}건, 손상된 레코드로 버린 구간 {}곳", pending, corrupted);
+        }
+    }
+
+    // 세그먼트의 유효한 레코드 끝을 writePosition 으로 (CRC 불일치/범위 초과면 false)
+    private boolean scan(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + HEADER_BYTES <= segmentBytes) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || position + HEADER_BYTES + length > segmentBytes) {
+                corrupted++;
+                segment.writePosition = position;
+                return false;
+            }
+            byte[] body = new byte[length];
+            buffer.get(position + HEADER_BYTES, body);
+            if (buffer.getInt(position + 4) != crc(body)) {
+                corrupted++;
+                segment.writePosition = position;
+                return false;
+            }
+            position += HEADER_BYTES + length;
+        }
+        segment.writePosition = position;
+        return true;
+    }
+
+    private long countFrom(int headPosition) {
+        long count = 0;
+        boolean first = true;
+        for (Segment segment : segments) {
+            int position = first ? headPosition : 0;
+            first = false;
+            while (position < segment.writePosition) {
+                position += HEADER_BYTES + segment.buffer.getInt(position);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Segment roll(Segment previous) {
+        long id = nextSegmentId++;
+        if (previous != null) {
+            previous.buffer.force();
+        }
+        try {
+            Segment segment = Segment.open(segmentPath(id), id, segmentBytes);
+            segments.addLast(segment);
+            if (segments.size() == 1) {
+                ackPosition = 0;
+            }
+            compact();
+            writeAck();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Slack 스풀 세그먼트 생성 실패: " + id, e);
+        }
+    }
+
+    // 확인 위치가 첫 세그먼트 끝에 닿았고 뒤에 세그먼트가 있으면 삭제
+    private void compact() {
+        while (segments.size() > 1 && ackPosition >= segments.peekFirst().writePosition) {
+            dropHead();
+        }
+    }
+
+    private void dropHead() {
+        Segment head = segments.pollFirst();
+        head.close();
+        ackPosition = 0;
+        try {
+            Files.deleteIfExists(head.path);
+        } catch (IOException e) {
+            log.warn("Slack 스풀 세그먼트 삭제 실패: {}", head.path, e);
+        }
+        writeAck();
+    }
+
+    private void writeAck() {
+        Segment head = segments.peekFirst();
+        long segmentId = head == null ? 0 : head.id;
+        ackBuffer.putLong(0, segmentId);
+        ackBuffer.putInt(8, ackPosition);
+        ackBuffer.putInt(12, ackCrc(segmentId, ackPosition));
+    }
+
+    private Path segmentPath(long id) {
+        return dir.resolve(String.format("%016d%s", id, SEGMENT_SUFFIX));
+    }
+
+    private static int crc(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static int ackCrc(long segmentId, int offset) {
+        CRC32 crc = new CRC32();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (segmentId >>> shift));
+        }
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            crc.update(offset >>> shift);
+        }
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 스풀 상태 - segments: 세그먼트 파일 수, pending: 확인 전 알림 수
+     * appended/acknowledged: 누적 기록/확인, rejected: 크기 초과로 기록하지 못한 수, corrupted: 기동 시 발견한 손상 구간
+     */
+    public record Stats(int segments, long pending, long appended, long acknowledged, long rejected, long corrupted) {
+
+        @Override
+        public String toString() {
+            return String.format("Slack 스풀 - 세그먼트 %d, 미확인 %d, 기록 %d, 확인 %d, 기록 거절 %d, 손상 %d",
+                    segments, pending, appended, acknowledged, rejected, corrupted);
+        }
+    }
+
+    private static final class Segment {
+        final long id;
+        final Path path;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int writePosition;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path path, long id, int segmentBytes) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes));
+        }
+
+        void close() {
+            buffer.force();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Slack 스풀 세그먼트 닫기 실패: {}", path, e);
+            }
+        }
+    }
+}
@@ -33,6 +33,13 @@ public class ProductFetchServiceImpl implements ProductFetchService {
                 .bodyToMono(Map.class)
                 .block();
 
+        return toProductInfo(req.getUrl(), resp);
+    }
+
+    /**
+     * 크롤러 응답(Map)을 ProductInfoDto 로 변환 (네트워크와 분리해 단독 측정 가능)
+     */
+    ProductInfoDto toProductInfo(String url, Map<String, Object> resp) {
         if (resp == null || !Boolean.TRUE.equals(resp.get("success"))) {
             String err = resp != null ? String.valueOf(resp.get("error")) : "crawler null response";
             throw new IllegalStateException("크롤링 실패: " + err);
@@ -42,7 +49,7 @@ public class ProductFetchServiceImpl implements ProductFetchService {
         Map<String, Object> data = (Map<String, Object>) resp.get("data");
 
         ProductInfoDto dto = new ProductInfoDto();
-        dto.setProductURL(req.getUrl());
+        dto.setProductURL(url);
         dto.setProductName((String) data.getOrDefault("productName", null));
         dto.setProductDescription((String) data.getOrDefault("description", null));
 
@@ -3,7 +3,11 @@ package io.github.hayo02.proxyshopping;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// 실제 견적서/Slack 스풀 디렉토리 대신 빌드 디렉토리 사용 (저장소/스풀이 기동 시 디렉토리를 읽음)
+@SpringBootTest(properties = {
+		"quotation.output-dir=build/quotation-test",
+		"slack.spool.dir=build/slack-spool-test"
+})
 class ProxyShoppingApplicationTests {
 
 	@Test
@@ -0,0 +1,159 @@
+package io.github.hayo02.proxyshopping.cart.repository;
+
+import io.github.hayo02.proxyshopping.cart.entity.CartEstimate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 proxySid 로 견적이 동시에 저장될 때 단일 SQL Upsert 가
+ * unique 제약 위반 없이 한 행만 유지하는지 확인 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CartEstimateRepositoryUpsertTest {
+
+    private static final int THREADS = 16;
+    private static final int WRITES_PER_THREAD = 50;
+
+    @Autowired
+    private CartEstimateRepository cartEstimateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        cartEstimateRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void upsertInsertsThenUpdatesSameRow() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(s -> cartEstimateRepository.upsert(estimate("sid-1", 1)));
+        CartEstimate first = cartEstimateRepository.findByProxySid("sid-1").orElseThrow();
+
+        tx.executeWithoutResult(s -> cartEstimateRepository.upsert(estimate("sid-1", 2)));
+        CartEstimate second = cartEstimateRepository.findByProxySid("sid-1").orElseThrow();
+
+        assertThat(cartEstimateRepository.count()).isEqualTo(1);
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(second.getCreatedAt()).isEqualTo(first.getCreatedAt());
+        assertThat(second.getGrandTotalKRW()).isEqualTo(2L);
+        assertThat(second.getItemIds()).isEqualTo("[2]");
+    }
+
+    @Test
+    void concurrentUpsertsForSameSidKeepOneConsistentRow() throws Exception {
+        List<Throwable> errors = runConcurrently(thread -> "sid-shared");
+
+        assertThat(errors).isEmpty();
+        List<CartEstimate> rows = cartEstimateRepository.findAll();
+        assertThat(rows).hasSize(1);
+
+        // 마지막 저장 하나가 통째로 남아야 함 (여러 요청의 컬럼이 섞이면 안 됨)
+        CartEstimate row = rows.get(0);
+        long version = row.getGrandTotalKRW();
+        assertThat(row.getProductTotalKRW()).isEqualTo(version * 10);
+        assertThat(row.getItemIds()).isEqualTo("[" + version + "]");
+        assertThat(lastWrites()).contains(version);
+    }
+
+    @Test
+    void concurrentFirstInsertsForManySidsNeverViolateUniqueConstraint() throws Exception {
+        List<Throwable> errors = runConcurrently(thread -> "sid-" + (thread % 4));
+
+        assertThat(errors).isEmpty();
+        assertThat(cartEstimateRepository.count()).isEqualTo(4);
+    }
+
+    private List<Throwable> runConcurrently(java.util.function.IntFunction<String> sidForThread) throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Throwable> errors = ConcurrentHashMap.newKeySet();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 1; i <= WRITES_PER_THREAD; i++) {
+                        long version = (long) thread * WRITES_PER_THREAD + i;
+                        try {
+                            tx.executeWithoutResult(s ->
+                                    cartEstimateRepository.upsert(estimate(sidForThread.apply(thread), version)));
+                        } catch (Throwable e) {
+                            errors.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new ArrayList<>(errors);
+    }
+
+    // 각 스레드가 마지막으로 저장한 값
+    private List<Long> lastWrites() {
+        List<Long> last = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            last.add((long) t * WRITES_PER_THREAD + WRITES_PER_THREAD);
+        }
+        return last;
+    }
+
+    private CartEstimate estimate(String proxySid, long version) {
+        return CartEstimate.builder()
+                .proxySid(proxySid)
+                .itemIds("[" + version + "]")
+                .productTotalKRW(version * 10)
+                .serviceFeeKRW(0L)
+                .totalActualWeightG(100.0)
+                .totalVolumeCm3(200.0)
+                .volumetricWeightG(40.0)
+                .chargeableWeightG(100.0)
+                .carrier("EMS")
+                .parcelCount(1)
+                .emsYen(1450L)
+                .yenToKrwRate(9.35)
+                .fxSnapshotVersion(1L)
+                .internationalShippingKRW(13560L)
+                .domesticShippingKRW(3000L)
+                .totalShippingFeeKRW(16560L)
+                .paymentFeeKRW(0L)
+                .extraPackagingFeeKRW(0L)
+                .insuranceFeeKRW(0L)
+                .grandTotalKRW(version)
+                .extraPackaging(false)
+                .insurance(false)
+                .build();
+    }
+}
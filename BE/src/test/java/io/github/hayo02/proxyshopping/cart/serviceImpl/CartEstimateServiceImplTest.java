@@ -0,0 +1,243 @@
+package io.github.hayo02.proxyshopping.cart.serviceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateMatrixRequest;
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateMatrixResponse;
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateRequest;
+import io.github.hayo02.proxyshopping.cart.dto.CartEstimateResponse;
+import io.github.hayo02.proxyshopping.cart.entity.CartEstimate;
+import io.github.hayo02.proxyshopping.cart.entity.CartItem;
+import io.github.hayo02.proxyshopping.cart.repository.CartEstimateRepository;
+import io.github.hayo02.proxyshopping.cart.repository.CartItemRepository;
+import io.github.hayo02.proxyshopping.cart.support.EmsShippingCalculator;
+import io.github.hayo02.proxyshopping.cart.support.EstimateMemo;
+import io.github.hayo02.proxyshopping.cart.support.fx.ExchangeRateSnapshot;
+import io.github.hayo02.proxyshopping.cart.support.fx.ExchangeRateSource;
+import io.github.hayo02.proxyshopping.cart.support.fx.RefreshingExchangeRateProvider;
+import io.github.hayo02.proxyshopping.cart.support.parcel.ParcelSplitOptimizer;
+import io.github.hayo02.proxyshopping.cart.support.rate.Carrier;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingRateEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 배송 수단 한도: 한도를 넘는 배송 수단은 견적에서 거절, 매트릭스에서는 보낼 수 없는 수단으로 분리,
+ * 견적 메모가 적중해도 다른 노드가 바꾼 cart_estimate 는 다시 저장, 환율 버전이 바뀌면 재계산 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class CartEstimateServiceImplTest {
+
+    private static final String SID = "sid-estimate";
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private CartEstimateRepository cartEstimateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ParcelSplitOptimizer optimizer;
+    private CartEstimateServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ShippingRateEngine engine = new ShippingRateEngine(objectMapper, "classpath*:shipping/rates/*.json");
+        ExchangeRateSnapshot fx = new ExchangeRateSnapshot(1L, 10.0, "test", Instant.EPOCH);
+        optimizer = new ParcelSplitOptimizer(1);
+        service = new CartEstimateServiceImpl(cartItemRepository, cartEstimateRepository,
+                new EmsShippingCalculator(engine, 1), engine, new EstimateMemo(100), () -> fx, optimizer,
+                objectMapper, 1, 10_000, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        optimizer.shutdown();
+    }
+
+    @Test
+    void 한도를_넘는_배송_수단을_지정하면_마지막_구간_요금_대신_거절한다() {
+        List<Long> ids = save(5_000.0);
+
+        assertThatThrownBy(() -> service.estimate(SID, request(ids, Carrier.EPACKET)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("EPACKET");
+
+        CartEstimateResponse sal = service.estimate(SID, request(ids, Carrier.SAL));
+        assertThat(sal.getCarrier()).isEqualTo("SAL");
+        assertThat(sal.getEmsYen()).isEqualTo(4200);
+    }
+
+    @Test
+    void 나눠서_보낼_수_있으면_한_박스_한도를_넘어도_분할_견적을_낸다() {
+        List<Long> ids = save(1_500.0, 1_500.0);
+
+        CartEstimateResponse epacket = service.estimate(SID, request(ids, Carrier.EPACKET));
+
+        assertThat(epacket.getParcelCount()).isEqualTo(2);
+        assertThat(epacket.getEmsYen()).isEqualTo(1820 * 2);
+    }
+
+    @Test
+    void 매트릭스는_보낼_수_없는_배송_수단을_조합에서_빼고_따로_알린다() {
+        List<Long> ids = save(5_000.0);
+
+        CartEstimateMatrixResponse matrix = service.estimateMatrix(SID, matrixRequest(ids));
+
+        assertThat(matrix.getOptions())
+                .extracting(CartEstimateMatrixResponse.Option::getCarrier)
+                .containsOnly("EMS", "SAL");
+        assertThat(matrix.getUnavailableCarriers()).containsExactly("EPACKET");
+        assertThat(matrix.getDefaultCarrier()).isEqualTo("EMS");
+    }
+
+    @Test
+    void 어떤_배송_수단으로도_보낼_수_없으면_기본_수단도_없다() {
+        List<Long> ids = save(40_000.0);
+
+        CartEstimateMatrixResponse matrix = service.estimateMatrix(SID, matrixRequest(ids));
+
+        assertThat(matrix.getOptions()).isEmpty();
+        assertThat(matrix.getUnavailableCarriers()).containsExactly("EMS", "EPACKET", "SAL");
+        assertThat(matrix.getDefaultCarrier()).isNull();
+        assertThatThrownBy(() -> service.estimate(SID, request(ids, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void 메모가_적중해도_다른_노드가_바꾼_cart_estimate_를_다시_저장한다() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        try {
+            List<Long> ids = tx.execute(s -> save(1_000.0));
+            CartEstimateResponse first = tx.execute(s -> service.estimate(SID, request(ids, Carrier.EMS)));
+
+            // 다른 노드가 같은 세션의 견적을 다른 배송 수단으로 저장
+            tx.executeWithoutResult(s -> cartEstimateRepository.upsert(CartEstimate.builder()
+                    .proxySid(SID).itemIds("[]").carrier("SAL").parcelCount(1).emsYen(1800L)
+                    .grandTotalKRW(1L).extraPackaging(false).insurance(false)
+                    .build()));
+
+            CartEstimateResponse second = tx.execute(s -> service.estimate(SID, request(ids, Carrier.EMS)));
+
+            assertThat(second).isSameAs(first);
+            CartEstimate persisted = cartEstimateRepository.findByProxySid(SID).orElseThrow();
+            assertThat(persisted.getCarrier()).isEqualTo("EMS");
+            assertThat(persisted.getGrandTotalKRW()).isEqualTo(first.getGrandTotalKRW());
+        } finally {
+            cartEstimateRepository.deleteAllInBatch();
+            cartItemRepository.deleteAllInBatch();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void 메모가_적중하고_저장된_fingerprint_가_같으면_cart_estimate_를_다시_저장하지_않는다() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        try {
+            List<Long> ids = tx.execute(s -> save(1_000.0));
+            CartEstimateResponse first = tx.execute(s -> service.estimate(SID, request(ids, Carrier.EMS)));
+
+            // fingerprint 는 그대로 두고 다른 컬럼만 바꿔 두면, 다시 저장했는지 구분할 수 있음
+            tx.executeWithoutResult(s -> cartEstimateRepository.findByProxySid(SID).orElseThrow()
+                    .setGrandTotalKRW(1L));
+
+            CartEstimateResponse second = tx.execute(s -> service.estimate(SID, request(ids, Carrier.EMS)));
+
+            assertThat(second).isSameAs(first);
+            CartEstimate persisted = cartEstimateRepository.findByProxySid(SID).orElseThrow();
+            assertThat(persisted.getFingerprint()).hasSize(64);
+            assertThat(persisted.getGrandTotalKRW()).isEqualTo(1L);
+        } finally {
+            cartEstimateRepository.deleteAllInBatch();
+            cartItemRepository.deleteAllInBatch();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void 환율_버전이_바뀌면_메모를_쓰지_않고_새_fingerprint_로_다시_저장한다() throws Exception {
+        AtomicReference<Double> rate = new AtomicReference<>(10.0);
+        RefreshingExchangeRateProvider fx = new RefreshingExchangeRateProvider(new ExchangeRateSource() {
+            @Override
+            public double fetchYenToKrw() {
+                return rate.get();
+            }
+
+            @Override
+            public String name() {
+                return "test";
+            }
+        }, 1.0);
+        ObjectMapper objectMapper = new ObjectMapper();
+        ShippingRateEngine engine = new ShippingRateEngine(objectMapper, "classpath*:shipping/rates/*.json");
+        CartEstimateServiceImpl fxService = new CartEstimateServiceImpl(cartItemRepository, cartEstimateRepository,
+                new EmsShippingCalculator(engine, 1), engine, new EstimateMemo(100), fx, optimizer,
+                objectMapper, 1, 10_000, 0);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        try {
+            List<Long> ids = tx.execute(s -> save(1_000.0));
+            CartEstimateResponse first = tx.execute(s -> fxService.estimate(SID, request(ids, Carrier.EMS)));
+            CartEstimate firstRow = cartEstimateRepository.findByProxySid(SID).orElseThrow();
+
+            rate.set(11.0);
+            fx.refresh();
+            CartEstimateResponse second = tx.execute(s -> fxService.estimate(SID, request(ids, Carrier.EMS)));
+
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.getInternationalShippingKRW()).isGreaterThan(first.getInternationalShippingKRW());
+            CartEstimate persisted = cartEstimateRepository.findByProxySid(SID).orElseThrow();
+            assertThat(persisted.getFxSnapshotVersion()).isEqualTo(fx.current().version())
+                    .isGreaterThan(firstRow.getFxSnapshotVersion());
+            assertThat(persisted.getFingerprint()).isNotEqualTo(firstRow.getFingerprint());
+        } finally {
+            cartEstimateRepository.deleteAllInBatch();
+            cartItemRepository.deleteAllInBatch();
+        }
+    }
+
+    private List<Long> save(Double... weightsG) {
+        return Arrays.stream(weightsG).map(weightG -> {
+            CartItem item = new CartItem();
+            item.setProxySid(SID);
+            item.setProductName("item");
+            item.setPriceKRW(10_000);
+            item.setAiWeightG(weightG);
+            item.setAiVolumeCm3(1_000.0);
+            return cartItemRepository.save(item).getId();
+        }).toList();
+    }
+
+    private CartEstimateRequest request(List<Long> ids, Carrier carrier) {
+        CartEstimateRequest request = new CartEstimateRequest();
+        request.setItemIds(ids);
+        request.setCarrier(carrier);
+        return request;
+    }
+
+    private CartEstimateMatrixRequest matrixRequest(List<Long> ids) {
+        CartEstimateMatrixRequest request = new CartEstimateMatrixRequest();
+        request.setItemIds(ids);
+        return request;
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.hayo02.proxyshopping.cart.support.fx;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파일 환율 원천: 조회마다 파일을 다시 읽고, rate 가 숫자가 아니면 실패
+ */
+class FileExchangeRateSourceTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 파일을_교체하면_다음_조회에_반영된다() throws Exception {
+        Path file = Files.writeString(dir.resolve("jpy-krw.json"), "{\"rate\": 9.35}");
+        FileExchangeRateSource source = source(file);
+
+        assertThat(source.fetchYenToKrw()).isEqualTo(9.35);
+
+        Files.writeString(file, "{\"rate\": 9.5}");
+        assertThat(source.fetchYenToKrw()).isEqualTo(9.5);
+    }
+
+    @Test
+    void rate_가_없거나_숫자가_아니면_실패한다() throws Exception {
+        Path missing = Files.writeString(dir.resolve("missing.json"), "{\"krw\": 9.35}");
+        Path text = Files.writeString(dir.resolve("text.json"), "{\"rate\": \"9.35\"}");
+
+        assertThatThrownBy(() -> source(missing).fetchYenToKrw()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> source(text).fetchYenToKrw()).isInstanceOf(IllegalStateException.class);
+    }
+
+    private FileExchangeRateSource source(Path file) {
+        return new FileExchangeRateSource(new DefaultResourceLoader(), new ObjectMapper(), "file:" + file);
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.hayo02.proxyshopping.cart.support.fx;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 외부 API 환율 원천: 응답 JSON 의 ratePointer 위치 값을 사용, 없으면 실패 (JDK HttpServer 대역)
+ */
+class HttpExchangeRateSourceTest {
+
+    private HttpServer server;
+    private volatile String body;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/rates", exchange -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void ratePointer_위치의_값을_1엔당_원화로_사용한다() {
+        body = "{\"base\":\"JPY\",\"rates\":{\"KRW\":9.35,\"USD\":0.0067}}";
+
+        assertThat(source("/rates/KRW").fetchYenToKrw()).isEqualTo(9.35);
+    }
+
+    @Test
+    void ratePointer_위치에_숫자가_없으면_실패한다() {
+        body = "{\"base\":\"JPY\",\"rates\":{\"USD\":0.0067}}";
+
+        assertThatThrownBy(() -> source("/rates/KRW").fetchYenToKrw())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private HttpExchangeRateSource source(String ratePointer) {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/rates";
+        return new HttpExchangeRateSource(WebClient.create(), url, ratePointer, Duration.ofSeconds(3));
+    }
+}
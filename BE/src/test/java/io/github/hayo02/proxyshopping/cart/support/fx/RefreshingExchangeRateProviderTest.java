@@ -0,0 +1,113 @@
+package io.github.hayo02.proxyshopping.cart.support.fx;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 환율 Provider: 생성 시 원천을 한 번 읽고, 갱신마다 스냅샷을 통째로 교체하며 버전을 올림,
+ * 조회 실패/비정상 값이면 직전 스냅샷 유지
+ */
+class RefreshingExchangeRateProviderTest {
+
+    @Test
+    void 생성_시_원천을_한_번_읽어_fallback_대신_실제_환율로_시작한다() {
+        ScriptedSource source = new ScriptedSource().then(9.35);
+
+        RefreshingExchangeRateProvider provider = new RefreshingExchangeRateProvider(source, 10.0);
+
+        ExchangeRateSnapshot snapshot = provider.current();
+        assertThat(snapshot.yenToKrw()).isEqualTo(9.35);
+        assertThat(snapshot.version()).isPositive();
+        assertThat(snapshot.source()).isEqualTo("scripted");
+    }
+
+    @Test
+    void 생성_시_조회가_실패하면_fallback_스냅샷으로_시작한다() {
+        ScriptedSource source = new ScriptedSource().thenFail();
+
+        RefreshingExchangeRateProvider provider = new RefreshingExchangeRateProvider(source, 10.0);
+
+        ExchangeRateSnapshot snapshot = provider.current();
+        assertThat(snapshot.yenToKrw()).isEqualTo(10.0);
+        assertThat(snapshot.version()).isZero();
+        assertThat(snapshot.source()).isEqualTo("fallback");
+    }
+
+    @Test
+    void 환율이_바뀌면_스냅샷을_교체하고_버전을_올린다() {
+        ScriptedSource source = new ScriptedSource().then(9.35).then(9.35).then(9.50);
+        RefreshingExchangeRateProvider provider = new RefreshingExchangeRateProvider(source, 10.0);
+        ExchangeRateSnapshot first = provider.current();
+
+        // 값이 같으면 스냅샷/버전 그대로
+        provider.refresh();
+        assertThat(provider.current()).isSameAs(first);
+
+        provider.refresh();
+        ExchangeRateSnapshot second = provider.current();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.yenToKrw()).isEqualTo(9.50);
+        assertThat(second.version()).isGreaterThan(first.version());
+        // 이미 꺼내 간 스냅샷은 바뀌지 않음 (견적 도중 환율이 섞이지 않도록)
+        assertThat(first.yenToKrw()).isEqualTo(9.35);
+    }
+
+    @Test
+    void 조회_실패나_비정상_환율이면_직전_스냅샷을_유지한다() {
+        ScriptedSource source = new ScriptedSource().then(9.35)
+                .thenFail().then(Double.NaN).then(0.0).then(-1.0).then(Double.POSITIVE_INFINITY);
+        RefreshingExchangeRateProvider provider = new RefreshingExchangeRateProvider(source, 10.0);
+        ExchangeRateSnapshot first = provider.current();
+
+        for (int i = 0; i < 5; i++) {
+            provider.refresh();
+            assertThat(provider.current()).isSameAs(first);
+        }
+        assertThat(source.remaining()).isZero();
+    }
+
+    /**
+     * 미리 지정한 순서대로 환율을 반환하거나 실패하는 원천
+     */
+    private static class ScriptedSource implements ExchangeRateSource {
+
+        // Double: 반환할 환율, Exception: 던질 오류
+        private final Deque<Object> steps = new ArrayDeque<>();
+
+        ScriptedSource then(double rate) {
+            steps.add(rate);
+            return this;
+        }
+
+        ScriptedSource thenFail() {
+            steps.add(new IOException("원천 장애"));
+            return this;
+        }
+
+        int remaining() {
+            return steps.size();
+        }
+
+        @Override
+        public double fetchYenToKrw() throws Exception {
+            Object step = steps.poll();
+            if (step == null) {
+                throw new IllegalStateException("지정한 응답이 없습니다.");
+            }
+            if (step instanceof Exception e) {
+                throw e;
+            }
+            return (Double) step;
+        }
+
+        @Override
+        public String name() {
+            return "scripted";
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.hayo02.proxyshopping.cart.support.parcel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hayo02.proxyshopping.cart.support.rate.Carrier;
+import io.github.hayo02.proxyshopping.cart.support.rate.RateTable;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingPreference;
+import io.github.hayo02.proxyshopping.cart.support.rate.ShippingRateEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소포 분할: 적은 아이템은 전수 조사, 같은 장바구니는 같은 분할, 한도를 넘는 소포는 infeasible 표시
+ */
+class ParcelSplitOptimizerTest {
+
+    private static final double DENSITY_COEFF = 0.2;
+
+    private ParcelSplitOptimizer optimizer;
+    private List<RateTable> carriers;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        optimizer = new ParcelSplitOptimizer(2, 7L, 5_000L);
+        carriers = new ShippingRateEngine(new ObjectMapper(), "classpath*:shipping/rates/*.json")
+                .candidates(null, ShippingPreference.CHEAPEST, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        optimizer.shutdown();
+    }
+
+    @Test
+    void 아이템이_적으면_전수_조사로_greedy_보다_싼_분할을_찾는다() {
+        // 한 박스(2.1kg)면 SAL 3000엔, 2kg + 100g 로 나누면 EPACKET 2270 + 560 = 2830엔
+        List<ParcelItem> items = List.of(
+                new ParcelItem(1L, 2000, 100),
+                new ParcelItem(2L, 100, 100));
+
+        ParcelPlan plan = optimizer.optimize(items, carriers, DENSITY_COEFF, 0);
+
+        assertThat(plan.feasible()).isTrue();
+        assertThat(plan.parcelCount()).isEqualTo(2);
+        assertThat(plan.totalYen()).isEqualTo(2830);
+        assertThat(plan.carrierSummary()).isEqualTo(Carrier.EPACKET.name());
+    }
+
+    @Test
+    void 같은_장바구니는_몇_번을_돌려도_같은_분할을_반환한다() {
+        List<ParcelItem> items = randomItems(30);
+
+        ParcelPlan first = optimizer.optimize(items, carriers, DENSITY_COEFF, 10_000);
+        ParcelPlan second = optimizer.optimize(items, carriers, DENSITY_COEFF, 10_000);
+        ParcelPlan greedy = optimizer.optimize(items, carriers, DENSITY_COEFF, 0);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first.feasible()).isTrue();
+        assertThat(first.totalYen()).isLessThanOrEqualTo(greedy.totalYen());
+    }
+
+    @Test
+    void 어느_배송_수단_한도도_넘는_소포가_있으면_infeasible_분할이다() {
+        List<ParcelItem> items = List.of(
+                new ParcelItem(1L, 40_000, 1_000),
+                new ParcelItem(2L, 500, 100));
+
+        ParcelPlan plan = optimizer.optimize(items, carriers, DENSITY_COEFF, 0);
+
+        assertThat(plan.feasible()).isFalse();
+        assertThat(plan.parcels())
+                .filteredOn(p -> p.itemIds().contains(1L))
+                .singleElement()
+                .satisfies(p -> assertThat(p.feasible()).isFalse());
+    }
+
+    private List<ParcelItem> randomItems(int count) {
+        Random random = new Random(3);
+        List<ParcelItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double weightG = 50 + random.nextDouble() * 2_950;
+            items.add(new ParcelItem((long) i, weightG, weightG * 2));
+        }
+        return items;
+    }
+}
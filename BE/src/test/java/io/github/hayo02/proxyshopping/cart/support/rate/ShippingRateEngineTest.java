@@ -0,0 +1,51 @@
+package io.github.hayo02.proxyshopping.cart.support.rate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 요율표 한도: 한도를 넘는 배송 수단은 마지막 구간 요금으로 대신 계산하지 않고 거절/제외
+ */
+class ShippingRateEngineTest {
+
+    private static final int ZONE = 1;
+
+    private ShippingRateEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        engine = new ShippingRateEngine(new ObjectMapper(), "classpath*:shipping/rates/*.json");
+    }
+
+    @Test
+    void 한도_안의_무게는_요율표_구간_요금이다() {
+        assertThat(engine.quote(Carrier.EPACKET, ZONE, 2_000, 1_000).yen()).isEqualTo(2270);
+        // EMS 는 마지막 구간(10kg) 초과분을 kg당 요금으로 계산
+        assertThat(engine.quote(Carrier.EMS, ZONE, 11_500, 1_000).yen()).isEqualTo(10600 + 2 * 800);
+    }
+
+    @Test
+    void 초과_요금이_없는_수단의_한도를_넘으면_마지막_구간_요금_대신_거절한다() {
+        assertThatThrownBy(() -> engine.quote(Carrier.EPACKET, ZONE, 5_000, 1_000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("EPACKET");
+        assertThatThrownBy(() -> engine.table(Carrier.SAL, ZONE).yenFor(31_000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.quote(Carrier.EPACKET, ZONE, 1_000, 50_000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 최저가_조회는_한도를_넘는_수단을_제외하고_모두_넘으면_empty() {
+        ShippingQuote cheapest = engine.cheapest(ZONE, 5_000, 1_000).orElseThrow();
+        assertThat(cheapest.carrier()).isEqualTo(Carrier.SAL);
+        assertThat(cheapest.yen()).isEqualTo(4200);
+
+        assertThat(engine.cheapest(ZONE, 40_000, 1_000)).isEmpty();
+        assertThat(engine.fastest(ZONE, 40_000, 1_000)).isEmpty();
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.hayo02.proxyshopping.common.datasource;
+
+import io.github.hayo02.proxyshopping.config.DataSourceRoutingConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2 두 개(primary / replica)로 읽기 전용 트랜잭션 라우팅과 지연 가드, 낡은 확인 결과 무시를 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.max-lag-ms=5000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataSourceRoutingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingDataSourceTest {
+
+    private static final String HEARTBEAT_DDL =
+            "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        new JdbcTemplate(primary).execute(HEARTBEAT_DDL);
+        new JdbcTemplate(replica).execute(HEARTBEAT_DDL);
+        new JdbcTemplate(replica).update("DELETE FROM replica_heartbeat");
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_레플리카_쓰기는_프라이머리로_간다() {
+        replicate();
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isTrue();
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA");
+        assertThat(currentDatabase(false)).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void 프라이머리로_고정한_읽기는_레플리카가_정상이어도_프라이머리로_간다() {
+        replicate();
+        lagMonitor.check();
+
+        assertThat(ReplicaRoutingDataSource.onPrimary(() -> currentDatabase(true))).isEqualTo("PRIMARY");
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void 레플리카_지연이_한도를_넘으면_읽기도_프라이머리로_간다() {
+        // 레플리카에 60초 전 하트비트만 반영된 상태
+        new JdbcTemplate(replica).update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)",
+                System.currentTimeMillis() - 60_000);
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(lagMonitor.lastLagMs()).isGreaterThanOrEqualTo(60_000);
+        assertThat(currentDatabase(true)).isEqualTo("PRIMARY");
+
+        // 복제가 따라잡으면 다시 레플리카 사용
+        replicate();
+        lagMonitor.check();
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void 레플리카에_하트비트가_없으면_프라이머리를_쓴다() {
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(currentDatabase(true)).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void 정상_확인이_확인_주기_3번보다_오래되면_레플리카를_쓰지_않는다() {
+        MutableClock clock = new MutableClock(System.currentTimeMillis());
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, 5_000, 1_000, clock);
+        monitor.check();
+        copyHeartbeatToReplica();
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        clock.advance(3_000);
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        // check() 가 멈춘 채 시간이 지나면 마지막 판단(사용 가능)을 믿지 않음
+        clock.advance(1);
+        assertThat(monitor.isReplicaUsable()).isFalse();
+
+        // 다시 확인되면 재개
+        monitor.check();
+        copyHeartbeatToReplica();
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+    }
+
+    // JPA 트랜잭션 안에서 실제로 연결된 H2 데이터베이스 이름
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status ->
+                String.valueOf(entityManager.createNativeQuery("SELECT DATABASE()").getSingleResult()));
+    }
+
+    // 복제 흉내: 프라이머리의 하트비트를 레플리카로 복사
+    private void replicate() {
+        lagMonitor.check();
+        copyHeartbeatToReplica();
+    }
+
+    private void copyHeartbeatToReplica() {
+        Long beatAt = new JdbcTemplate(primary).queryForObject(
+                "SELECT beat_at FROM replica_heartbeat WHERE id = 1", Long.class);
+        new JdbcTemplate(replica).update("MERGE INTO replica_heartbeat (id, beat_at) KEY (id) VALUES (1, ?)", beatAt);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long ms) {
+            millis += ms;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
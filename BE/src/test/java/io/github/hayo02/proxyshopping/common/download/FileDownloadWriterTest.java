@@ -0,0 +1,116 @@
+package io.github.hayo02.proxyshopping.common.download;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다운로드 응답: 전체/구간/조건부 요청과 sendfile 위임 확인
+ */
+class FileDownloadWriterTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.writeString(dir.resolve("quotation.xlsx"), CONTENT);
+    }
+
+    @Test
+    void 전체_파일을_전송하고_ETag_와_다운로드_헤더를_붙인다() throws Exception {
+        MockHttpServletResponse response = write(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION))
+                .startsWith("attachment").contains("UTF-8''");
+    }
+
+    @Test
+    void 단일_구간_요청은_206_으로_해당_구간만_보낸다() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-14");
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("abcde");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-14/20");
+
+        MockHttpServletRequest suffix = get();
+        suffix.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        assertThat(write(suffix).getContentAsString()).isEqualTo("hij");
+    }
+
+    @Test
+    void 범위를_벗어난_구간은_416() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void ETag_가_같으면_304_이고_If_Range_가_다르면_전체를_보낸다() throws Exception {
+        String etag = write(get()).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest conditional = get();
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse notModified = write(conditional);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+
+        MockHttpServletRequest staleRange = get();
+        staleRange.addHeader(HttpHeaders.RANGE, "bytes=0-4");
+        staleRange.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+        MockHttpServletResponse full = write(staleRange);
+        assertThat(full.getStatus()).isEqualTo(200);
+        assertThat(full.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void sendfile_을_지원하면_본문은_Tomcat_에_위임한다() throws Exception {
+        MockHttpServletRequest request = get();
+        request.setAttribute(FileDownloadWriter.SENDFILE_SUPPORTED, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+        assertThat(request.getAttribute(FileDownloadWriter.SENDFILE_FILENAME))
+                .isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute(FileDownloadWriter.SENDFILE_START)).isEqualTo(5L);
+        assertThat(request.getAttribute(FileDownloadWriter.SENDFILE_END)).isEqualTo(10L);
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/orders/1/quotation");
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        FileDownloadWriter.write(request, response, file,
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "견적서_1.xlsx");
+        return response;
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.hayo02.proxyshopping.common.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드가 같은 작업 잠금을 두고 경쟁: 한 곳만 실행, 유지 시간/만료 후 다른 노드가 가져감 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLocksTest {
+
+    private static final String JOB = "test-job";
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @AfterEach
+    void tearDown() {
+        schedulerLockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 한_노드가_잡고_있으면_다른_노드는_실행하지_않는다() {
+        SchedulerLocks nodeA = new SchedulerLocks(schedulerLockRepository, "node-a");
+        SchedulerLocks nodeB = new SchedulerLocks(schedulerLockRepository, "node-b");
+
+        assertThat(nodeA.tryLock(JOB, Duration.ofMinutes(30))).isTrue();
+        assertThat(nodeB.tryLock(JOB, Duration.ofMinutes(30))).isFalse();
+
+        // 끝난 뒤에도 유지 시간까지는 다른 노드가 다시 실행하지 않음
+        nodeA.unlock(JOB, LocalDateTime.now().plusMinutes(5));
+        assertThat(nodeB.tryLock(JOB, Duration.ofMinutes(30))).isFalse();
+
+        nodeA.unlock(JOB, LocalDateTime.now().minusSeconds(1));
+        assertThat(nodeB.tryLock(JOB, Duration.ofMinutes(30))).isTrue();
+        assertThat(schedulerLockRepository.findById(JOB).orElseThrow().getLockedBy()).isEqualTo("node-b");
+    }
+
+    @Test
+    void 실행_중인_노드가_죽어도_최대_잠금_시간이_지나면_다른_노드가_가져간다() throws Exception {
+        SchedulerLocks nodeA = new SchedulerLocks(schedulerLockRepository, "node-a");
+        SchedulerLocks nodeB = new SchedulerLocks(schedulerLockRepository, "node-b");
+
+        assertThat(nodeA.tryLock(JOB, Duration.ofMillis(50))).isTrue();
+        Thread.sleep(100);
+
+        assertThat(nodeB.tryLock(JOB, Duration.ofMinutes(30))).isTrue();
+        // 늦게 끝난 이전 노드의 해제는 새 잠금에 영향 없음
+        nodeA.unlock(JOB, LocalDateTime.now());
+        assertThat(nodeA.tryLock(JOB, Duration.ofMinutes(30))).isFalse();
+    }
+}
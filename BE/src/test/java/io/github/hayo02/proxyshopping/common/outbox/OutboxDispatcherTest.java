@@ -0,0 +1,167 @@
+package io.github.hayo02.proxyshopping.common.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 디스패처: 실패 시 백오프 후 재시도, 최대 횟수를 넘기면 DEAD,
+ * 처리 중 멈춘(lease 만료) 이벤트는 다시 가져가 처리 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxDispatcherTest {
+
+    private static final String TYPE = "TEST_EVENT";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private OutboxDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 실패하면_백오프_뒤로_미루고_다음_시도에서_성공하면_DONE() {
+        dispatcher = dispatcher(failingTimes(1), 5, 0, 0, 60_000);
+        Long id = save(OutboxStatus.PENDING, null);
+
+        dispatcher.drain();
+        OutboxEvent failed = outboxEventRepository.findById(id).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("실패 1");
+
+        dispatcher.drain();
+        OutboxEvent done = outboxEventRepository.findById(id).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo(OutboxStatus.DONE);
+        assertThat(done.getAttempts()).isEqualTo(2);
+        assertThat(done.getLastError()).isNull();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 백오프_시각이_오기_전에는_다시_처리하지_않는다() {
+        dispatcher = dispatcher(failingTimes(1), 5, 60_000, 60_000, 60_000);
+        Long id = save(OutboxStatus.PENDING, null);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.drain();
+        dispatcher.drain();
+
+        OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        // 지터 0.5 ~ 1.0 배
+        assertThat(event.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        assertThat(event.getNextAttemptAt()).isBefore(before.plusSeconds(61));
+    }
+
+    @Test
+    void 백오프는_시도마다_두_배로_늘고_최대값에서_멈춘다() {
+        dispatcher = dispatcher(failingTimes(0), 5, 1_000, 5_000, 60_000);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(dispatcher.backoff(1)).isBetween(Duration.ofMillis(500), Duration.ofMillis(1_000));
+            assertThat(dispatcher.backoff(3)).isBetween(Duration.ofMillis(2_000), Duration.ofMillis(4_000));
+            assertThat(dispatcher.backoff(4)).isBetween(Duration.ofMillis(2_500), Duration.ofMillis(5_000));
+            assertThat(dispatcher.backoff(40)).isBetween(Duration.ofMillis(2_500), Duration.ofMillis(5_000));
+        }
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘기면_DEAD_로_남기고_더_이상_처리하지_않는다() {
+        dispatcher = dispatcher(failingTimes(Integer.MAX_VALUE), 2, 0, 0, 60_000);
+        Long id = save(OutboxStatus.PENDING, null);
+
+        dispatcher.drain();
+        dispatcher.drain();
+        dispatcher.drain();
+
+        OutboxEvent dead = outboxEventRepository.findById(id).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(2);
+        assertThat(dead.getLastError()).isEqualTo("실패 2");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 처리기가_없는_이벤트는_재시도_없이_DEAD() {
+        dispatcher = new OutboxDispatcher(outboxEventRepository, List.of(), 20, 5, 0, 0, 60_000);
+        Long id = save(OutboxStatus.PENDING, null);
+
+        dispatcher.drain();
+
+        OutboxEvent dead = outboxEventRepository.findById(id).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(dead.getLastError()).contains(TYPE);
+    }
+
+    @Test
+    void lease_가_지난_PROCESSING_이벤트만_다시_가져가_처리한다() {
+        dispatcher = dispatcher(failingTimes(0), 5, 0, 0, 60_000);
+        Long stale = save(OutboxStatus.PROCESSING, LocalDateTime.now().minusMinutes(5));
+        Long live = save(OutboxStatus.PROCESSING, LocalDateTime.now());
+
+        dispatcher.drain();
+
+        assertThat(outboxEventRepository.findById(stale).orElseThrow().getStatus()).isEqualTo(OutboxStatus.DONE);
+        assertThat(outboxEventRepository.findById(live).orElseThrow().getStatus()).isEqualTo(OutboxStatus.PROCESSING);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private OutboxDispatcher dispatcher(OutboxHandler handler, int maxAttempts,
+                                        long initialBackoffMs, long maxBackoffMs, long leaseTimeoutMs) {
+        return new OutboxDispatcher(outboxEventRepository, List.of(handler), 20, maxAttempts,
+                initialBackoffMs, maxBackoffMs, leaseTimeoutMs);
+    }
+
+    // 처음 failures 번은 예외, 이후 성공
+    private OutboxHandler failingTimes(int failures) {
+        return new OutboxHandler() {
+            @Override
+            public String eventType() {
+                return TYPE;
+            }
+
+            @Override
+            public void handle(OutboxEvent event) {
+                int call = calls.incrementAndGet();
+                if (call <= failures) {
+                    throw new IllegalStateException("실패 " + call);
+                }
+            }
+        };
+    }
+
+    private Long save(OutboxStatus status, LocalDateTime claimedAt) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(TYPE)
+                .aggregateId("order-1")
+                .status(status)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .claimedAt(claimedAt)
+                .build()).getId();
+    }
+}
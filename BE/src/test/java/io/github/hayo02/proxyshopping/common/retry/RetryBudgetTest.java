@@ -0,0 +1,26 @@
+package io.github.hayo02.proxyshopping.common.retry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+
+    @Test
+    void 잔액을_다_쓰면_재시도를_거절하고_요청_비율만큼만_다시_허용한다() {
+        RetryBudget budget = new RetryBudget(0.25, 0);
+
+        int allowed = 0;
+        while (budget.tryAcquireRetry()) {
+            allowed++;
+        }
+        assertThat(allowed).isEqualTo(10);
+
+        // 원 요청 4건 → 재시도 1회
+        for (int i = 0; i < 4; i++) {
+            budget.recordRequest();
+        }
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.hayo02.proxyshopping.exception;
+
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.service.SlackNotificationService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 에러 알림 중복 제거: 지문별 window 첫 발생만 알림, 나머지는 요약 건수로, window 가 지나면 다시 알림
+ */
+class ErrorAlertDeduplicatorTest {
+
+    private static final long WINDOW_MS = 300_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final RecordingSlack slack = new RecordingSlack();
+
+    @Test
+    void 같은_지점의_같은_예외는_첫_발생만_알리고_나머지는_요약으로_보낸다() {
+        ErrorAlertDeduplicator deduplicator = deduplicator(1000);
+
+        int alerted = 0;
+        for (int i = 0; i < 100; i++) {
+            if (deduplicator.shouldAlert(failAtRepository("주문 " + i), "/api/orders/" + i)) {
+                alerted++;
+            }
+        }
+        deduplicator.sendSummary();
+
+        assertThat(alerted).isEqualTo(1);
+        assertThat(slack.summaries).hasSize(1);
+        assertThat(slack.summaries.get(0))
+                .contains("99건 - IllegalStateException")
+                .contains("repositoryQuery")
+                .contains("/api/orders/99");
+
+        // 요약 후 새 발생이 없으면 다음 요약은 보내지 않음
+        deduplicator.sendSummary();
+        assertThat(slack.summaries).hasSize(1);
+    }
+
+    @Test
+    void 발생_지점이나_원인이_다르면_따로_알린다() {
+        ErrorAlertDeduplicator deduplicator = deduplicator(1000);
+
+        assertThat(deduplicator.shouldAlert(failAtRepository("a"), "/a")).isTrue();
+        assertThat(deduplicator.shouldAlert(failAtClient(), "/b")).isTrue();
+        assertThat(deduplicator.shouldAlert(new IllegalStateException("wrapped", failAtClient()), "/c")).isTrue();
+        assertThat(deduplicator.stats().groups()).isEqualTo(3);
+    }
+
+    @Test
+    void window_가_지나면_다시_알리고_조용한_지문은_정리한다() {
+        ErrorAlertDeduplicator deduplicator = deduplicator(1000);
+        assertThat(deduplicator.shouldAlert(failAtRepository("a"), "/a")).isTrue();
+        assertThat(deduplicator.shouldAlert(failAtRepository("b"), "/b")).isFalse();
+
+        now.addAndGet(WINDOW_MS);
+        assertThat(deduplicator.shouldAlert(failAtRepository("a"), "/a")).isTrue();
+
+        deduplicator.sendSummary();
+        now.addAndGet(WINDOW_MS);
+        deduplicator.sendSummary();
+        assertThat(deduplicator.stats().groups()).isZero();
+        assertThat(deduplicator.shouldAlert(failAtRepository("a"), "/a")).isTrue();
+    }
+
+    @Test
+    void 지문_종류가_한도를_넘으면_건수만_요약에_남긴다() {
+        ErrorAlertDeduplicator deduplicator = deduplicator(1);
+        assertThat(deduplicator.shouldAlert(failAtRepository("a"), "/a")).isTrue();
+
+        assertThat(deduplicator.shouldAlert(failAtClient(), "/b")).isFalse();
+        assertThat(deduplicator.shouldAlert(failAtClient(), "/b")).isFalse();
+        deduplicator.sendSummary();
+
+        assertThat(deduplicator.stats().groups()).isEqualTo(1);
+        assertThat(slack.summaries.get(0)).contains("분류하지 못한 에러 2건");
+    }
+
+    private ErrorAlertDeduplicator deduplicator(int maxGroups) {
+        return new ErrorAlertDeduplicator(slack, WINDOW_MS, maxGroups, now::get);
+    }
+
+    // 저장소 → 조회 → 쿼리 순으로 내려가다 실패 (어디서 호출하든 상위 프레임이 같음)
+    private static IllegalStateException failAtRepository(String message) {
+        return repositoryLoad(message);
+    }
+
+    private static IllegalStateException repositoryLoad(String message) {
+        return repositoryQuery(message);
+    }
+
+    private static IllegalStateException repositoryQuery(String message) {
+        return new IllegalStateException(message);
+    }
+
+    private static RuntimeException failAtClient() {
+        return new IllegalStateException("timeout");
+    }
+
+    private static class RecordingSlack implements SlackNotificationService {
+
+        final List<String> summaries = new ArrayList<>();
+
+        @Override
+        public void sendPaymentCompleteNotification(Order order, String quotationFilePath) {
+        }
+
+        @Override
+        public void sendErrorNotification(String errorMessage, String stackTrace, String requestUri) {
+        }
+
+        @Override
+        public void sendErrorSummary(String summary) {
+            summaries.add(summary);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.hayo02.proxyshopping.orders.repository;
+
+import io.github.hayo02.proxyshopping.cart.entity.CartEstimate;
+import io.github.hayo02.proxyshopping.cart.entity.CartItem;
+import io.github.hayo02.proxyshopping.cart.repository.CartEstimateRepository;
+import io.github.hayo02.proxyshopping.cart.repository.CartItemRepository;
+import io.github.hayo02.proxyshopping.cart.support.EstimateMemo;
+import io.github.hayo02.proxyshopping.common.outbox.OutboxPublisher;
+import io.github.hayo02.proxyshopping.orders.dto.OrderCreateRequest;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+import io.github.hayo02.proxyshopping.orders.entity.ShippingAddress;
+import io.github.hayo02.proxyshopping.orders.service.OrderService;
+import io.github.hayo02.proxyshopping.orders.service.QuotationExcelService;
+import io.github.hayo02.proxyshopping.orders.serviceImpl.OrderServiceImpl;
+import io.github.hayo02.proxyshopping.orders.support.OrderDetailCache;
+import io.github.hayo02.proxyshopping.orders.support.OrderNumberGenerator;
+import io.github.hayo02.proxyshopping.orders.support.QuotationStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 생성(createOrder) 시 아이템 수가 늘어나도 DB 왕복(PreparedStatement 수)이
+ * 거의 일정한지 확인 (시퀀스 pooled ID + JDBC 배치, H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({OrderServiceImpl.class, OrderDetailCache.class, OrderNumberGenerator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderRepositoryBatchInsertTest {
+
+    private static final String PROXY_SID = "sid-batch";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ShippingAddressRepository shippingAddressRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private CartEstimateRepository cartEstimateRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private QuotationExcelService quotationExcelService;
+
+    @MockitoBean
+    private EstimateMemo estimateMemo;
+
+    @MockitoBean
+    private OutboxPublisher outboxPublisher;
+
+    @MockitoBean
+    private QuotationStore quotationStore;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        cartItemRepository.deleteAllInBatch();
+        cartEstimateRepository.deleteAllInBatch();
+        shippingAddressRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 아이템_수가_늘어나도_insert_왕복_수는_거의_일정하다() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 시퀀스 풀 워밍업 (첫 할당 조회는 측정에서 제외)
+        createOrder(stats, 1);
+
+        Map<Integer, Long> roundTrips = new LinkedHashMap<>();
+        for (int itemCount : new int[]{1, 10, 100}) {
+            roundTrips.put(itemCount, createOrder(stats, itemCount));
+        }
+
+        // 아이템마다 insert/delete 가 따로 나가면 100개일 때 100번 이상 → 배치면 배치/시퀀스 할당 몇 번만 추가
+        assertThat(roundTrips.get(100)).as("PreparedStatement 수 %s", roundTrips)
+                .isLessThanOrEqualTo(roundTrips.get(1) + 4);
+        assertThat(roundTrips.get(10)).as("PreparedStatement 수 %s", roundTrips)
+                .isLessThanOrEqualTo(roundTrips.get(1) + 4);
+    }
+
+    @Test
+    void 결제_완료_처리는_insert_한_번에_반영된다() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        createOrder(stats, 1);
+
+        createOrder(stats, 5);
+
+        assertThat(stats.getEntityUpdateCount()).isZero();
+        assertThat(orderRepository.findAll())
+                .hasSize(2)
+                .allSatisfy(order -> assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID));
+    }
+
+    // 장바구니/견적/배송지 준비(측정 제외) 후 createOrder 한 번의 PreparedStatement 수
+    private long createOrder(Statistics stats, int itemCount) {
+        OrderCreateRequest request = new TransactionTemplate(transactionManager).execute(tx -> {
+            for (int i = 0; i < itemCount; i++) {
+                CartItem item = new CartItem();
+                item.setProxySid(PROXY_SID);
+                item.setProductName("상품 " + i);
+                item.setPriceKRW(10_000);
+                cartItemRepository.save(item);
+            }
+            cartEstimateRepository.upsert(CartEstimate.builder()
+                    .proxySid(PROXY_SID)
+                    .itemIds("[]")
+                    .grandTotalKRW(10_000L * itemCount)
+                    .extraPackaging(false)
+                    .insurance(false)
+                    .build());
+            ShippingAddress address = shippingAddressRepository.save(ShippingAddress.builder()
+                    .proxySid(PROXY_SID)
+                    .receiverName("홍길동")
+                    .phone("01012345678")
+                    .postalCode("12345")
+                    .roadAddress("서울시 어딘가")
+                    .detailAddress("101호")
+                    .build());
+
+            OrderCreateRequest r = new OrderCreateRequest();
+            r.setAddressId(address.getId());
+            return r;
+        });
+
+        stats.clear();
+        orderService.createOrder(PROXY_SID, request);
+        return stats.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.hayo02.proxyshopping.orders.serviceImpl;
+
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.entity.OrderItem;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+import io.github.hayo02.proxyshopping.orders.repository.OrderRepository;
+import io.github.hayo02.proxyshopping.orders.service.OrderExportService;
+import io.github.hayo02.proxyshopping.orders.support.QuotationStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관리자 내보내기: 기간 내 주문 CSV / 견적서 ZIP 을 스트리밍으로 출력하는지 확인 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(OrderExportServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderExportServiceImplTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 9, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private QuotationStore quotationStore;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void 기간_내_주문을_아이템마다_한_행으로_내보낸다() throws Exception {
+        save(order("2026090110000000000001", FROM.plusHours(10), OrderStatus.PAID, "홍길동", null,
+                item("상품, \"한정판\"", 10_000, 2), item("=HYPERLINK(\"x\")", 5_000, 1)));
+        save(order("2026091510000000000002", FROM.plusDays(14), OrderStatus.PENDING, "김철수", null));
+        save(order("2026100110000000000003", TO, OrderStatus.PAID, "기간밖", null, item("상품", 1_000, 1)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = orderExportService.writeOrdersCsv(FROM, TO, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFF주문번호,상태,주문일시");
+        String[] lines = csv.split("\r\n");
+        assertThat(rows).isEqualTo(3);
+        assertThat(lines).hasSize(4);
+        assertThat(lines[1]).startsWith("2026090110000000000001,PAID,2026-09-01 10:00:00,,홍길동,")
+                .endsWith(",\"상품, \"\"한정판\"\"\",10000,2");
+        assertThat(lines[2]).endsWith(",\"'=HYPERLINK(\"\"x\"\")\",5000,1");
+        // 아이템이 없는 주문도 한 행
+        assertThat(lines[3]).startsWith("2026091510000000000002,PENDING,").endsWith(",,,");
+    }
+
+    @Test
+    void fetch_size_보다_많은_주문도_순서대로_모두_내보낸다() throws Exception {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 1_500; i++) {
+            orders.add(order(String.format("20260902%014d", i), FROM.plusDays(1).plusSeconds(i),
+                    OrderStatus.PAID, "주문자" + i, null, item("상품 " + i, 1_000, 1)));
+        }
+        orderRepository.saveAll(orders);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(orderExportService.writeOrdersCsv(FROM, TO, out)).isEqualTo(1_500);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[1]).startsWith(String.format("20260902%014d,", 0));
+        assertThat(lines[1_500]).startsWith(String.format("20260902%014d,", 1_499));
+    }
+
+    @Test
+    void 결제_완료_주문의_견적서를_ZIP_으로_묶고_없는_파일은_목록으로_남긴다() throws Exception {
+        save(order("2026090110000000000001", FROM.plusHours(1), OrderStatus.PAID, "홍길동", "a.xlsx"));
+        save(order("2026090210000000000002", FROM.plusDays(1), OrderStatus.PAID, "김철수", "b.xlsx"));
+        save(order("2026090310000000000003", FROM.plusDays(2), OrderStatus.PAID, "이영희", "deleted.xlsx"));
+        when(quotationStore.open("2026090110000000000001")).thenReturn(stored("quotation-1"));
+        when(quotationStore.open("2026090210000000000002")).thenReturn(stored("quotation-2"));
+        when(quotationStore.open("2026090310000000000003")).thenReturn(Optional.empty());
+        save(order("2026090410000000000004", FROM.plusDays(3), OrderStatus.PENDING, "박민수", null));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long added = orderExportService.writeQuotationsZip(FROM, TO, out);
+
+        Map<String, String> entries = unzip(out.toByteArray());
+        assertThat(added).isEqualTo(2);
+        assertThat(entries).containsOnlyKeys(
+                "2026090110000000000001.xlsx", "2026090210000000000002.xlsx", "missing.txt");
+        assertThat(entries.get("2026090110000000000001.xlsx")).isEqualTo("quotation-1");
+        assertThat(entries.get("missing.txt")).contains("1건").contains("2026090310000000000003")
+                .doesNotContain("2026090410000000000004");
+    }
+
+    @Test
+    void 기간이_잘못되면_거부한다() {
+        assertThatThrownBy(() -> orderExportService.writeOrdersCsv(TO, FROM, new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Map<String, String> unzip(byte[] bytes) throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    private Optional<QuotationStore.StoredFile> stored(String content) {
+        return Optional.of(new QuotationStore.StoredFile(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), FileTime.fromMillis(0)));
+    }
+
+    private void save(Order order) {
+        orderRepository.save(order);
+    }
+
+    private Order order(String orderNumber, LocalDateTime createdAt, OrderStatus status, String receiver,
+                        String quotationFilePath, OrderItem... items) {
+        Order order = Order.builder()
+                .orderNumber(orderNumber)
+                .proxySid("sid-export")
+                .totalAmount(25_000L)
+                .status(status)
+                .receiverName(receiver)
+                .phone("01012345678")
+                .postalCode("12345")
+                .roadAddress("서울시 어딘가")
+                .detailAddress("101호")
+                .createdAt(createdAt)
+                .grandTotalKRW(25_000L)
+                .quotationFilePath(quotationFilePath)
+                .build();
+        for (OrderItem item : items) {
+            order.addItem(item);
+        }
+        return order;
+    }
+
+    private OrderItem item(String name, int price, int quantity) {
+        return OrderItem.builder().productName(name).priceKrw(price).quantity(quantity).build();
+    }
+}
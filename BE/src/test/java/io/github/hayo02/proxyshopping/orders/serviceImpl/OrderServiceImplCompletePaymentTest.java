@@ -0,0 +1,167 @@
+package io.github.hayo02.proxyshopping.orders.serviceImpl;
+
+import io.github.hayo02.proxyshopping.cart.support.EstimateMemo;
+import io.github.hayo02.proxyshopping.common.outbox.OutboxEvent;
+import io.github.hayo02.proxyshopping.common.outbox.OutboxPublisher;
+import io.github.hayo02.proxyshopping.orders.dto.PaymentCompleteResponse;
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.entity.OrderItem;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+import io.github.hayo02.proxyshopping.orders.repository.OrderRepository;
+import io.github.hayo02.proxyshopping.orders.service.OrderService;
+import io.github.hayo02.proxyshopping.orders.service.QuotationExcelService;
+import io.github.hayo02.proxyshopping.orders.service.SlackNotificationService;
+import io.github.hayo02.proxyshopping.orders.support.OrderDetailCache;
+import io.github.hayo02.proxyshopping.orders.support.OrderNumberGenerator;
+import io.github.hayo02.proxyshopping.orders.support.PaymentCompletedHandler;
+import io.github.hayo02.proxyshopping.orders.support.QuotationStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * completePayment 가 동시에/반복해서 호출돼도 PENDING → PAID 전이와
+ * 후속 처리(견적서 생성/Slack 알림) 이벤트 기록이 한 번만 일어나고, 나머지는 저장된 결과를 받는지 확인 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({OrderServiceImpl.class, OrderDetailCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceImplCompletePaymentTest {
+
+    private static final int THREADS = 8;
+    private static final String ORDER_NUMBER = "2026101815301234501000";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private QuotationExcelService quotationExcelService;
+
+    @MockitoBean
+    private SlackNotificationService slackNotificationService;
+
+    @MockitoBean
+    private EstimateMemo estimateMemo;
+
+    @MockitoBean
+    private OutboxPublisher outboxPublisher;
+
+    @MockitoBean
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @MockitoBean
+    private QuotationStore quotationStore;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void 동시에_완료_요청이_와도_후속_처리_이벤트는_한_번만_기록된다() throws Exception {
+        savePendingOrder();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<PaymentCompleteResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return orderService.completePayment(ORDER_NUMBER);
+                }));
+            }
+            start.countDown();
+
+            for (Future<PaymentCompleteResponse> future : futures) {
+                assertThat(future.get().getStatus()).isEqualTo(OrderStatus.PAID.name());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // 렌더링/Slack 은 트랜잭션 안에서 하지 않고 이벤트로만 예약
+        verify(outboxPublisher, times(1)).publish(PaymentCompletedHandler.EVENT_TYPE, ORDER_NUMBER, null);
+        verifyNoInteractions(quotationExcelService, slackNotificationService);
+
+        Order saved = orderRepository.findByOrderNumber(ORDER_NUMBER).orElseThrow();
+        assertThat(saved.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(saved.getPaidAt()).isNotNull();
+    }
+
+    @Test
+    void Slack_전송이_실패해도_PAID_로_남고_재요청은_저장된_결과를_받는다() throws Exception {
+        savePendingOrder();
+        when(quotationExcelService.generateQuotation(any())).thenReturn("/tmp/q.xlsx");
+        doThrow(new IllegalStateException("Slack 실패"))
+                .when(slackNotificationService).sendPaymentCompleteNotification(any(), anyString());
+        PaymentCompletedHandler handler = new PaymentCompletedHandler(
+                orderRepository, quotationExcelService, slackNotificationService, transactionManager);
+
+        PaymentCompleteResponse first = orderService.completePayment(ORDER_NUMBER);
+        assertThat(first.getStatus()).isEqualTo(OrderStatus.PAID.name());
+        assertThat(first.getQuotationFilePath()).isNull();
+
+        // 아웃박스 후속 처리: 견적서는 저장됐지만 Slack 실패 → 이벤트만 재시도 대상
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(PaymentCompletedHandler.EVENT_TYPE)
+                .aggregateId(ORDER_NUMBER)
+                .build();
+        assertThatThrownBy(() -> handler.handle(event)).isInstanceOf(IllegalStateException.class);
+        assertThat(orderRepository.findByOrderNumber(ORDER_NUMBER).orElseThrow().getStatus())
+                .isEqualTo(OrderStatus.PAID);
+
+        PaymentCompleteResponse again = orderService.completePayment(ORDER_NUMBER);
+        assertThat(again.getStatus()).isEqualTo(OrderStatus.PAID.name());
+        assertThat(again.getQuotationFilePath()).isEqualTo("/tmp/q.xlsx");
+        verify(outboxPublisher, times(1)).publish(PaymentCompletedHandler.EVENT_TYPE, ORDER_NUMBER, null);
+    }
+
+    private void savePendingOrder() {
+        Order order = Order.builder()
+                .orderNumber(ORDER_NUMBER)
+                .proxySid("sid-complete")
+                .totalAmount(10_000L)
+                .status(OrderStatus.PENDING)
+                .receiverName("홍길동")
+                .phone("01012345678")
+                .postalCode("12345")
+                .roadAddress("서울시 어딘가")
+                .detailAddress("101호")
+                .build();
+        order.addItem(OrderItem.builder().productName("상품").priceKrw(10_000).quantity(1).build());
+        orderRepository.save(order);
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.hayo02.proxyshopping.orders.serviceImpl;
+
+import io.github.hayo02.proxyshopping.cart.support.EstimateMemo;
+import io.github.hayo02.proxyshopping.common.outbox.OutboxPublisher;
+import io.github.hayo02.proxyshopping.orders.dto.OrderListResponse;
+import io.github.hayo02.proxyshopping.orders.dto.OrderSummaryResponse;
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+import io.github.hayo02.proxyshopping.orders.repository.OrderRepository;
+import io.github.hayo02.proxyshopping.orders.service.OrderService;
+import io.github.hayo02.proxyshopping.orders.service.QuotationExcelService;
+import io.github.hayo02.proxyshopping.orders.support.OrderDetailCache;
+import io.github.hayo02.proxyshopping.orders.support.OrderNumberGenerator;
+import io.github.hayo02.proxyshopping.orders.support.QuotationStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 목록 키셋 페이지: (createdAt, id) 내림차순, 한 건 더 읽어 hasNext 판단, 페이지 크기 상한,
+ * createdAt 이 같은 주문도 페이지 경계에서 빠지거나 겹치지 않음 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({OrderServiceImpl.class, OrderDetailCache.class})
+class OrderServiceImplOrdersPageTest {
+
+    private static final String SID = "sid-orders";
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private QuotationExcelService quotationExcelService;
+
+    @MockitoBean
+    private EstimateMemo estimateMemo;
+
+    @MockitoBean
+    private OutboxPublisher outboxPublisher;
+
+    @MockitoBean
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @MockitoBean
+    private QuotationStore quotationStore;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Test
+    void createdAt_이_같은_주문은_id_로_정렬해_페이지를_넘겨도_빠지거나_겹치지_않는다() {
+        // 같은 시각 주문 4건이 페이지 경계(크기 2)에 걸치도록 배치
+        List<Order> saved = new ArrayList<>();
+        saved.add(save(SID, BASE.plusMinutes(2)));
+        for (int i = 0; i < 4; i++) {
+            saved.add(save(SID, BASE.plusMinutes(1)));
+        }
+        saved.add(save(SID, BASE));
+        save("sid-other", BASE.plusMinutes(1));
+
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Order::getCreatedAt).thenComparing(Order::getId).reversed())
+                .map(Order::getId)
+                .toList();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        OrderListResponse page;
+        do {
+            page = orderService.getOrders(SID, cursor, 2);
+            page.getOrders().forEach(o -> seen.add(o.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (page.isHasNext());
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(3);
+        assertThat(cursor).isNull();
+    }
+
+    @Test
+    void 한_건_더_읽어_다음_페이지가_있을_때만_hasNext_와_커서를_준다() {
+        for (int i = 0; i < 3; i++) {
+            save(SID, BASE.plusMinutes(i));
+        }
+
+        OrderListResponse exact = orderService.getOrders(SID, null, 3);
+        assertThat(exact.getOrders()).hasSize(3);
+        assertThat(exact.isHasNext()).isFalse();
+        assertThat(exact.getNextCursor()).isNull();
+
+        OrderListResponse first = orderService.getOrders(SID, null, 2);
+        assertThat(first.getOrders()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+
+        OrderListResponse last = orderService.getOrders(SID, first.getNextCursor(), 2);
+        assertThat(last.getOrders()).extracting(OrderSummaryResponse::getCreatedAt).containsExactly(BASE);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 페이지_크기는_최대_50건이고_1보다_작으면_1건으로_본다() {
+        for (int i = 0; i < 51; i++) {
+            save(SID, BASE.plusSeconds(i));
+        }
+
+        OrderListResponse capped = orderService.getOrders(SID, null, 1_000);
+        assertThat(capped.getOrders()).hasSize(50);
+        assertThat(capped.isHasNext()).isTrue();
+
+        OrderListResponse rest = orderService.getOrders(SID, capped.getNextCursor(), 1_000);
+        assertThat(rest.getOrders()).extracting(OrderSummaryResponse::getCreatedAt).containsExactly(BASE);
+        assertThat(rest.isHasNext()).isFalse();
+
+        assertThat(orderService.getOrders(SID, null, 0).getOrders()).hasSize(1);
+    }
+
+    @Test
+    void 형식이_틀린_커서는_IllegalArgumentException_으로_거절한다() {
+        save(SID, BASE);
+
+        assertThatThrownBy(() -> orderService.getOrders(SID, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Order save(String proxySid, LocalDateTime createdAt) {
+        Order order = Order.builder()
+                .orderNumber("20261018" + String.format("%014d", sequence.incrementAndGet()))
+                .proxySid(proxySid)
+                .totalAmount(10_000L)
+                .status(OrderStatus.PENDING)
+                .receiverName("홍길동")
+                .phone("01012345678")
+                .postalCode("12345")
+                .roadAddress("서울시 어딘가")
+                .detailAddress("101호")
+                .createdAt(createdAt)
+                .build();
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,167 @@
+package io.github.hayo02.proxyshopping.orders.serviceImpl;
+
+import io.github.hayo02.proxyshopping.cart.support.EstimateMemo;
+import io.github.hayo02.proxyshopping.common.outbox.OutboxPublisher;
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.entity.OrderItem;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+import io.github.hayo02.proxyshopping.orders.repository.OrderRepository;
+import io.github.hayo02.proxyshopping.orders.service.OrderService;
+import io.github.hayo02.proxyshopping.orders.service.QuotationExcelService;
+import io.github.hayo02.proxyshopping.orders.support.OrderDetailCache;
+import io.github.hayo02.proxyshopping.orders.support.OrderNumberGenerator;
+import io.github.hayo02.proxyshopping.orders.support.QuotationStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 견적서 다운로드용 파일 조회: 본인 확인, 저장된 파일 재사용, 없으면 트랜잭션 밖에서 지연 생성 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({OrderServiceImpl.class, OrderDetailCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceImplQuotationFileTest {
+
+    private static final String ORDER_NUMBER = "2026101909001234501000";
+
+    @TempDir
+    Path dir;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private QuotationExcelService quotationExcelService;
+
+    @MockitoBean
+    private EstimateMemo estimateMemo;
+
+    @MockitoBean
+    private OutboxPublisher outboxPublisher;
+
+    @MockitoBean
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @MockitoBean
+    private QuotationStore quotationStore;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void 견적서가_아직_없으면_생성하고_경로를_저장한다() throws Exception {
+        savePaidOrder(null);
+        Path file = Files.writeString(dir.resolve(ORDER_NUMBER + ".xlsx"), "xlsx");
+        when(quotationExcelService.generateQuotation(any())).thenReturn(file.toString());
+
+        assertThat(orderService.getQuotationFile(ORDER_NUMBER, "홍길동", "010-1234-5678")).isEqualTo(file);
+        assertThat(orderRepository.findByOrderNumber(ORDER_NUMBER).orElseThrow().getQuotationFilePath())
+                .isEqualTo(file.toString());
+    }
+
+    @Test
+    void 견적서는_트랜잭션_밖에서_생성하고_그사이_바뀐_경로는_덮지_않는다() throws Exception {
+        savePaidOrder(null);
+        Path file = Files.writeString(dir.resolve(ORDER_NUMBER + ".xlsx"), "xlsx");
+        AtomicBoolean renderedInTransaction = new AtomicBoolean(true);
+        when(quotationExcelService.generateQuotation(any())).thenAnswer(inv -> {
+            renderedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            // 렌더링 중에 아웃박스 후속 처리가 먼저 경로를 기록
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    orderRepository.updateQuotationFilePath(ORDER_NUMBER, "/outbox/" + ORDER_NUMBER + ".xlsx"));
+            return file.toString();
+        });
+
+        assertThat(orderService.getQuotationFile(ORDER_NUMBER, "홍길동", "01012345678")).isEqualTo(file);
+
+        assertThat(renderedInTransaction).isFalse();
+        assertThat(orderRepository.findByOrderNumber(ORDER_NUMBER).orElseThrow().getQuotationFilePath())
+                .isEqualTo("/outbox/" + ORDER_NUMBER + ".xlsx");
+    }
+
+    @Test
+    void 저장된_견적서가_있으면_다시_생성하지_않는다() throws Exception {
+        Path file = Files.writeString(dir.resolve(ORDER_NUMBER + ".xlsx"), "xlsx");
+        savePaidOrder(file.toString());
+        when(quotationStore.resolve(ORDER_NUMBER)).thenReturn(Optional.of(file));
+
+        assertThat(orderService.getQuotationFile(ORDER_NUMBER, "홍길동", "01012345678")).isEqualTo(file);
+        verify(quotationExcelService, never()).generateQuotation(any());
+    }
+
+    @Test
+    void 저장소에서_삭제된_견적서는_다시_생성한다() throws Exception {
+        Path file = Files.writeString(dir.resolve(ORDER_NUMBER + ".xlsx"), "xlsx");
+        savePaidOrder(file.toString());
+        when(quotationStore.resolve(ORDER_NUMBER)).thenReturn(Optional.empty());
+        when(quotationExcelService.generateQuotation(any())).thenReturn(file.toString());
+
+        assertThat(orderService.getQuotationFile(ORDER_NUMBER, "홍길동", "01012345678")).isEqualTo(file);
+        verify(quotationExcelService).generateQuotation(any());
+    }
+
+    @Test
+    void 주문자_정보가_다르면_거부한다() throws Exception {
+        savePaidOrder(null);
+
+        assertThatThrownBy(() -> orderService.getQuotationFile(ORDER_NUMBER, "홍길동", "010-0000-0000"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("전화번호");
+        assertThatThrownBy(() -> orderService.getQuotationFile(ORDER_NUMBER, "김철수", "01012345678"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이름");
+        verify(quotationExcelService, never()).generateQuotation(any());
+    }
+
+    private void savePaidOrder(String quotationFilePath) {
+        Order order = Order.builder()
+                .orderNumber(ORDER_NUMBER)
+                .proxySid("sid-quotation")
+                .totalAmount(10_000L)
+                .status(OrderStatus.PENDING)
+                .receiverName("홍길동")
+                .phone("01012345678")
+                .postalCode("12345")
+                .roadAddress("서울시 어딘가")
+                .detailAddress("101호")
+                .quotationFilePath(quotationFilePath)
+                .build();
+        order.addItem(OrderItem.builder().productName("상품").priceKrw(10_000).quantity(1).build());
+        order.markPaid(LocalDateTime.now());
+        orderRepository.save(order);
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.hayo02.proxyshopping.orders.serviceImpl;
+
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.entity.OrderItem;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+import io.github.hayo02.proxyshopping.orders.support.QuotationFingerprint;
+import io.github.hayo02.proxyshopping.orders.support.QuotationRenderExecutor;
+import io.github.hayo02.proxyshopping.orders.support.QuotationStore;
+import io.github.hayo02.proxyshopping.orders.support.QuotationTemplate;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 템플릿 + 스트리밍으로 만든 견적서가 기존 양식(제목/헤더/상품/합계/안내사항)과 같은지 확인
+ */
+class QuotationExcelServiceImplTest {
+
+    private static final QuotationTemplate TEMPLATE = new QuotationTemplate();
+    private static final QuotationRenderExecutor EXECUTOR = new QuotationRenderExecutor(1, 10, 1000);
+
+    @TempDir
+    Path outputDir;
+
+    @Test
+    void 템플릿의_제목과_헤더_뒤에_상품_합계_안내사항을_이어서_쓴다() throws Exception {
+        QuotationExcelServiceImpl service = service();
+
+        String path = service.generateQuotation(order("20261018153012345", 3));
+
+        assertThat(Path.of(path)).isEqualTo(outputDir.resolve("20261018153012345.xlsx"));
+        try (InputStream in = Files.newInputStream(Path.of(path)); XSSFWorkbook workbook = new XSSFWorkbook(in)) {
+            Sheet sheet = workbook.getSheet("견적서");
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("Buylink 구매&배송대행 견적서");
+            assertThat(workbook.getFontAt(sheet.getRow(0).getCell(0).getCellStyle().getFontIndex()).getFontHeightInPoints()).isEqualTo((short) 16);
+            assertThat(sheet.getRow(2).getCell(1).getStringCellValue()).isEqualTo("상품");
+            assertThat(sheet.getColumnWidth(1)).isEqualTo(12000);
+
+            // 첫 상품: 주문번호 + 배송비/수수료 포함 합계
+            Row first = sheet.getRow(3);
+            assertThat(first.getCell(0).getStringCellValue()).isEqualTo("20261018153012345");
+            assertThat(first.getCell(1).getStringCellValue()).isEqualTo("상품 1");
+            assertThat(first.getCell(2).getNumericCellValue()).isEqualTo(10_000);
+            assertThat(first.getCell(4).getNumericCellValue()).isEqualTo(39_470);
+            assertThat(first.getCell(9).getNumericCellValue())
+                    .isEqualTo(10_000 * 2 + 39_470 + 7_500 + 6_700 + 2_000 + 5_000);
+            assertThat(first.getCell(2).getCellStyle().getDataFormatString()).isEqualTo("#,##0");
+
+            Row third = sheet.getRow(5);
+            assertThat(third.getCell(0).getStringCellValue()).isEqualTo("3");
+            assertThat(third.getCell(4).getNumericCellValue()).isZero();
+            assertThat(third.getCell(9).getNumericCellValue()).isEqualTo(12_000 * 2);
+
+            // 빈 행 다음 최종 결제 금액, 빈 행 2개 다음 안내사항
+            assertThat(sheet.getRow(7).getCell(0).getStringCellValue()).isEqualTo("최종 결제 금액");
+            assertThat(sheet.getRow(7).getCell(9).getNumericCellValue()).isEqualTo(210_670);
+            assertThat(sheet.getRow(10).getCell(0).getStringCellValue()).isEqualTo("< 안내사항 >");
+            assertThat(sheet.getRow(11).getCell(0).getStringCellValue()).isEqualTo(QuotationTemplate.NOTICES.get(0));
+            assertThat(sheet.getLastRowNum()).isEqualTo(10 + QuotationTemplate.NOTICES.size());
+
+            // 제목 + 합계 + 안내 헤더 + 안내사항
+            assertThat(sheet.getNumMergedRegions()).isEqualTo(3 + QuotationTemplate.NOTICES.size());
+        }
+        assertThat(listFiles()).containsExactly(outputDir.resolve("20261018153012345.xlsx"));
+    }
+
+    @Test
+    void 상품이_많아도_모든_행을_쓰고_같은_주문은_덮어쓴다() throws Exception {
+        QuotationExcelServiceImpl service = service();
+
+        service.generateQuotation(order("20261018153012346", 1));
+        String path = service.generateQuotation(order("20261018153012346", 5_000));
+
+        try (InputStream in = Files.newInputStream(Path.of(path)); XSSFWorkbook workbook = new XSSFWorkbook(in)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(sheet.getRow(3 + 4_999).getCell(1).getStringCellValue()).isEqualTo("상품 5000");
+            assertThat(sheet.getRow(3 + 5_000 + 1).getCell(0).getStringCellValue()).isEqualTo("최종 결제 금액");
+        }
+        assertThat(listFiles()).hasSize(1);
+    }
+
+    @Test
+    void 상품명의_XML_특수문자와_제어문자를_안전하게_기록한다() throws Exception {
+        QuotationExcelServiceImpl service = service();
+        Order order = order("20261018153012347", 0);
+        order.addItem(OrderItem.builder()
+                .productName(" <한정판> Tom & Jerry \"set\"\u0001 ")
+                .priceKrw(5_000)
+                .quantity(1)
+                .build());
+
+        String path = service.generateQuotation(order);
+
+        try (InputStream in = Files.newInputStream(Path.of(path)); XSSFWorkbook workbook = new XSSFWorkbook(in)) {
+            assertThat(workbook.getSheetAt(0).getRow(3).getCell(1).getStringCellValue())
+                    .isEqualTo(" <한정판> Tom & Jerry \"set\" ");
+        }
+    }
+
+    @Test
+    void 내용이_같으면_기존_파일을_재사용하고_바뀌면_다시_만든다() throws Exception {
+        QuotationExcelServiceImpl service = service();
+        Path path = Path.of(service.generateQuotation(order("20261018153012348", 2)));
+        assertThat(QuotationFingerprint.read(path)).isEqualTo(QuotationFingerprint.of(order("20261018153012348", 2)));
+
+        // 같은 내용 → 파일을 다시 쓰지 않음
+        FileTime rendered = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(path, rendered);
+        assertThat(service.generateQuotation(order("20261018153012348", 2))).isEqualTo(path.toString());
+        assertThat(Files.getLastModifiedTime(path)).isEqualTo(rendered);
+
+        // 상품이 추가됨 → 다시 렌더링
+        service.generateQuotation(order("20261018153012348", 3));
+        assertThat(Files.getLastModifiedTime(path)).isNotEqualTo(rendered);
+        try (InputStream in = Files.newInputStream(path); XSSFWorkbook workbook = new XSSFWorkbook(in)) {
+            assertThat(workbook.getSheetAt(0).getRow(5).getCell(1).getStringCellValue()).isEqualTo("상품 3");
+        }
+    }
+
+    @Test
+    void 지문이_없는_기존_파일은_다시_만든다() throws Exception {
+        QuotationExcelServiceImpl service = service();
+        Path legacy = Files.writeString(outputDir.resolve("20261018153012349.xlsx"), "이전 방식으로 만든 파일");
+
+        String path = service.generateQuotation(order("20261018153012349", 1));
+
+        assertThat(Path.of(path)).isEqualTo(legacy);
+        assertThat(QuotationFingerprint.read(legacy)).isEqualTo(QuotationFingerprint.of(order("20261018153012349", 1)));
+    }
+
+    private QuotationExcelServiceImpl service() {
+        QuotationStore store = new QuotationStore(outputDir.toString(), Long.MAX_VALUE, Long.MAX_VALUE,
+                System::currentTimeMillis);
+        return new QuotationExcelServiceImpl(TEMPLATE, EXECUTOR, store);
+    }
+
+    private Path[] listFiles() throws Exception {
+        try (Stream<Path> files = Files.list(outputDir)) {
+            return files.toArray(Path[]::new);
+        }
+    }
+
+    private Order order(String orderNumber, int itemCount) {
+        Order order = Order.builder()
+                .orderNumber(orderNumber)
+                .proxySid("sid-quotation")
+                .totalAmount(210_670L)
+                .status(OrderStatus.PAID)
+                .receiverName("홍길동")
+                .phone("010-1234-5678")
+                .postalCode("06236")
+                .roadAddress("서울특별시 강남구 테헤란로 123")
+                .detailAddress("4층")
+                .serviceFeeKRW(7_500L)
+                .totalShippingFeeKRW(39_470L)
+                .paymentFeeKRW(6_700L)
+                .extraPackagingFeeKRW(2_000L)
+                .insuranceFeeKRW(5_000L)
+                .grandTotalKRW(210_670L)
+                .build();
+        for (int i = 0; i < itemCount; i++) {
+            order.addItem(OrderItem.builder()
+                    .productName("상품 " + (i + 1))
+                    .priceKrw(10_000 + i * 1_000)
+                    .quantity(2)
+                    .build());
+        }
+        return order;
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.hayo02.proxyshopping.orders.serviceImpl;
+
+import io.github.hayo02.proxyshopping.orders.dto.TossPayConfirmRequest;
+import io.github.hayo02.proxyshopping.orders.dto.TossPayConfirmResponse;
+import io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmAttempt;
+import io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmStatus;
+import io.github.hayo02.proxyshopping.orders.repository.PaymentConfirmAttemptRepository;
+import io.github.hayo02.proxyshopping.orders.service.PaymentService;
+import io.github.hayo02.proxyshopping.orders.support.TossPaymentClient;
+import io.github.hayo02.proxyshopping.orders.support.TossStubServer;
+import io.github.hayo02.proxyshopping.orders.support.TossStubServer.StubResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 토스 대역 서버를 상대로 승인 시도 기록/재시도/타임아웃 동작 확인 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "toss.secret-key=test_sk",
+        "toss.client.attempt-timeout-ms=1000",
+        "toss.client.max-retries=3",
+        "toss.client.backoff-initial-ms=10",
+        "toss.client.backoff-max-ms=50"
+})
+@Import({TossPaymentServiceImpl.class, TossPaymentClient.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TossPaymentServiceImplTest {
+
+    private static final TossStubServer TOSS = new TossStubServer();
+
+    @DynamicPropertySource
+    static void tossProperties(DynamicPropertyRegistry registry) {
+        registry.add("toss.base-url", TOSS::baseUrl);
+    }
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentConfirmAttemptRepository attemptRepository;
+
+    @AfterEach
+    void tearDown() {
+        TOSS.reset();
+        attemptRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        TOSS.close();
+    }
+
+    @Test
+    void 일시적_5xx는_같은_멱등키로_재시도하고_중복_승인은_저장된_결과를_반환한다() {
+        TOSS.enqueue("POST", StubResponse.error(503, "PROVIDER_ERROR"), StubResponse.error(500, "FAILED_INTERNAL_SYSTEM_PROCESSING"));
+
+        TossPayConfirmResponse first = paymentService.confirm(request("pk-retry"));
+        TossPayConfirmResponse again = paymentService.confirm(request("pk-retry"));
+
+        assertThat(first.getStatus()).isEqualTo("DONE");
+        assertThat(TOSS.calls("POST")).isEqualTo(3);
+        assertThat(TOSS.idempotencyKeys()).containsOnly("confirm-pk-retry");
+        assertThat(again.getApprovedAt()).isEqualTo(first.getApprovedAt());
+        assertThat(attempt("pk-retry").getStatus()).isEqualTo(PaymentConfirmStatus.SUCCEEDED);
+    }
+
+    @Test
+    void 토스가_거절하면_재시도하지_않고_같은_요청에는_같은_에러를_낸다() {
+        TOSS.enqueue("POST", StubResponse.error(400, "REJECT_CARD_PAYMENT"));
+
+        assertThatThrownBy(() -> paymentService.confirm(request("pk-reject")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("REJECT_CARD_PAYMENT");
+        assertThatThrownBy(() -> paymentService.confirm(request("pk-reject")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("REJECT_CARD_PAYMENT");
+
+        assertThat(TOSS.calls("POST")).isEqualTo(1);
+        assertThat(attempt("pk-reject").getStatus()).isEqualTo(PaymentConfirmStatus.FAILED);
+    }
+
+    @Test
+    void 타임아웃으로_결과를_모르면_UNKNOWN_으로_남기고_다음_요청에서_다시_확인한다() {
+        // 최초 시도 + 재시도 3회 모두 attempt-timeout(1초) 초과
+        for (int i = 0; i < 4; i++) {
+            TOSS.enqueue("POST", StubResponse.delay(2_000));
+        }
+
+        assertThatThrownBy(() -> paymentService.confirm(request("pk-timeout")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("확인하지 못했습니다");
+        assertThat(attempt("pk-timeout").getStatus()).isEqualTo(PaymentConfirmStatus.UNKNOWN);
+
+        TossPayConfirmResponse retried = paymentService.confirm(request("pk-timeout"));
+
+        assertThat(retried.getStatus()).isEqualTo("DONE");
+        assertThat(attempt("pk-timeout").getStatus()).isEqualTo(PaymentConfirmStatus.SUCCEEDED);
+        assertThat(attempt("pk-timeout").getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void 이미_승인된_결제면_결제_조회로_결과를_확정한다() {
+        TOSS.putPayment("pk-done", "ORDER-1", 12_000L, "DONE");
+        TOSS.enqueue("POST", StubResponse.error(400, "ALREADY_PROCESSED_PAYMENT"));
+
+        TossPayConfirmResponse response = paymentService.confirm(request("pk-done"));
+
+        assertThat(response.getStatus()).isEqualTo("DONE");
+        assertThat(TOSS.calls("GET")).isEqualTo(1);
+        assertThat(attempt("pk-done").getStatus()).isEqualTo(PaymentConfirmStatus.SUCCEEDED);
+    }
+
+    @Test
+    void 이미_승인됐다는데_결제_조회가_실패하면_FAILED_가_아닌_UNKNOWN_으로_남긴다() {
+        TOSS.enqueue("POST", StubResponse.error(400, "ALREADY_PROCESSED_PAYMENT"));
+        TOSS.enqueue("GET", StubResponse.error(404, "NOT_FOUND_PAYMENT"));
+
+        assertThatThrownBy(() -> paymentService.confirm(request("pk-lookup")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("확인하지 못했습니다");
+
+        assertThat(attempt("pk-lookup").getStatus()).isEqualTo(PaymentConfirmStatus.UNKNOWN);
+        // 다음 요청에서 다시 확인
+        assertThat(paymentService.confirm(request("pk-lookup")).getStatus()).isEqualTo("DONE");
+        assertThat(attempt("pk-lookup").getStatus()).isEqualTo(PaymentConfirmStatus.SUCCEEDED);
+    }
+
+    @Test
+    void lease_가_지나_다른_요청이_다시_선점하면_늦게_끝난_시도는_결과를_덮지_않는다() throws Exception {
+        TOSS.enqueue("POST", StubResponse.delay(500));
+
+        CompletableFuture<TossPayConfirmResponse> slow =
+                CompletableFuture.supplyAsync(() -> paymentService.confirm(request("pk-lease")));
+        await(() -> TOSS.calls("POST") == 1);
+        // lease 만료 후 다른 요청이 다시 선점한 상황 (시도 번호 1 → 2)
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(attemptRepository.reclaim("pk-lease", 1, now, now.plusYears(1))).isEqualTo(1);
+
+        assertThat(slow.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("DONE");
+
+        PaymentConfirmAttempt attempt = attempt("pk-lease");
+        assertThat(attempt.getStatus()).isEqualTo(PaymentConfirmStatus.IN_PROGRESS);
+        assertThat(attempt.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void 같은_paymentKey로_다른_금액을_승인할_수_없다() {
+        paymentService.confirm(request("pk-amount"));
+
+        TossPayConfirmRequest tampered = request("pk-amount");
+        tampered.setAmount(1L);
+
+        assertThatThrownBy(() -> paymentService.confirm(tampered))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(TOSS.calls("POST")).isEqualTo(1);
+    }
+
+    private TossPayConfirmRequest request(String paymentKey) {
+        TossPayConfirmRequest req = new TossPayConfirmRequest();
+        req.setPaymentKey(paymentKey);
+        req.setOrderId("ORDER-1");
+        req.setAmount(12_000L);
+        return req;
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private PaymentConfirmAttempt attempt(String paymentKey) {
+        return attemptRepository.findByPaymentKey(paymentKey).orElseThrow();
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 목록 커서: (createdAt, id) 가 그대로 왕복하고, 형식이 틀린 커서는 400 으로 거절
+ */
+class OrderCursorTest {
+
+    @Test
+    void 인코딩한_커서를_디코딩하면_같은_위치가_나온다() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2026, 10, 18, 15, 30, 12, 345_678_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(OrderCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void 형식이_틀린_커서는_IllegalArgumentException_으로_거절한다() {
+        assertThatThrownBy(() -> OrderCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderCursor.decode(encode("no-separator")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderCursor.decode(encode("|42")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderCursor.decode(encode("yesterday|42")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderCursor.decode(encode("2026-10-18T15:30|abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
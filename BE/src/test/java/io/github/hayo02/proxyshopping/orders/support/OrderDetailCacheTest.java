@@ -0,0 +1,118 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import io.github.hayo02.proxyshopping.orders.dto.OrderDetailResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 상세 캐시: TTL 만료, LRU 제거, 상태 변경 시 무효화(커밋 후 재삭제), 주문자 본인일 때만 적중,
+ * 변경 직후에는 프라이머리에서 다시 채움
+ */
+class OrderDetailCacheTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void TTL_이_지나면_미스로_처리한다() {
+        OrderDetailCache cache = new OrderDetailCache(10, 30, 5_000, now::get);
+        cache.put("A", detail("A", "홍길동", "01012345678"));
+
+        now.addAndGet(30 * SECOND);
+        assertThat(cache.get("A", "홍길동", "01012345678")).isNotNull();
+
+        now.addAndGet(SECOND);
+        assertThat(cache.get("A", "홍길동", "01012345678")).isNull();
+    }
+
+    @Test
+    void 최대_개수를_넘으면_가장_오래_조회하지_않은_주문부터_제거한다() {
+        OrderDetailCache cache = new OrderDetailCache(2, 30, 5_000, now::get);
+        cache.put("A", detail("A", "홍길동", "01012345678"));
+        cache.put("B", detail("B", "홍길동", "01012345678"));
+        cache.get("A", "홍길동", "01012345678");
+
+        cache.put("C", detail("C", "홍길동", "01012345678"));
+
+        assertThat(cache.get("A", "홍길동", "01012345678")).isNotNull();
+        assertThat(cache.get("B", "홍길동", "01012345678")).isNull();
+        assertThat(cache.get("C", "홍길동", "01012345678")).isNotNull();
+    }
+
+    @Test
+    void 상태_변경_트랜잭션이_끝나면_그_사이_다시_캐시된_응답도_지운다() {
+        OrderDetailCache cache = new OrderDetailCache(10, 30, 5_000, now::get);
+        cache.put("A", detail("A", "홍길동", "01012345678"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate("A");
+        assertThat(cache.get("A", "홍길동", "01012345678")).isNull();
+
+        // 커밋 전에 다른 요청이 변경 전 상태를 읽어 다시 캐시
+        cache.put("A", detail("A", "홍길동", "01012345678"));
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        assertThat(cache.get("A", "홍길동", "01012345678")).isNull();
+    }
+
+    @Test
+    void 상태가_바뀐_주문은_커밋_후_고정_구간_동안_프라이머리에서_읽는다() {
+        OrderDetailCache cache = new OrderDetailCache(10, 30, 5_000, now::get);
+        assertThat(cache.readFromPrimary("A")).isFalse();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate("A");
+        assertThat(cache.readFromPrimary("A")).isTrue();
+
+        // 커밋이 늦어져도 고정 구간은 커밋 시점부터
+        now.addAndGet(10 * SECOND);
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        now.addAndGet(5 * SECOND);
+        assertThat(cache.readFromPrimary("A")).isTrue();
+
+        now.addAndGet(SECOND);
+        assertThat(cache.readFromPrimary("A")).isFalse();
+        assertThat(cache.readFromPrimary("B")).isFalse();
+    }
+
+    @Test
+    void 주문자_이름과_전화번호가_같을_때만_적중한다() {
+        OrderDetailCache cache = new OrderDetailCache(10, 30, 5_000, now::get);
+        OrderDetailResponse cached = detail("A", "홍길동", "010-1234-5678");
+        cache.put("A", cached);
+
+        assertThat(cache.get("A", " 홍길동 ", "01012345678")).isSameAs(cached);
+        assertThat(cache.get("A", "김철수", "01012345678")).isNull();
+        assertThat(cache.get("A", "홍길동", "01099999999")).isNull();
+        // 이름/전화번호를 비워도 캐시된 주문을 볼 수 없음
+        assertThat(cache.get("A", "", "")).isNull();
+        assertThat(cache.get("A", null, null)).isNull();
+        assertThat(cache.get("A", "홍길동", null)).isNull();
+    }
+
+    private OrderDetailResponse detail(String orderNumber, String receiver, String phone) {
+        return OrderDetailResponse.builder()
+                .orderId(orderNumber)
+                .receiver(receiver)
+                .phone(phone)
+                .build();
+    }
+}
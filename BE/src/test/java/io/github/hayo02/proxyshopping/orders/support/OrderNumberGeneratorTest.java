@@ -0,0 +1,134 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 여러 스레드가 동시에 수백만 개의 주문번호를 발급해도
+ * 중복 없이, 스레드별로 단조 증가하는지 확인
+ */
+class OrderNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 500_000;
+
+    // 토스 orderId 규칙: 6~64자, 영문 대소문자/숫자/-/_
+    private static final Pattern TOSS_ORDER_ID = Pattern.compile("[A-Za-z0-9_-]{6,64}");
+
+    @Test
+    void 동시에_수백만개를_발급해도_중복이_없고_스레드별로_증가한다() throws Exception {
+        OrderNumberGenerator generator = new OrderNumberGenerator(7);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    long[] issued = new long[IDS_PER_THREAD];
+                    start.await();
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        issued[i] = generator.nextSequence();
+                    }
+                    return issued;
+                }));
+            }
+            start.countDown();
+
+            long[] all = new long[THREADS * IDS_PER_THREAD];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] issued = future.get();
+                for (int i = 1; i < issued.length; i++) {
+                    assertThat(issued[i]).isGreaterThan(issued[i - 1]);
+                }
+                System.arraycopy(issued, 0, all, offset, issued.length);
+                offset += issued.length;
+            }
+
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                assertThat(all[i]).as("중복 발급").isNotEqualTo(all[i - 1]);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 문자열_형식은_토스_orderId_규칙과_컬럼_길이를_만족한다() {
+        Clock clock = Clock.fixed(Instant.parse("2026-10-18T06:30:12.345Z"), ZoneId.of("Asia/Seoul"));
+        OrderNumberGenerator generator = new OrderNumberGenerator(1, clock);
+
+        String first = generator.next();
+        String second = generator.next();
+
+        assertThat(first).isEqualTo("2026101815301234501000");
+        assertThat(second).isEqualTo("2026101815301234501001");
+        assertThat(first).matches(TOSS_ORDER_ID).hasSizeLessThanOrEqualTo(30);
+    }
+
+    @Test
+    void 시계가_멈추거나_뒤로_가도_다음_밀리초를_빌려_증가한다() {
+        Clock clock = Clock.fixed(Instant.parse("2026-10-18T06:30:12.345Z"), ZoneId.of("Asia/Seoul"));
+        OrderNumberGenerator generator = new OrderNumberGenerator(0, clock);
+
+        String last = null;
+        for (int i = 0; i < OrderNumberGenerator.SEQUENCE_PER_MILLI + 5; i++) {
+            String next = generator.next();
+            if (last != null) {
+                assertThat(next).isGreaterThan(last);
+            }
+            last = next;
+        }
+        // 1000개 초과 → 346ms 로 넘어감
+        assertThat(last).isEqualTo("2026101815301234600004");
+    }
+
+    @Test
+    void 노드_ID가_다르면_같은_시각에도_충돌하지_않는다() {
+        Clock clock = Clock.fixed(Instant.parse("2026-10-18T06:30:12.345Z"), ZoneId.of("Asia/Seoul"));
+        OrderNumberGenerator nodeA = new OrderNumberGenerator(1, clock);
+        OrderNumberGenerator nodeB = new OrderNumberGenerator(2, clock);
+
+        Set<String> issued = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            assertThat(issued.add(nodeA.next())).isTrue();
+            assertThat(issued.add(nodeB.next())).isTrue();
+        }
+    }
+
+    @Test
+    void 노드_ID_범위를_벗어나면_기동에_실패한다() {
+        assertThatThrownBy(() -> new OrderNumberGenerator(100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 노드_ID_를_비워_두면_개발_테스트_프로필에서만_0_을_쓴다() {
+        assertThat(OrderNumberGenerator.resolveNodeId("", new String[0])).isZero();
+        assertThat(OrderNumberGenerator.resolveNodeId(null, new String[]{"dev"})).isZero();
+        assertThat(OrderNumberGenerator.resolveNodeId(" 12 ", new String[]{"prod"})).isEqualTo(12);
+
+        assertThatThrownBy(() -> OrderNumberGenerator.resolveNodeId("", new String[]{"prod"}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ORDER_NODE_ID");
+        assertThatThrownBy(() -> OrderNumberGenerator.resolveNodeId(null, new String[]{"dev", "prod"}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuotationRenderExecutorTest {
+
+    private QuotationRenderExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    void 동시_렌더링_수는_concurrency_를_넘지_않는다() throws Exception {
+        executor = new QuotationRenderExecutor(2, 100, 1000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int n = i;
+            futures.add(executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return n;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertThat(maxRunning.get()).isEqualTo(2);
+        QuotationRenderExecutor.Stats stats = executor.stats();
+        assertThat(stats.completed()).isEqualTo(20);
+        assertThat(stats.rejected()).isZero();
+        assertThat(stats.avgRenderMs()).isGreaterThan(0);
+    }
+
+    @Test
+    void 대기열이_가득_차면_기다렸다가_자리가_없으면_거절한다() throws Exception {
+        executor = new QuotationRenderExecutor(1, 1, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<String> first = executor.submit(() -> {
+            started.countDown();
+            release.await();
+            return "first";
+        });
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = executor.submit(() -> "queued");
+
+        long before = System.nanoTime();
+        CompletableFuture<String> rejected = executor.submit(() -> "rejected");
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - before);
+
+        // 배압: 제출한 쪽이 submit-timeout 동안 기다린 뒤 거절
+        assertThat(waitedMs).isGreaterThanOrEqualTo(90);
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+
+        QuotationRenderExecutor.Stats stats = executor.stats();
+        assertThat(stats.active()).isEqualTo(1);
+        assertThat(stats.queued()).isEqualTo(1);
+        assertThat(stats.rejected()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+
+        // 자리가 나면 다시 받음
+        assertThat(executor.submit(() -> "again").get(5, TimeUnit.SECONDS)).isEqualTo("again");
+        assertThat(executor.stats().completed()).isEqualTo(3);
+    }
+
+    @Test
+    void 작업_예외는_future_로_전달되고_실패로_집계된다() {
+        executor = new QuotationRenderExecutor(1, 1, 100);
+
+        CompletableFuture<String> future = executor.submit(() -> {
+            throw new java.io.IOException("disk full");
+        });
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(java.io.IOException.class);
+        assertThat(executor.stats().failed()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 견적서 저장소: 오래 접근하지 않은 파일 압축/복원, quota 초과 시 LRU 삭제, 기동 시 색인 복구
+ */
+class QuotationStoreTest {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+    private static final String CONTENT = "견적서 내용 ".repeat(200);
+
+    @TempDir
+    Path dir;
+
+    private final AtomicLong now = new AtomicLong(100 * DAY);
+
+    @Test
+    void 오래_접근하지_않은_견적서는_압축하고_다시_조회하면_복원한다() throws Exception {
+        QuotationStore store = store(Long.MAX_VALUE);
+        save(store, "A");
+        save(store, "B");
+
+        now.addAndGet(8 * DAY);
+        store.touch("B");
+        store.compressIdle();
+
+        assertThat(store.hotPath("A")).doesNotExist();
+        assertThat(store.coldPath("A")).exists();
+        assertThat(store.hotPath("B")).exists();
+        assertThat(store.stats().coldFiles()).isEqualTo(1);
+        assertThat(store.stats().usedBytes())
+                .isEqualTo(Files.size(store.coldPath("A")) + Files.size(store.hotPath("B")));
+
+        Optional<Path> restored = store.resolve("A");
+        assertThat(restored).contains(store.hotPath("A"));
+        assertThat(Files.readString(restored.get())).isEqualTo(CONTENT + "A");
+        assertThat(store.coldPath("A")).doesNotExist();
+        assertThat(store.stats().restored()).isEqualTo(1);
+    }
+
+    @Test
+    void 용량을_넘으면_가장_오래_접근하지_않은_견적서부터_삭제한다() throws Exception {
+        long size = (CONTENT + "A").getBytes(StandardCharsets.UTF_8).length;
+        QuotationStore store = store(size * 3);
+        save(store, "A");
+        save(store, "B");
+        save(store, "C");
+        assertThat(store.resolve("A")).isPresent();
+
+        // 네 번째 파일로 quota 초과 → 90% 까지 비움 (접근 순서: B, C, A, D)
+        save(store, "D");
+
+        assertThat(store.resolve("B")).isEmpty();
+        assertThat(store.resolve("C")).isEmpty();
+        assertThat(store.hotPath("B")).doesNotExist();
+        assertThat(store.resolve("A")).isPresent();
+        assertThat(store.resolve("D")).isPresent();
+        assertThat(store.stats().evicted()).isEqualTo(2);
+        assertThat(store.stats().usedBytes()).isEqualTo(size * 2);
+    }
+
+    @Test
+    void 기동_시_디렉토리를_읽어_색인을_복구한다() throws Exception {
+        QuotationStore first = store(Long.MAX_VALUE);
+        save(first, "A");
+        save(first, "B");
+        now.addAndGet(8 * DAY);
+        first.compressIdle();
+        // 압축 도중 중단된 흔적: hot/cold 동시 존재 + 임시 파일
+        Files.writeString(first.hotPath("B"), CONTENT + "B");
+        Path temp = first.createTempFile("C");
+
+        QuotationStore restarted = store(Long.MAX_VALUE);
+
+        assertThat(temp).doesNotExist();
+        assertThat(restarted.coldPath("B")).doesNotExist();
+        assertThat(restarted.stats().hotFiles()).isEqualTo(1);
+        assertThat(restarted.stats().coldFiles()).isEqualTo(1);
+        assertThat(Files.readString(restarted.resolve("A").orElseThrow())).isEqualTo(CONTENT + "A");
+        assertThat(Files.readString(restarted.resolve("B").orElseThrow())).isEqualTo(CONTENT + "B");
+    }
+
+    @Test
+    void 내보내기는_압축본을_풀어서_읽고_복원하지_않는다() throws Exception {
+        QuotationStore store = store(Long.MAX_VALUE);
+        save(store, "A");
+        now.addAndGet(8 * DAY);
+        store.compressIdle();
+
+        QuotationStore.StoredFile file = store.open("A").orElseThrow();
+        try (InputStream in = file.content()) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CONTENT + "A");
+        }
+        assertThat(file.lastModified()).isEqualTo(Files.getLastModifiedTime(store.coldPath("A")));
+        assertThat(store.coldPath("A")).exists();
+        assertThat(store.open("MISSING")).isEmpty();
+    }
+
+    private QuotationStore store(long quotaBytes) {
+        return new QuotationStore(dir.toString(), quotaBytes, 7 * DAY, now::get);
+    }
+
+    private void save(QuotationStore store, String orderNumber) throws Exception {
+        Path temp = store.createTempFile(orderNumber);
+        Files.writeString(temp, CONTENT + orderNumber);
+        Path hot = store.commit(orderNumber, temp);
+        // 재기동 시 색인 순서(수정 시각)가 저장 순서와 같도록
+        Files.setLastModifiedTime(hot, FileTime.fromMillis(now.get()));
+        now.addAndGet(1_000);
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.hayo02.proxyshopping.orders.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 토스페이먼츠 대역 서버 (JDK HttpServer).
+ * - POST /v1/payments/confirm: 기본은 요청을 그대로 승인(DONE)하고 결제로 저장
+ * - GET  /v1/payments/{paymentKey}: 저장된 결제 반환, 없으면 404
+ * - enqueue 로 메서드별 응답(상태코드/지연)을 미리 지정하면 순서대로 소비
+ */
+public class TossStubServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public record StubResponse(int status, String body, long delayMs) {
+
+        public static StubResponse of(int status, String body) {
+            return new StubResponse(status, body, 0);
+        }
+
+        public static StubResponse error(int status, String code) {
+            return new StubResponse(status, "{\"code\":\"" + code + "\",\"message\":\"" + code + "\"}", 0);
+        }
+
+        // delayMs 동안 응답하지 않은 뒤 기본 동작
+        public static StubResponse delay(long delayMs) {
+            return new StubResponse(0, null, delayMs);
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Queue<StubResponse>> scripted = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> payments = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final List<String> idempotencyKeys = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public TossStubServer() {
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.createContext("/v1/payments", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void enqueue(String method, StubResponse... responses) {
+        Queue<StubResponse> queue = scripted.computeIfAbsent(method, m -> new ConcurrentLinkedQueue<>());
+        Collections.addAll(queue, responses);
+    }
+
+    public void putPayment(String paymentKey, String orderId, long amount, String status) {
+        payments.put(paymentKey, Map.of(
+                "paymentKey", paymentKey,
+                "orderId", orderId,
+                "status", status,
+                "totalAmount", amount,
+                "approvedAt", "2026-10-18T15:30:12+09:00"
+        ));
+    }
+
+    public int calls(String method) {
+        AtomicInteger count = calls.get(method);
+        return count == null ? 0 : count.get();
+    }
+
+    public List<String> idempotencyKeys() {
+        return List.copyOf(idempotencyKeys);
+    }
+
+    // 동시에 처리 중이던 요청 수의 최댓값
+    public int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public void reset() {
+        scripted.clear();
+        payments.clear();
+        calls.clear();
+        idempotencyKeys.clear();
+        maxInFlight.set(0);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        calls.computeIfAbsent(method, m -> new AtomicInteger()).incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+            if (idempotencyKey != null) {
+                idempotencyKeys.add(idempotencyKey);
+            }
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+
+            Queue<StubResponse> queue = scripted.get(method);
+            StubResponse forced = queue == null ? null : queue.poll();
+            if (forced != null && forced.delayMs() > 0) {
+                sleep(forced.delayMs());
+            }
+            if (forced != null && forced.status() > 0) {
+                write(exchange, forced.status(), forced.body());
+                return;
+            }
+
+            if ("POST".equals(method) && exchange.getRequestURI().getPath().equals("/v1/payments/confirm")) {
+                Map<?, ?> req = MAPPER.readValue(requestBody, Map.class);
+                String paymentKey = (String) req.get("paymentKey");
+                putPayment(paymentKey, (String) req.get("orderId"), ((Number) req.get("amount")).longValue(), "DONE");
+                write(exchange, 200, MAPPER.writeValueAsString(payments.get(paymentKey)));
+                return;
+            }
+            if ("GET".equals(method)) {
+                String path = exchange.getRequestURI().getPath();
+                String paymentKey = path.substring(path.lastIndexOf('/') + 1);
+                Map<String, Object> payment = payments.get(paymentKey);
+                if (payment == null) {
+                    write(exchange, 404, "{\"code\":\"NOT_FOUND_PAYMENT\",\"message\":\"not found\"}");
+                } else {
+                    write(exchange, 200, MAPPER.writeValueAsString(payment));
+                }
+                return;
+            }
+            write(exchange, 404, "{}");
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void write(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package io.github.hayo02.proxyshopping.orders.support.reconcile;
+
+import io.github.hayo02.proxyshopping.common.lock.SchedulerLockRepository;
+import io.github.hayo02.proxyshopping.common.lock.SchedulerLocks;
+import io.github.hayo02.proxyshopping.common.outbox.OutboxPublisher;
+import io.github.hayo02.proxyshopping.orders.entity.Order;
+import io.github.hayo02.proxyshopping.orders.entity.OrderStatus;
+import io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmAttempt;
+import io.github.hayo02.proxyshopping.orders.entity.PaymentConfirmStatus;
+import io.github.hayo02.proxyshopping.orders.repository.OrderRepository;
+import io.github.hayo02.proxyshopping.orders.repository.PaymentConfirmAttemptRepository;
+import io.github.hayo02.proxyshopping.orders.service.SlackNotificationService;
+import io.github.hayo02.proxyshopping.orders.support.OrderDetailCache;
+import io.github.hayo02.proxyshopping.orders.support.PaymentCompletedHandler;
+import io.github.hayo02.proxyshopping.orders.support.TossPaymentClient;
+import io.github.hayo02.proxyshopping.orders.support.TossStubServer;
+import io.github.hayo02.proxyshopping.orders.support.TossStubServer.StubResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 토스 대역 서버를 상대로 결제 대사 보정/요약/동시성/429 처리, 스케줄러 스레드를 붙잡지 않는지 확인 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "toss.secret-key=test_sk",
+        "toss.client.attempt-timeout-ms=2000",
+        "toss.client.max-retries=1",
+        "toss.client.backoff-initial-ms=10",
+        "toss.client.backoff-max-ms=20",
+        "payment.reconciliation.enabled=false",
+        "payment.reconciliation.chunk-size=3",
+        "payment.reconciliation.concurrency=2",
+        "payment.reconciliation.requests-per-second=1000",
+        "payment.reconciliation.orphan-grace-minutes=0"
+})
+@Import({PaymentReconciliationJob.class, TossPaymentClient.class, OrderDetailCache.class, SchedulerLocks.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentReconciliationJobTest {
+
+    private static final TossStubServer TOSS = new TossStubServer();
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @DynamicPropertySource
+    static void tossProperties(DynamicPropertyRegistry registry) {
+        registry.add("toss.base-url", TOSS::baseUrl);
+    }
+
+    @Autowired
+    private PaymentReconciliationJob job;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentConfirmAttemptRepository attemptRepository;
+
+    @Autowired
+    private TossPaymentClient tossPaymentClient;
+
+    @Autowired
+    private OrderDetailCache orderDetailCache;
+
+    @Autowired
+    private SchedulerLocks schedulerLocks;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private OutboxPublisher outboxPublisher;
+
+    @MockitoBean
+    private SlackNotificationService slackNotificationService;
+
+    @AfterEach
+    void tearDown() {
+        TOSS.reset();
+        orderRepository.deleteAll();
+        attemptRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        TOSS.close();
+    }
+
+    @Test
+    void 토스_상태와_다른_주문은_안전한_전이만_보정하고_요약에_남긴다() throws Exception {
+        Order pendingDone = save(OrderStatus.PENDING, "pk-pending-done", 10_000L, null);
+        Order pendingCanceled = save(OrderStatus.PENDING, "pk-pending-canceled", 10_000L, null);
+        Order pendingAborted = save(OrderStatus.PENDING, "pk-pending-aborted", 10_000L, null);
+        Order paidDone = save(OrderStatus.PAID, "pk-paid-done", 10_000L, null);
+        Order paidCanceled = save(OrderStatus.PAID, "pk-paid-canceled", 10_000L, null);
+        Order paidExpired = save(OrderStatus.PAID, "pk-paid-expired", 10_000L, null);
+        Order amountMismatch = save(OrderStatus.PENDING, "pk-mismatch", 10_000L, null);
+        Order inProgress = save(OrderStatus.PENDING, "pk-in-progress", 10_000L, null);
+        Order noKey = save(OrderStatus.PAID, null, 10_000L, null);
+        Order missing = save(OrderStatus.PAID, "pk-missing", 10_000L, null);
+
+        TOSS.putPayment("pk-pending-done", "toss-1", 10_000L, "DONE");
+        TOSS.putPayment("pk-pending-canceled", "toss-2", 10_000L, "CANCELED");
+        TOSS.putPayment("pk-pending-aborted", "toss-3", 10_000L, "ABORTED");
+        TOSS.putPayment("pk-paid-done", "toss-4", 10_000L, "DONE");
+        TOSS.putPayment("pk-paid-canceled", "toss-5", 10_000L, "CANCELED");
+        TOSS.putPayment("pk-paid-expired", "toss-6", 10_000L, "EXPIRED");
+        TOSS.putPayment("pk-mismatch", "toss-7", 9_000L, "DONE");
+        TOSS.putPayment("pk-in-progress", "toss-8", 10_000L, "IN_PROGRESS");
+
+        ReconciliationSummary summary = job.reconcile();
+
+        assertThat(summary.checked()).isEqualTo(10);
+        assertThat(summary.count(ReconcileOutcome.MARKED_PAID)).isEqualTo(1);
+        assertThat(summary.count(ReconcileOutcome.MARKED_CANCELED)).isEqualTo(2);
+        assertThat(summary.count(ReconcileOutcome.MARKED_FAILED)).isEqualTo(1);
+        assertThat(summary.count(ReconcileOutcome.MATCHED)).isEqualTo(1);
+        assertThat(summary.count(ReconcileOutcome.SKIPPED)).isEqualTo(1);
+        assertThat(summary.count(ReconcileOutcome.UNVERIFIABLE)).isEqualTo(1);
+        // PAID→EXPIRED, 금액 불일치, 토스에 없는 결제
+        assertThat(summary.count(ReconcileOutcome.MANUAL_REVIEW)).isEqualTo(3);
+        assertThat(summary.needsAttention()).isTrue();
+        // 10 건 중 키 없는 1 건 제외
+        assertThat(TOSS.calls("GET")).isEqualTo(9);
+
+        assertThat(statusOf(pendingDone)).isEqualTo(OrderStatus.PAID);
+        assertThat(orderRepository.findById(pendingDone.getId()).orElseThrow().getPaidAt()).isNotNull();
+        assertThat(statusOf(pendingCanceled)).isEqualTo(OrderStatus.CANCELED);
+        assertThat(statusOf(pendingAborted)).isEqualTo(OrderStatus.FAILED);
+        assertThat(statusOf(paidDone)).isEqualTo(OrderStatus.PAID);
+        assertThat(statusOf(paidCanceled)).isEqualTo(OrderStatus.CANCELED);
+        assertThat(statusOf(paidExpired)).isEqualTo(OrderStatus.PAID);
+        assertThat(statusOf(amountMismatch)).isEqualTo(OrderStatus.PENDING);
+        assertThat(statusOf(inProgress)).isEqualTo(OrderStatus.PENDING);
+        assertThat(statusOf(noKey)).isEqualTo(OrderStatus.PAID);
+        assertThat(statusOf(missing)).isEqualTo(OrderStatus.PAID);
+
+        // PENDING→PAID 보정만 결제 완료 후속 처리(견적서/Slack)를 아웃박스로 발행
+        verify(outboxPublisher).publish(eq(PaymentCompletedHandler.EVENT_TYPE), eq(pendingDone.getOrderNumber()), isNull());
+        verify(outboxPublisher, never()).publish(any(), eq(paidDone.getOrderNumber()), any());
+    }
+
+    @Test
+    void 조회_기간_밖의_주문과_다른_상태의_주문은_조회하지_않는다() throws Exception {
+        save(OrderStatus.PENDING, "pk-old", 10_000L, LocalDateTime.now().minusDays(3));
+        save(OrderStatus.CANCELED, "pk-canceled", 10_000L, null);
+        Order recent = save(OrderStatus.PAID, "pk-recent", 10_000L, null);
+        TOSS.putPayment("pk-recent", "toss-recent", 10_000L, "DONE");
+
+        ReconciliationSummary summary = job.reconcile();
+
+        assertThat(summary.checked()).isEqualTo(1);
+        assertThat(summary.count(ReconcileOutcome.MATCHED)).isEqualTo(1);
+        assertThat(summary.needsAttention()).isFalse();
+        assertThat(TOSS.calls("GET")).isEqualTo(1);
+        assertThat(statusOf(recent)).isEqualTo(OrderStatus.PAID);
+    }
+
+    @Test
+    void 승인됐지만_주문이_없는_결제를_요약에_포함한다() throws Exception {
+        LocalDateTime approvedAt = LocalDateTime.now().minusMinutes(5);
+        attemptRepository.save(PaymentConfirmAttempt.builder()
+                .paymentKey("pk-orphan").orderId("toss-orphan").amount(10_000L)
+                .status(PaymentConfirmStatus.SUCCEEDED).attempts(1)
+                .tossStatus("DONE").approvedAmount(10_000L)
+                .createdAt(approvedAt).updatedAt(approvedAt)
+                .build());
+        attemptRepository.save(PaymentConfirmAttempt.builder()
+                .paymentKey("pk-linked").orderId("toss-linked").amount(10_000L)
+                .status(PaymentConfirmStatus.SUCCEEDED).attempts(1)
+                .tossStatus("DONE").approvedAmount(10_000L)
+                .createdAt(approvedAt).updatedAt(approvedAt)
+                .build());
+        save(OrderStatus.PAID, "pk-linked", 10_000L, null);
+        TOSS.putPayment("pk-linked", "toss-linked", 10_000L, "DONE");
+
+        ReconciliationSummary summary = job.reconcile();
+
+        assertThat(summary.getOrphanPayments()).isEqualTo(1);
+        assertThat(summary.needsAttention()).isTrue();
+    }
+
+    @Test
+    void 토스_조회는_설정한_동시성_이내로만_실행한다() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            save(OrderStatus.PAID, "pk-concurrent-" + i, 10_000L, null);
+            TOSS.putPayment("pk-concurrent-" + i, "toss-" + i, 10_000L, "DONE");
+            TOSS.enqueue("GET", StubResponse.delay(100));
+        }
+
+        ReconciliationSummary summary = job.reconcile();
+
+        assertThat(summary.count(ReconcileOutcome.MATCHED)).isEqualTo(8);
+        assertThat(TOSS.maxInFlight()).isBetween(1, 2);
+    }
+
+    @Test
+    void 토스가_429를_주면_이번_실행을_멈추고_요약에_남긴다() throws Exception {
+        for (int i = 0; i < 9; i++) {
+            save(OrderStatus.PAID, "pk-limited-" + i, 10_000L, null);
+            TOSS.putPayment("pk-limited-" + i, "toss-" + i, 10_000L, "DONE");
+        }
+        for (int i = 0; i < 6; i++) {
+            TOSS.enqueue("GET", StubResponse.error(429, "TOO_MANY_REQUESTS"));
+        }
+
+        ReconciliationSummary summary = job.reconcile();
+
+        assertThat(summary.isRateLimited()).isTrue();
+        assertThat(summary.count(ReconcileOutcome.RATE_LIMITED)).isPositive();
+        // 첫 청크(3건)에서 멈추고 다음 청크는 조회하지 않음
+        assertThat(summary.checked()).isEqualTo(3);
+        assertThat(summary.needsAttention()).isTrue();
+        // 429 를 클라이언트가 재시도하지 않음 (첫 청크 3건 이하로만 호출)
+        assertThat(TOSS.calls("GET")).isBetween(1, 3);
+    }
+
+    @Test
+    void 대사가_길어져도_같은_스케줄러의_다른_작업은_계속_실행된다() throws Exception {
+        save(OrderStatus.PAID, "pk-slow", 10_000L, null);
+        TOSS.putPayment("pk-slow", "toss-slow", 10_000L, "DONE");
+        TOSS.enqueue("GET", StubResponse.delay(1_000));
+
+        // 스프링 기본값과 같은 스레드 1개짜리 스케줄러
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+        PaymentReconciliationJob enabledJob = new PaymentReconciliationJob(orderRepository, attemptRepository,
+                tossPaymentClient, outboxPublisher, orderDetailCache, slackNotificationService, schedulerLocks,
+                transactionManager, true, 24, 3, 2, 1000, 0, 60_000, 0);
+        AtomicInteger otherTaskRuns = new AtomicInteger();
+        try {
+            scheduler.schedule(enabledJob::run, Instant.now());
+            scheduler.scheduleWithFixedDelay(otherTaskRuns::incrementAndGet, Duration.ofMillis(20));
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (TOSS.calls("GET") == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            int before = otherTaskRuns.get();
+            Thread.sleep(300);
+
+            // 토스 응답을 기다리는 동안에도 다른 작업이 돌아감
+            assertThat(enabledJob.isRunning()).isTrue();
+            assertThat(otherTaskRuns.get() - before).isGreaterThanOrEqualTo(5);
+
+            while (enabledJob.isRunning() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(enabledJob.isRunning()).isFalse();
+        } finally {
+            scheduler.shutdown();
+            enabledJob.shutdown();
+            schedulerLockRepository.deleteAll();
+        }
+    }
+
+    private Order save(OrderStatus status, String paymentKey, long totalAmount, LocalDateTime createdAt) {
+        return orderRepository.save(Order.builder()
+                .orderNumber("RC" + SEQ.incrementAndGet())
+                .paymentKey(paymentKey)
+                .proxySid("sid-reconcile")
+                .totalAmount(totalAmount)
+                .status(status)
+                .receiverName("홍길동")
+                .phone("010-0000-0000")
+                .postalCode("12345")
+                .roadAddress("서울시")
+                .detailAddress("101호")
+                .createdAt(createdAt)
+                .build());
+    }
+
+    private OrderStatus statusOf(Order order) {
+        return orderRepository.findById(order.getId()).orElseThrow().getStatus();
+    }
+}
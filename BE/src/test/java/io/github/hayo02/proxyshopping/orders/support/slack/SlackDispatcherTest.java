@@ -0,0 +1,239 @@
+package io.github.hayo02.proxyshopping.orders.support.slack;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Slack 대역 서버(JDK HttpServer)를 상대로 알림 묶음 전송, 429 Retry-After 준수, 대기열 초과 시 버림,
+ * 전송 실패 재시도, 재기동 후 스풀에 남은 알림 재전송 확인
+ */
+class SlackDispatcherTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final SlackStub slack = new SlackStub();
+    private SlackDispatcher dispatcher;
+    private SlackSpool spool;
+
+    @TempDir
+    Path spoolDir;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        if (spool != null) {
+            spool.close();
+        }
+        slack.close();
+    }
+
+    @Test
+    void 짧은_시간에_몰린_알림은_한_메시지로_묶어서_보낸다() throws Exception {
+        dispatcher = dispatcher(200, 100);
+        for (int i = 1; i <= 5; i++) {
+            assertThat(dispatcher.enqueue("에러 " + i)).isTrue();
+        }
+
+        await(() -> dispatcher.stats().messages() == 5);
+
+        assertThat(slack.texts).hasSize(1);
+        assertThat(slack.texts.get(0)).contains("알림 5건 묶음").contains("에러 1").contains("에러 5");
+        SlackDispatcher.Stats stats = dispatcher.stats();
+        assertThat(stats.sent()).isEqualTo(1);
+        assertThat(stats.coalesced()).isEqualTo(4);
+        assertThat(stats.queued()).isZero();
+    }
+
+    @Test
+    void 묶음이_길어지면_여러_메시지로_나눈다() throws Exception {
+        dispatcher = dispatcher(200, 100);
+        // 두 개가 한 묶음에 딱 맞는 길이
+        String longText = "x".repeat((SlackDispatcher.MAX_DIGEST_CHARS - SlackDispatcher.DIGEST_SEPARATOR.length()) / 2);
+        for (int i = 0; i < 3; i++) {
+            dispatcher.enqueue(longText);
+        }
+
+        await(() -> dispatcher.stats().messages() == 3);
+
+        assertThat(slack.texts).hasSize(2);
+        assertThat(slack.texts).allSatisfy(text ->
+                assertThat(text.length()).isLessThanOrEqualTo(SlackDispatcher.MAX_DIGEST_CHARS + 100));
+    }
+
+    @Test
+    void 응답이_429면_Retry_After_동안_기다렸다가_밀린_알림과_묶어서_보낸다() throws Exception {
+        dispatcher = dispatcher(100, 100);
+        slack.rateLimitOnce(1);
+
+        long startedAt = System.nanoTime();
+        dispatcher.enqueue("첫 번째");
+        await(() -> dispatcher.stats().rateLimited() == 1);
+        dispatcher.enqueue("두 번째");
+
+        await(() -> dispatcher.stats().messages() == 2);
+
+        assertThat((System.nanoTime() - startedAt) / 1_000_000).isGreaterThanOrEqualTo(1_000);
+        assertThat(slack.calls()).isEqualTo(2);
+        assertThat(slack.texts).hasSize(1);
+        assertThat(slack.texts.get(0)).contains("첫 번째").contains("두 번째");
+    }
+
+    @Test
+    void 대기열이_가득_차면_버리고_건수를_남긴다() {
+        dispatcher = dispatcher(60_000, 2);
+
+        assertThat(dispatcher.enqueue("1")).isTrue();
+        assertThat(dispatcher.enqueue("2")).isTrue();
+        assertThat(dispatcher.enqueue("3")).isFalse();
+
+        SlackDispatcher.Stats stats = dispatcher.stats();
+        assertThat(stats.queued()).isEqualTo(2);
+        assertThat(stats.dropped()).isEqualTo(1);
+        assertThat(slack.calls()).isZero();
+    }
+
+    @Test
+    void 전송이_실패하면_잠시_후_다시_보낸다() throws Exception {
+        dispatcher = dispatcher(50, 100);
+        slack.failOnce();
+
+        dispatcher.enqueue("실패 후 재시도");
+
+        await(() -> dispatcher.stats().messages() == 1);
+
+        SlackDispatcher.Stats stats = dispatcher.stats();
+        assertThat(stats.retried()).isEqualTo(1);
+        assertThat(stats.dropped()).isZero();
+        assertThat(slack.texts).containsExactly("실패 후 재시도");
+        assertThat(spool.stats().pending()).isZero();
+    }
+
+    @Test
+    void 보내지_못하고_종료된_알림은_다음_기동_시_다시_보낸다() throws Exception {
+        dispatcher = dispatcher(50, 100);
+        slack.rateLimitOnce(60);
+        dispatcher.enqueue("종료 전 알림 1");
+        dispatcher.enqueue("종료 전 알림 2");
+        await(() -> dispatcher.stats().rateLimited() == 1);
+
+        // 한도 대기 중에 종료 → 스풀에 남음
+        dispatcher.shutdown();
+        spool.close();
+        assertThat(slack.texts).isEmpty();
+
+        dispatcher = dispatcher(50, 100);
+        assertThat(spool.stats().pending()).isEqualTo(2);
+        await(() -> dispatcher.stats().messages() == 2);
+
+        assertThat(slack.texts).hasSize(1);
+        assertThat(slack.texts.get(0)).contains("종료 전 알림 1").contains("종료 전 알림 2");
+        assertThat(spool.stats().pending()).isZero();
+    }
+
+    private SlackDispatcher dispatcher(long windowMs, int capacity) {
+        SlackClient client = new SlackClient(WebClient.builder(), slack.baseUrl(), "", "xoxb-test", "C0TEST");
+        spool = new SlackSpool(spoolDir, 64 * 1024, 1024 * 1024);
+        return new SlackDispatcher(client, spool, true, windowMs, capacity);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("시간 안에 조건을 만족하지 않음: " + dispatcher.stats());
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * chat.postMessage 만 받는 Slack 대역 서버 (받은 text 기록, 지정하면 429 + Retry-After 또는 500 응답)
+     */
+    private static class SlackStub implements AutoCloseable {
+
+        final List<String> texts = new CopyOnWriteArrayList<>();
+        private final Queue<Long> retryAfterSeconds = new ConcurrentLinkedQueue<>();
+        private volatile boolean failNext;
+        private final HttpServer server;
+        private volatile int calls;
+
+        SlackStub() {
+            try {
+                server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            server.createContext("/api/chat.postMessage", this::handle);
+            server.start();
+        }
+
+        String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/api";
+        }
+
+        void rateLimitOnce(long seconds) {
+            retryAfterSeconds.add(seconds);
+        }
+
+        void failOnce() {
+            failNext = true;
+        }
+
+        int calls() {
+            return calls;
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            calls++;
+            Map<?, ?> body = MAPPER.readValue(exchange.getRequestBody().readAllBytes(), Map.class);
+            Long retryAfter = retryAfterSeconds.poll();
+            if (retryAfter != null) {
+                exchange.getResponseHeaders().add("Retry-After", String.valueOf(retryAfter));
+                write(exchange, 429, "{\"ok\":false,\"error\":\"ratelimited\"}");
+                return;
+            }
+            if (failNext) {
+                failNext = false;
+                write(exchange, 500, "{\"ok\":false,\"error\":\"internal_error\"}");
+                return;
+            }
+            texts.add((String) body.get("text"));
+            write(exchange, 200, "{\"ok\":true}");
+        }
+
+        private void write(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.hayo02.proxyshopping.orders.support.slack;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Slack 스풀: 다시 열면 확인 전 알림만 replay, 확인한 세그먼트 삭제, 손상된 레코드부터 버림, 용량 초과 시 거절,
+ * 디렉토리를 쓸 수 없으면 임시 디렉토리로 대체
+ */
+class SlackSpoolTest {
+
+    private static final int SEGMENT_BYTES = 256;
+
+    @TempDir
+    Path dir;
+
+    private SlackSpool spool;
+
+    @AfterEach
+    void tearDown() {
+        if (spool != null) {
+            spool.close();
+        }
+    }
+
+    @Test
+    void 디렉토리를_만들_수_없으면_임시_디렉토리로_대체해_기동한다() throws IOException {
+        // 일반 파일 아래에는 디렉토리를 만들 수 없음
+        Path blocked = Files.writeString(dir.resolve("blocked"), "file").resolve("spool");
+
+        Path usable = SlackSpool.usableDir(blocked);
+
+        assertThat(usable).isNotEqualTo(blocked);
+        assertThat(Files.isDirectory(usable)).isTrue();
+        try {
+            spool = new SlackSpool(usable, SEGMENT_BYTES, 1024 * 1024);
+            assertThat(spool.append("에러")).isTrue();
+        } finally {
+            spool.close();
+            spool = null;
+            try (Stream<Path> files = Files.list(usable)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(usable);
+        }
+        assertThat(SlackSpool.usableDir(dir.resolve("ok"))).isEqualTo(dir.resolve("ok"));
+    }
+
+    @Test
+    void 다시_열면_확인하지_않은_알림만_순서대로_replay_한다() {
+        spool = open(1024 * 1024);
+        for (int i = 1; i <= 5; i++) {
+            assertThat(spool.append("에러 " + i)).isTrue();
+        }
+        spool.acknowledge(2);
+
+        reopen(1024 * 1024);
+
+        assertThat(spool.replay()).containsExactly("에러 3", "에러 4", "에러 5");
+        assertThat(spool.stats().pending()).isEqualTo(3);
+    }
+
+    @Test
+    void 세그먼트를_넘겨_쓰고_확인을_마친_세그먼트는_삭제한다() throws IOException {
+        spool = open(1024 * 1024);
+        for (int i = 0; i < 20; i++) {
+            spool.append(String.format("%-40s", "알림 " + i));
+        }
+        assertThat(segmentFiles()).isGreaterThan(3);
+
+        spool.acknowledge(19);
+
+        assertThat(segmentFiles()).isEqualTo(1);
+        reopen(1024 * 1024);
+        assertThat(spool.replay()).containsExactly(String.format("%-40s", "알림 19"));
+    }
+
+    @Test
+    void 손상된_레코드부터는_버리고_새_세그먼트에_이어_쓴다() throws IOException {
+        spool = open(1024 * 1024);
+        spool.append("정상");
+        spool.append("손상될 알림");
+        spool.append("손상 뒤 알림");
+        spool.close();
+
+        // 두 번째 레코드 본문 한 바이트 변경 → CRC 불일치
+        int secondBody = SlackSpool.HEADER_BYTES + "정상".getBytes(StandardCharsets.UTF_8).length + SlackSpool.HEADER_BYTES;
+        try (FileChannel channel = FileChannel.open(firstSegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'x'}), secondBody);
+        }
+
+        spool = open(1024 * 1024);
+        assertThat(spool.replay()).containsExactly("정상");
+        assertThat(spool.stats().corrupted()).isEqualTo(1);
+
+        spool.append("재기동 후 알림");
+        reopen(1024 * 1024);
+        assertThat(spool.replay()).containsExactly("정상", "재기동 후 알림");
+    }
+
+    @Test
+    void 용량만큼_차면_기록을_거절하고_확인하면_다시_받는다() {
+        // 세그먼트 2개까지
+        spool = open(SEGMENT_BYTES * 2);
+        String text = "x".repeat(100);
+        int accepted = 0;
+        while (spool.append(text)) {
+            accepted++;
+        }
+        assertThat(accepted).isEqualTo(4);
+        assertThat(spool.stats().rejected()).isEqualTo(1);
+        assertThat(spool.append("y".repeat(SEGMENT_BYTES))).isFalse();
+
+        spool.acknowledge(2);
+
+        assertThat(spool.append(text)).isTrue();
+        assertThat(spool.stats().segments()).isEqualTo(2);
+    }
+
+    private SlackSpool open(long maxBytes) {
+        return new SlackSpool(dir, SEGMENT_BYTES, maxBytes);
+    }
+
+    private void reopen(long maxBytes) {
+        spool.close();
+        spool = open(maxBytes);
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(SlackSpool.SEGMENT_SUFFIX)).count();
+        }
+    }
+
+    private Path firstSegment() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(SlackSpool.SEGMENT_SUFFIX)).sorted().findFirst().orElseThrow();
+        }
+    }
+}
@@ -35,9 +35,26 @@ interface CartQuotationProps {
   selectedItems: SelectedCartItem[];
 }
 
-type CartEstimateApiResponse = {
+// 배송 수단 × 추가 포장 × 보험 조합별 견적
+type CartEstimateOption = {
+  carrier: string;
+  extraPackaging: boolean;
+  insurance: boolean;
+  estimate: CartEstimate;
+};
+
+type CartEstimateMatrix = {
+  options: CartEstimateOption[];
+  // 무게/부피 한도 때문에 보낼 수 없는 배송 수단 (options 에 없음)
+  unavailableCarriers: string[];
+  // 기본 수단(EMS)으로 보낼 수 없으면 null
+  defaultCarrier: string | null;
+  selected: CartEstimate | null;
+};
+
+type CartEstimateMatrixApiResponse = {
   success: boolean;
-  data: CartEstimate | null;
+  data: CartEstimateMatrix | null;
   error: string | null;
 };
 
@@ -63,10 +80,20 @@ export default function CartQuotation({
   onCheckout,
   selectedItems,
 }: CartQuotationProps) {
-  const [estimate, setEstimate] = useState<CartEstimate | null>(null);
+  const [matrix, setMatrix] = useState<CartEstimateMatrix | null>(null);
   const [isLoading, setIsLoading] = useState(false);
   const [errorMsg, setErrorMsg] = useState<string | null>(null);
 
+  // 옵션 토글은 이미 받아 둔 조합 중에서 고르기만 함 (API 재호출 없음)
+  const carrier = matrix?.defaultCarrier ?? matrix?.options[0]?.carrier ?? null;
+  const estimate =
+    matrix?.options.find(
+      (o) =>
+        o.carrier === carrier &&
+        o.extraPackaging === extraPackaging &&
+        o.insurance === insurance
+    )?.estimate ?? null;
+
   const subtotal = estimate
     ? estimate.productTotalKRW +
       estimate.serviceFeeKRW +
@@ -77,10 +104,10 @@ export default function CartQuotation({
 
   const predictedVolumeCm3 = estimate ? estimate.totalVolumeM3 * 1_000_000 : 0;
 
-  // extraPackaging / insurance / selectedItems 바뀔 때마다 견적 API 호출
+  // selectedItems 바뀔 때만 견적 매트릭스 API 호출 (옵션 조합은 한 번에 받아 옴)
   useEffect(() => {
     if (selectedItems.length === 0) {
-      setEstimate(null);
+      setMatrix(null);
       setErrorMsg("선택된 상품이 없습니다. 상품을 선택해 주세요.");
       return;
     }
@@ -91,12 +118,10 @@ export default function CartQuotation({
       try {
         const payload = {
           itemIds: selectedItems.map((item) => item.id),
-          extraPackaging,
-          insurance,
         };
 
-        const finalUrl = buildApiUrl("/api/cart/estimate");
-        console.log("[CartQuotation] POST /api/cart/estimate:", finalUrl);
+        const finalUrl = buildApiUrl("/api/cart/estimate/matrix");
+        console.log("[CartQuotation] POST /api/cart/estimate/matrix:", finalUrl);
         console.log("[CartQuotation] payload:", payload);
 
         const res = await fetch(finalUrl, {
@@ -110,16 +135,16 @@ export default function CartQuotation({
           throw new Error("견적 계산 요청 실패");
         }
 
-        const json = (await res.json()) as CartEstimateApiResponse;
+        const json = (await res.json()) as CartEstimateMatrixApiResponse;
 
         if (!json.success || !json.data) {
           throw new Error(json.error || "견적 계산 실패");
         }
 
-        setEstimate(json.data);
+        setMatrix(json.data);
       } catch (e: unknown) {
         console.error(e);
-        setEstimate(null);
+        setMatrix(null);
         setErrorMsg(getErrorMessage(e) || "견적 정보를 불러오지 못했습니다.");
       } finally {
         setIsLoading(false);
@@ -127,7 +152,7 @@ export default function CartQuotation({
     };
 
     fetchEstimate();
-  }, [extraPackaging, insurance, selectedItems]);
+  }, [selectedItems]);
 
   useEffect(() => {
     if (!estimate) return;
@@ -170,6 +170,7 @@ export default function PaymentsSuccessPage() {
           addressId,
           customsCode,
           totalAmount: totalAmountForOrder,
+          paymentKey: payData.paymentKey,
         };
 
         console.log(
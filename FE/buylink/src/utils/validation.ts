@@ -107,10 +107,10 @@ export type OrderHistoryFormErrors = {
 export const normalizeOrderId = (value: string) =>
   value.replace(/[^0-9]/g, "");
 
-  // 숫자 14자리면 유효
+  // 숫자 22자리(현재 형식) 또는 14자리(이전 주문)면 유효
 export const isValidOrderId = (orderId: string) => {
   const digits = normalizeOrderId(orderId);
-  return digits.length === 14;
+  return digits.length === 22 || digits.length === 14;
 };
 
   // 이름 + 전화번호 + 주문번호 한 번에 검증
@@ -135,11 +135,11 @@ export function validateOrderHistory(
     errors.phone = "전화번호 형식을 다시 확인해 주세요.";
   }
 
-  // 3) 주문번호 (숫자 14자리)
+  // 3) 주문번호 (숫자 22자리, 이전 주문은 14자리)
   if (!orderId) {
     errors.orderId = "주문번호를 입력해 주세요.";
   } else if (!isValidOrderId(orderId)) {
-    errors.orderId = "주문번호 14자리 숫자를 입력해 주세요.";
+    errors.orderId = "주문번호 22자리(이전 주문은 14자리) 숫자를 입력해 주세요.";
   }
 
   return errors;